@@ -0,0 +1,195 @@
+package seedu.address.commons.core.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import seedu.address.commons.core.jfr.FlightEvents.CommandSpan;
+import seedu.address.commons.core.jfr.FlightEvents.HistorySpan;
+import seedu.address.commons.core.jfr.FlightEvents.StorageSpan;
+import seedu.address.commons.core.jfr.FlightEvents.TargetSolveSpan;
+
+//@@author alexkmj
+/**
+ * Begins spans that are Flight Recorder events.
+ * <p>
+ * This class is only loaded by {@link FlightEvents} once Flight Recorder is
+ * known to be present.
+ */
+class JfrEventFactory implements FlightEventFactory {
+
+    private static final String CATEGORY = "CAPTracker";
+
+    /**
+     * Constructs a {@code JfrEventFactory}, which fails if Flight Recorder
+     * is present but cannot record on this JVM.
+     */
+    JfrEventFactory() {
+        if (!FlightRecorder.isAvailable()) {
+            throw new IllegalStateException("Flight Recorder is disabled on this JVM");
+        }
+    }
+
+    @Override
+    public CommandSpan beginCommand() {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public TargetSolveSpan beginTargetSolve() {
+        TargetSolveEvent event = new TargetSolveEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public HistorySpan beginHistory(String operation) {
+        HistoryEvent event = new HistoryEvent(operation);
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public StorageSpan beginStorage(String operation) {
+        StorageEvent event = new StorageEvent(operation);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * The execution of a command.
+     */
+    @Name("seedu.address.Command")
+    @Label("Command")
+    @Category(CATEGORY)
+    @Description("A command parsed and executed")
+    @StackTrace(false)
+    static class CommandEvent extends Event implements CommandSpan {
+        @Label("Command Word")
+        private String commandWord;
+
+        @Label("Successful")
+        private boolean isSuccessful;
+
+        @Override
+        public void finish(String commandWord, boolean isSuccessful) {
+            end();
+            if (shouldCommit()) {
+                this.commandWord = commandWord;
+                this.isSuccessful = isSuccessful;
+                commit();
+            }
+        }
+    }
+
+    /**
+     * The calculation of the target grades of the targetable modules.
+     */
+    @Name("seedu.address.TargetSolve")
+    @Label("Target Grade Solve")
+    @Category(CATEGORY)
+    @Description("The target grades recalculated for the CAP goal")
+    @StackTrace(false)
+    static class TargetSolveEvent extends Event implements TargetSolveSpan {
+        @Label("Targetable Modules")
+        private int moduleCount;
+
+        @Label("Possible")
+        private boolean isPossible;
+
+        @Override
+        public void finish(int moduleCount, boolean isPossible) {
+            end();
+            if (shouldCommit()) {
+                this.moduleCount = moduleCount;
+                this.isPossible = isPossible;
+                commit();
+            }
+        }
+    }
+
+    /**
+     * A commit, undo or redo of the transcript history.
+     */
+    @Name("seedu.address.History")
+    @Label("Transcript History")
+    @Category(CATEGORY)
+    @Description("A commit, undo or redo of the transcript")
+    @StackTrace(false)
+    static class HistoryEvent extends Event implements HistorySpan {
+        @Label("Operation")
+        private String operation;
+
+        @Label("States")
+        private int stateCount;
+
+        HistoryEvent(String operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public void finish(int stateCount) {
+            end();
+            if (shouldCommit()) {
+                this.stateCount = stateCount;
+                commit();
+            }
+        }
+    }
+
+    /**
+     * A read or write of a data file.
+     */
+    @Name("seedu.address.Storage")
+    @Label("Storage Access")
+    @Category(CATEGORY)
+    @Description("A data file read or written")
+    @StackTrace(false)
+    static class StorageEvent extends Event implements StorageSpan {
+        @Label("Operation")
+        private String operation;
+
+        @Label("Path")
+        private String path;
+
+        @Label("Size")
+        @DataAmount
+        private long bytes;
+
+        StorageEvent(String operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public void finish(Path filePath) {
+            end();
+            if (shouldCommit()) {
+                path = filePath.toString();
+                bytes = getSize(filePath);
+                commit();
+            }
+        }
+
+        /**
+         * Returns the size of the file at {@code filePath}, or -1 if there is
+         * no such file.
+         */
+        private static long getSize(Path filePath) {
+            try {
+                return Files.size(filePath);
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+    }
+}
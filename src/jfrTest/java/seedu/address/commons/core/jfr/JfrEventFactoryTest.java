@@ -0,0 +1,72 @@
+package seedu.address.commons.core.jfr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.testutil.TestUtil;
+
+public class JfrEventFactoryTest {
+
+    @Test
+    public void finish_recording_eventsRecorded() throws Exception {
+        assertTrue(FlightEvents.isAvailable());
+        Path dataFile = TestUtil.getFilePathInSandboxFolder("flightEvents.json");
+        Files.createDirectories(dataFile.getParent());
+        Files.write(dataFile, new byte[] {1, 2, 3});
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("seedu.address.Command");
+            recording.enable("seedu.address.TargetSolve");
+            recording.enable("seedu.address.History");
+            recording.enable("seedu.address.Storage");
+            recording.start();
+            FlightEvents.beginCommand().finish("goal", true);
+            FlightEvents.beginTargetSolve().finish(2, false);
+            FlightEvents.beginHistory("undo").finish(3);
+            FlightEvents.beginStorage("write").finish(dataFile);
+            recording.stop();
+
+            Path recordingFile = TestUtil.getFilePathInSandboxFolder("flightEvents.jfr");
+            recording.dump(recordingFile);
+            events = RecordingFile.readAllEvents(recordingFile).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("seedu.address."))
+                    .collect(Collectors.toList());
+        }
+
+        assertEquals(4, events.size());
+        RecordedEvent command = getEvent(events, "seedu.address.Command");
+        assertEquals("goal", command.getString("commandWord"));
+        assertTrue(command.getBoolean("isSuccessful"));
+        RecordedEvent targetSolve = getEvent(events, "seedu.address.TargetSolve");
+        assertEquals(2, targetSolve.getInt("moduleCount"));
+        assertFalse(targetSolve.getBoolean("isPossible"));
+        RecordedEvent history = getEvent(events, "seedu.address.History");
+        assertEquals("undo", history.getString("operation"));
+        assertEquals(3, history.getInt("stateCount"));
+        RecordedEvent storage = getEvent(events, "seedu.address.Storage");
+        assertEquals(dataFile.toString(), storage.getString("path"));
+        assertEquals(3, storage.getLong("bytes"));
+    }
+
+    /**
+     * Returns the only event in {@code events} of the type named {@code name}.
+     */
+    private static RecordedEvent getEvent(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.Metrics;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyTranscript;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonTranscriptStorage;
+
+//@@author alexkmj
+/**
+ * Runs a command script on a transcript over and over for a given time, and
+ * reports the command latencies and the heap in use at regular intervals, to
+ * find memory growth and slowdowns that only show over hours.
+ * <p>
+ * Each pass over the script starts a new session on the initial transcript,
+ * as a restart of the app would, so that the heap in use should stay level
+ * from one report to the next. The transcript is not saved.
+ * <p>
+ * Usage: {@code SoakRunner TRANSCRIPT_FILE SCRIPT_FILE DURATION_MINUTES [REPORT_INTERVAL_SECONDS]}
+ */
+public class SoakRunner {
+
+    private static final String MESSAGE_USAGE =
+            "Usage: SoakRunner TRANSCRIPT_FILE SCRIPT_FILE DURATION_MINUTES [REPORT_INTERVAL_SECONDS]";
+    private static final long DEFAULT_REPORT_INTERVAL_SECONDS = 60;
+
+    private final ReadOnlyTranscript initialTranscript;
+    private final List<String> script;
+
+    private long passCount = 0;
+    private long commandCount = 0;
+    private long failureCount = 0;
+
+    private SoakRunner(ReadOnlyTranscript initialTranscript, List<String> script) {
+        this.initialTranscript = initialTranscript;
+        this.script = script;
+    }
+
+    /**
+     * Runs the script as described in the class comment.
+     */
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        Path transcriptFile = Paths.get(args[0]);
+        ReadOnlyTranscript transcript = new JsonTranscriptStorage(transcriptFile).readTranscript()
+                .orElseThrow(() -> new IOException("Transcript file not found: " + transcriptFile));
+        List<String> script = Files.readAllLines(Paths.get(args[1]), StandardCharsets.UTF_8);
+        long durationNanos = TimeUnit.MINUTES.toNanos(Long.parseLong(args[2]));
+        long intervalNanos = TimeUnit.SECONDS.toNanos(
+                args.length == 4 ? Long.parseLong(args[3]) : DEFAULT_REPORT_INTERVAL_SECONDS);
+
+        new SoakRunner(transcript, script).run(durationNanos, intervalNanos);
+    }
+
+    /**
+     * Runs passes over the script until {@code durationNanos} has passed,
+     * reporting every {@code intervalNanos}.
+     */
+    private void run(long durationNanos, long intervalNanos) {
+        long start = System.nanoTime();
+        long nextReport = start + intervalNanos;
+        Metrics.reset();
+        report(0);
+        while (System.nanoTime() - start < durationNanos) {
+            Logic logic = startSession();
+            for (String commandText : script) {
+                execute(logic, commandText);
+                long now = System.nanoTime();
+                if (now - nextReport >= 0) {
+                    report(now - start);
+                    nextReport = now + intervalNanos;
+                }
+                if (now - start >= durationNanos) {
+                    break;
+                }
+            }
+            passCount++;
+        }
+        report(System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the logic of a new session on the initial transcript. The
+     * handlers of the previous session are unregistered, as they would be
+     * when the app exits.
+     */
+    private Logic startSession() {
+        EventsCenter.clearSubscribers();
+        return new LogicManager(new ModelManager(initialTranscript, new UserPrefs()));
+    }
+
+    /**
+     * Executes {@code commandText}, counting it as a failure if it throws.
+     */
+    private void execute(Logic logic, String commandText) {
+        commandCount++;
+        try {
+            logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            failureCount++;
+        }
+    }
+
+    /**
+     * Prints the counts so far, the heap in use after the last garbage
+     * collection and the metrics since the last report, and resets the
+     * metrics.
+     */
+    private void report(long elapsedNanos) {
+        System.out.println(String.format("[%d min %d s] passes %d, commands %d, failures %d, heap after GC %d KB",
+                TimeUnit.NANOSECONDS.toMinutes(elapsedNanos), TimeUnit.NANOSECONDS.toSeconds(elapsedNanos) % 60,
+                passCount, commandCount, failureCount, getHeapUsedAfterCollection() / 1024));
+        String metrics = Metrics.getReport();
+        if (!metrics.isEmpty()) {
+            System.out.println(metrics);
+        }
+        System.out.flush();
+        Metrics.reset();
+    }
+
+    /**
+     * Returns the number of bytes of heap in use right after the last garbage
+     * collection of each heap pool, which unlike the current use does not
+     * count garbage not collected yet.
+     */
+    private static long getHeapUsedAfterCollection() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = pool.getCollectionUsage();
+            if (pool.getType() == MemoryType.HEAP && usage != null) {
+                used += usage.getUsed();
+            }
+        }
+        return used;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.AddModuleCommand;
+import seedu.address.logic.commands.AdjustCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteModuleCommand;
+import seedu.address.logic.commands.EditModuleCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.GoalCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.RedoModuleCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoModuleCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.Grade;
+import seedu.address.model.module.Module;
+import seedu.address.testutil.ModuleUtil;
+import seedu.address.testutil.TypicalModules;
+
+//@@author alexkmj
+/**
+ * Measures parsing each command.
+ * <p>
+ * Parsing does not depend on the transcript, so unlike the other benchmarks
+ * this one is not run across transcript sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TranscriptParserBenchmark {
+
+    private static final Module MODULE = TypicalModules.DATA_STRUCTURES;
+
+    /** A valid input of each command, by its command word. */
+    private static final Map<String, String> COMMAND_TEXTS = Map.ofEntries(
+            Map.entry(AddModuleCommand.COMMAND_WORD, ModuleUtil.getAddModuleCommand(MODULE)),
+            Map.entry(AdjustCommand.COMMAND_WORD, ModuleUtil.getAdjustModuleCommand(
+                    MODULE.getCode(), MODULE.getYear(), MODULE.getSemester(), new Grade("A"))),
+            Map.entry(DeleteModuleCommand.COMMAND_WORD, ModuleUtil.getDeleteModuleCommand(MODULE)),
+            Map.entry(EditModuleCommand.COMMAND_WORD, ModuleUtil.getEditModuleCommand(
+                    MODULE, null, null, null, null, new Grade("B"))),
+            Map.entry(GoalCommand.COMMAND_WORD, GoalCommand.COMMAND_WORD + " 4.5"),
+            Map.entry(UndoModuleCommand.COMMAND_WORD, UndoModuleCommand.COMMAND_WORD),
+            Map.entry(RedoModuleCommand.COMMAND_WORD, RedoModuleCommand.COMMAND_WORD),
+            Map.entry(HistoryCommand.COMMAND_WORD, HistoryCommand.COMMAND_WORD),
+            Map.entry(StatsCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD),
+            Map.entry(HelpCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD),
+            Map.entry(ExitCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD));
+
+    @Param({"add", "adjust", "delete", "edit", "goal", "undo", "redo", "history", "stats", "help", "exit"})
+    public String command;
+
+    private final TranscriptParser parser = new TranscriptParser();
+    private String commandText;
+
+    @Setup
+    public void setUp() {
+        commandText = COMMAND_TEXTS.get(command);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(commandText);
+    }
+}
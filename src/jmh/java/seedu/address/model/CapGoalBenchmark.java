@@ -0,0 +1,60 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.testutil.TranscriptGenerator;
+
+//@@author alexkmj
+/**
+ * Measures setting the CAP goal of a {@code Transcript} of
+ * {@code moduleCount} modules. The transcript always has a CAP goal, since
+ * setting one is what is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CapGoalBenchmark {
+
+    /** CAP goals set in turn, so that every goal set differs from the previous one. */
+    private static final double[] CAP_GOALS = {4.0, 4.5};
+
+    @Param({"10", "100", "1000", "10000"})
+    public int moduleCount;
+
+    private Transcript transcript;
+    private int capGoalIndex;
+
+    /**
+     * Fills the transcript and sets the first CAP goal.
+     */
+    @Setup
+    public void setUp() {
+        transcript = new Transcript();
+        transcript.setModules(new TranscriptGenerator().generateModules(moduleCount));
+        transcript.setCapGoal(CAP_GOALS[capGoalIndex]);
+    }
+
+    /**
+     * Sets a different CAP goal, which solves the target grades again.
+     */
+    @Benchmark
+    public void setCapGoal() {
+        capGoalIndex = (capGoalIndex + 1) % CAP_GOALS.length;
+        transcript.setCapGoal(CAP_GOALS[capGoalIndex]);
+    }
+}
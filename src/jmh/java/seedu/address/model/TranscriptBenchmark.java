@@ -0,0 +1,66 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.module.Module;
+import seedu.address.testutil.TranscriptGenerator;
+
+//@@author alexkmj
+/**
+ * Measures changing the modules of a {@code Transcript} of
+ * {@code moduleCount} modules, with and without a CAP goal to solve target
+ * grades for. Setting the CAP goal is measured by {@link CapGoalBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TranscriptBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int moduleCount;
+
+    @Param({"false", "true"})
+    public boolean hasCapGoal;
+
+    private Transcript transcript;
+    private Module absentModule;
+
+    /**
+     * Fills the transcript, setting a CAP goal if {@code hasCapGoal}.
+     */
+    @Setup
+    public void setUp() {
+        TranscriptGenerator generator = new TranscriptGenerator();
+        transcript = new Transcript();
+        transcript.setModules(generator.generateModules(moduleCount));
+        if (hasCapGoal) {
+            transcript.setCapGoal(4.0);
+        }
+        absentModule = generator.generateModule(true);
+    }
+
+    /**
+     * Adds a module, then removes it so that the transcript keeps its size.
+     * Both recalculate the CAP, and the target grades if there is a CAP goal.
+     */
+    @Benchmark
+    public void addModuleThenRemove() {
+        transcript.addModule(absentModule);
+        transcript.removeModule(absentModule);
+    }
+}
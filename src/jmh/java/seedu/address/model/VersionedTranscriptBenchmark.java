@@ -0,0 +1,80 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.util.ModuleBuilder;
+import seedu.address.testutil.TranscriptGenerator;
+
+//@@author alexkmj
+/**
+ * Measures committing, undoing and redoing a change to a
+ * {@code VersionedTranscript} of {@code moduleCount} modules, with each kind
+ * of {@link TranscriptHistory}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VersionedTranscriptBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int moduleCount;
+
+    @Param({"snapshot", "journal"})
+    public String history;
+
+    private VersionedTranscript transcript;
+    private Module original;
+    private Module regraded;
+
+    /**
+     * Fills the transcript, then commits a regraded module and undoes it, so
+     * that there is a state to redo.
+     */
+    @Setup
+    public void setUp() {
+        TranscriptHistory transcriptHistory = history.equals("journal") ? new JournalHistory() : new SnapshotHistory();
+        transcript = new VersionedTranscript(new TranscriptGenerator().generateTranscript(moduleCount),
+                transcriptHistory);
+        original = transcript.getModules().get(0);
+        regraded = new ModuleBuilder(original).withGrade(original.getGrade().value.equals("F") ? "A" : "F").build();
+        transcript.updateModule(original, regraded);
+        transcript.commit();
+        transcript.undo();
+    }
+
+    /**
+     * Regrades a module and commits, then undoes the commit. The undone state
+     * is discarded by the next commit, so the history keeps its size.
+     */
+    @Benchmark
+    public void commitThenUndo() {
+        transcript.updateModule(original, regraded);
+        transcript.commit();
+        transcript.undo();
+    }
+
+    /**
+     * Redoes and undoes a committed change.
+     */
+    @Benchmark
+    public void redoThenUndo() {
+        transcript.redo();
+        transcript.undo();
+    }
+}
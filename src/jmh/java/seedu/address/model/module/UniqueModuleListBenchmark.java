@@ -0,0 +1,95 @@
+package seedu.address.model.module;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.testutil.TranscriptGenerator;
+
+//@@author alexkmj
+/**
+ * Measures adding and finding modules in a {@code UniqueModuleList} of
+ * {@code moduleCount} modules.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UniqueModuleListBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int moduleCount;
+
+    private UniqueModuleList modules;
+    private Module presentModule;
+    private Module absentModule;
+
+    /**
+     * Fills the list, and picks a module from the middle of it with a code no
+     * other module has, and one that is not in it.
+     */
+    @Setup
+    public void setUp() {
+        TranscriptGenerator generator = new TranscriptGenerator();
+        List<Module> generated = generator.generateModules(moduleCount);
+        modules = new UniqueModuleList();
+        modules.setModules(generated);
+        presentModule = generated.stream()
+                .skip(moduleCount / 2)
+                .filter(module -> !isRetaken(module, generated))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Every module from the middle is retaken"));
+        absentModule = generator.generateModule(true);
+    }
+
+    /**
+     * Returns true if another module in {@code modules} has the code of
+     * {@code module}, in which case it cannot be found by its code alone.
+     */
+    private static boolean isRetaken(Module module, List<Module> modules) {
+        return modules.stream().filter(other -> other.getCode().equals(module.getCode())).count() > 1;
+    }
+
+    /**
+     * Adds a module, then removes it so that the list keeps its size.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        modules.add(absentModule);
+        modules.remove(absentModule);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return modules.contains(presentModule);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return modules.contains(absentModule);
+    }
+
+    @Benchmark
+    public Module getOnlyOneModuleByCodeYearSemester() {
+        return modules.getOnlyOneModule(presentModule.getCode(), presentModule.getYear(),
+                presentModule.getSemester());
+    }
+
+    @Benchmark
+    public Module getOnlyOneModuleByCode() {
+        return modules.getOnlyOneModule(presentModule.getCode(), null, null);
+    }
+}
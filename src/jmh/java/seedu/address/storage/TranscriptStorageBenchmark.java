@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTranscript;
+import seedu.address.model.Transcript;
+import seedu.address.testutil.TranscriptGenerator;
+
+//@@author alexkmj
+/**
+ * Measures writing and reading a transcript of {@code moduleCount} modules in
+ * each file format: indented json, compact json and binary.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TranscriptStorageBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int moduleCount;
+
+    @Param({"json", "compactJson", "binary"})
+    public String format;
+
+    private Path directory;
+    private Path filePath;
+    private TranscriptStorage storage;
+    private Transcript transcript;
+
+    /**
+     * Writes the transcript to a file in a new temporary directory, so that
+     * there is a file to read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("transcript-benchmark");
+        switch (format) {
+        case "binary":
+            filePath = directory.resolve("transcript" + BinaryTranscriptStorage.FILE_EXTENSION);
+            storage = new BinaryTranscriptStorage(filePath);
+            break;
+        case "compactJson":
+            filePath = directory.resolve("transcript.json");
+            storage = new JsonTranscriptStorage(filePath, true);
+            break;
+        default:
+            filePath = directory.resolve("transcript.json");
+            storage = new JsonTranscriptStorage(filePath);
+            break;
+        }
+        transcript = new TranscriptGenerator().generateTranscript(moduleCount);
+        storage.saveTranscript(transcript);
+    }
+
+    /**
+     * Deletes the temporary directory and the file in it.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        storage.saveTranscript(transcript);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyTranscript> read() throws DataConversionException, IOException {
+        return storage.readTranscript();
+    }
+}
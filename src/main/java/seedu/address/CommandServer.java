@@ -0,0 +1,586 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyTranscript;
+import seedu.address.model.Transcript;
+import seedu.address.model.TranscriptSnapshot;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.TranscriptStorage;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.XmlAddressBookStorage;
+
+//@@author alexkmj
+/**
+ * Serves commands and queries on the transcript as JSON-RPC 2.0 requests,
+ * one per line, without the GUI.
+ * <p>
+ * Requests are pipelined: a client may send many requests without waiting,
+ * and each response is written as soon as it is ready, with the {@code id}
+ * of its request. Commands are executed one at a time in the order they are
+ * received. Queries run in parallel on a pool of workers, each after the
+ * commands received before it, on the snapshot of the transcript those
+ * commands left.
+ * <p>
+ * Methods:
+ * <ul>
+ * <li>{@value #METHOD_EXECUTE} {@code {"command": COMMAND}}: executes the
+ * command and returns its feedback</li>
+ * <li>{@value #METHOD_GET_CAP}: returns the current CAP</li>
+ * <li>{@value #METHOD_GET_CAP_GOAL}: returns the CAP goal</li>
+ * <li>{@value #METHOD_GET_MODULES} {@code {"filter": "all"|"completed"|"incomplete"}}:
+ * returns the modules</li>
+ * <li>{@value #METHOD_GET_STATISTICS}: returns the request count, error count,
+ * latency and throughput of the server</li>
+ * </ul>
+ * Usage: {@code CommandServer [--config=CONFIG_FILE] [--port=PORT] [--workers=COUNT]},
+ * which serves standard input and output if no port is given, or else every
+ * connection to the port on the loopback address.
+ */
+public class CommandServer {
+
+    public static final String METHOD_EXECUTE = "execute";
+    public static final String METHOD_GET_CAP = "getCap";
+    public static final String METHOD_GET_CAP_GOAL = "getCapGoal";
+    public static final String METHOD_GET_MODULES = "getModules";
+    public static final String METHOD_GET_STATISTICS = "getStatistics";
+
+    public static final String FILTER_ALL = "all";
+    public static final String FILTER_COMPLETED = "completed";
+    public static final String FILTER_INCOMPLETE = "incomplete";
+
+    public static final int ERROR_PARSE = -32700;
+    public static final int ERROR_INVALID_REQUEST = -32600;
+    public static final int ERROR_METHOD_NOT_FOUND = -32601;
+    public static final int ERROR_INVALID_PARAMS = -32602;
+    public static final int ERROR_INTERNAL = -32603;
+    public static final int ERROR_COMMAND_FAILED = 1;
+
+    public static final String MESSAGE_WORKER_CONSTRAINTS = "The number of workers must be positive";
+
+    /** The number of requests of a connection that may be in progress at once. */
+    public static final int MAX_PENDING_REQUESTS = 1024;
+
+    private static final String CONFIG_OPTION = "--config=";
+    private static final String PORT_OPTION = "--port=";
+    private static final String WORKERS_OPTION = "--workers=";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandServer.class);
+
+    private final Model model;
+    private final Logic logic;
+    private final ExecutorService logicExecutor;
+    private final ExecutorService workers;
+    private final Statistics statistics = new Statistics();
+
+    /**
+     * Completes with the snapshot of the transcript left by the commands
+     * received so far, once they have been executed. Guarded by {@code this}.
+     */
+    private CompletableFuture<TranscriptSnapshot> lastCommand;
+
+    /**
+     * Constructs a {@code CommandServer}.
+     *
+     * @param model the model the commands run on
+     * @param workerCount the number of threads that run queries
+     */
+    public CommandServer(Model model, int workerCount) {
+        requireNonNull(model);
+        checkArgument(workerCount > 0, MESSAGE_WORKER_CONSTRAINTS);
+        this.model = model;
+        this.logic = new LogicManager(model);
+        this.lastCommand = CompletableFuture.completedFuture(model.getTranscriptSnapshot());
+        this.logicExecutor = Executors.newSingleThreadExecutor(runnable -> newDaemonThread(runnable,
+                "command-server-logic"));
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> newDaemonThread(runnable,
+                "command-server-worker-" + threadNumber.incrementAndGet()));
+    }
+
+    /**
+     * Returns a daemon thread named {@code name} that runs {@code runnable}.
+     */
+    private static Thread newDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Serves the requests read from {@code in} until it ends, writing the
+     * responses to {@code out}. Returns once every response has been written.
+     * Connections may be served concurrently.
+     *
+     * @throws IOException if the requests could not be read
+     */
+    public void serve(InputStream in, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        Semaphore pending = new Semaphore(MAX_PENDING_REQUESTS);
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                pending.acquire();
+                long startTime = System.nanoTime();
+                handle(line).whenComplete((response, e) -> {
+                    try {
+                        statistics.record(System.nanoTime() - startTime, response.error != null);
+                        write(writer, response);
+                    } finally {
+                        pending.release();
+                    }
+                });
+            }
+            pending.acquire(MAX_PENDING_REQUESTS);
+            pending.release(MAX_PENDING_REQUESTS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the request count, error count, latency and throughput of the
+     * requests served so far.
+     */
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Stops the threads of the server, after the commands received have been
+     * executed.
+     */
+    public void close() {
+        logicExecutor.shutdown();
+        workers.shutdown();
+        try {
+            logicExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Parses {@code line} as a request and dispatches it, returning the
+     * response once the request has been handled. The returned future never
+     * completes exceptionally.
+     */
+    private CompletableFuture<Response> handle(String line) {
+        Request request;
+        try {
+            request = JsonUtil.fromJsonString(line, Request.class);
+        } catch (JsonParseException e) {
+            return CompletableFuture.completedFuture(Response.failure(null, ERROR_PARSE, e.getMessage()));
+        } catch (IOException e) {
+            // valid JSON, but not an object that maps to a request
+            return CompletableFuture.completedFuture(Response.failure(null, ERROR_INVALID_REQUEST,
+                    e.getMessage()));
+        }
+        if (request == null) {
+            return CompletableFuture.completedFuture(Response.failure(null, ERROR_INVALID_REQUEST,
+                    "Request is not an object"));
+        }
+        JsonNode id = request.id;
+        if (request.method == null) {
+            return CompletableFuture.completedFuture(Response.failure(id, ERROR_INVALID_REQUEST,
+                    "Missing method"));
+        }
+        return dispatch(request).handle((result, e) -> {
+            if (e == null) {
+                return Response.success(id, result);
+            }
+            Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+            if (cause instanceof RpcException) {
+                return Response.failure(id, ((RpcException) cause).code, cause.getMessage());
+            }
+            logger.warning("Request " + request.method + " failed: " + cause);
+            return Response.failure(id, ERROR_INTERNAL, String.valueOf(cause));
+        });
+    }
+
+    /**
+     * Runs the method of {@code request}: commands on the logic thread, after
+     * the commands received before, and queries on the workers, after the
+     * commands received before.
+     */
+    private CompletableFuture<Object> dispatch(Request request) {
+        switch (request.method) {
+        case METHOD_EXECUTE:
+            String commandText = getParam(request, "command", null);
+            if (commandText == null) {
+                return invalidParams("Missing command");
+            }
+            return executeInOrder(commandText);
+        case METHOD_GET_CAP:
+            return query(snapshot -> snapshot.getCurrentCap());
+        case METHOD_GET_CAP_GOAL:
+            return query(snapshot -> snapshot.getCapGoal());
+        case METHOD_GET_MODULES:
+            String filter = getParam(request, "filter", FILTER_ALL);
+            switch (filter) {
+            case FILTER_ALL:
+                return query(snapshot -> snapshot.getModules());
+            case FILTER_COMPLETED:
+                return query(snapshot -> snapshot.getCompletedModuleList());
+            case FILTER_INCOMPLETE:
+                return query(snapshot -> snapshot.getIncompleteModuleList());
+            default:
+                return invalidParams("Unknown filter: " + filter);
+            }
+        case METHOD_GET_STATISTICS:
+            return CompletableFuture.completedFuture(statistics.snapshot());
+        default:
+            CompletableFuture<Object> notFound = new CompletableFuture<>();
+            notFound.completeExceptionally(new RpcException(ERROR_METHOD_NOT_FOUND,
+                    "Method not found: " + request.method));
+            return notFound;
+        }
+    }
+
+    /**
+     * Executes {@code commandText} on the logic thread after the commands
+     * received before it.
+     */
+    private synchronized CompletableFuture<Object> executeInOrder(String commandText) {
+        CompletableFuture<Object> result = lastCommand.thenApplyAsync(ignored -> execute(commandText),
+                logicExecutor);
+        // taken before the next command can start, since that command waits for this snapshot
+        lastCommand = result.handle((ignored, e) -> model.getTranscriptSnapshot());
+        return result;
+    }
+
+    /**
+     * Executes {@code commandText} and returns its feedback.
+     */
+    private Object execute(String commandText) {
+        try {
+            return logic.execute(commandText).feedbackToUser;
+        } catch (CommandException | ParseException e) {
+            throw new CompletionException(new RpcException(ERROR_COMMAND_FAILED, e.getMessage()));
+        }
+    }
+
+    /**
+     * Runs {@code query} on the workers, on the snapshot of the transcript
+     * left by the commands received so far.
+     */
+    private CompletableFuture<Object> query(Query query) {
+        CompletableFuture<TranscriptSnapshot> commandsBefore;
+        synchronized (this) {
+            commandsBefore = lastCommand;
+        }
+        return commandsBefore.thenApplyAsync(query::apply, workers);
+    }
+
+    /**
+     * Returns the text parameter {@code name} of {@code request}, or
+     * {@code defaultValue} if it is missing.
+     */
+    private static String getParam(Request request, String name, String defaultValue) {
+        if (request.params == null || !request.params.hasNonNull(name)) {
+            return defaultValue;
+        }
+        return request.params.get(name).asText();
+    }
+
+    /**
+     * Returns a future failed with an invalid params error.
+     */
+    private static CompletableFuture<Object> invalidParams(String message) {
+        CompletableFuture<Object> failure = new CompletableFuture<>();
+        failure.completeExceptionally(new RpcException(ERROR_INVALID_PARAMS, message));
+        return failure;
+    }
+
+    /**
+     * Writes {@code response} to {@code writer} as one line.
+     */
+    private static void write(Writer writer, Response response) {
+        synchronized (writer) {
+            try {
+                writer.write(JsonUtil.toCompactJsonString(response));
+                writer.write('\n');
+                writer.flush();
+            } catch (IOException e) {
+                logger.warning("Failed to write response: " + e);
+            }
+        }
+    }
+
+    /**
+     * Serves the transcript of the user with the options in {@code args}.
+     */
+    public static void main(String[] args) throws IOException {
+        Path configFilePath = Config.DEFAULT_CONFIG_FILE;
+        int port = -1;
+        int workerCount = Runtime.getRuntime().availableProcessors();
+        for (String arg : args) {
+            if (arg.startsWith(CONFIG_OPTION)) {
+                configFilePath = Paths.get(arg.substring(CONFIG_OPTION.length()));
+            } else if (arg.startsWith(PORT_OPTION)) {
+                port = Integer.parseInt(arg.substring(PORT_OPTION.length()));
+            } else if (arg.startsWith(WORKERS_OPTION)) {
+                workerCount = Integer.parseInt(arg.substring(WORKERS_OPTION.length()));
+            }
+        }
+
+        UserPrefs userPrefs;
+        ReadOnlyTranscript transcript;
+        Storage storage;
+        try {
+            Config config = ConfigUtil.readConfig(configFilePath).orElseGet(Config::new);
+            LogsCenter.init(config);
+            UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+            userPrefs = userPrefsStorage.readUserPrefs().orElseGet(UserPrefs::new);
+            TranscriptStorage transcriptStorage = MainApp.initTranscriptStorage(userPrefs);
+            storage = new StorageManager(new XmlAddressBookStorage(userPrefs.getAddressBookFilePath()),
+                    userPrefsStorage, transcriptStorage, userPrefs.getTranscriptSaveDelay());
+            transcript = transcriptStorage.readTranscript().orElseGet(Transcript::new);
+        } catch (DataConversionException e) {
+            System.err.println("Failed to read the transcript: " + e.getMessage());
+            System.exit(ScriptRunner.EXIT_IO_ERROR);
+            return;
+        }
+
+        CommandServer server = new CommandServer(new ModelManager(transcript, userPrefs), workerCount);
+        if (port < 0) {
+            server.serve(System.in, System.out);
+            server.close();
+            EventsCenter.getInstance().flush();
+            storage.flush();
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            EventsCenter.getInstance().flush();
+            storage.flush();
+        }));
+        try (ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            logger.info("Serving commands on " + serverSocket.getLocalSocketAddress());
+            while (true) {
+                Socket socket = serverSocket.accept();
+                newDaemonThread(() -> serveConnection(server, socket),
+                        "command-server-connection-" + socket.getPort()).start();
+            }
+        }
+    }
+
+    /**
+     * Serves the requests of the client connected by {@code socket} until it
+     * disconnects.
+     */
+    private static void serveConnection(CommandServer server, Socket socket) {
+        try (Socket connection = socket) {
+            server.serve(connection.getInputStream(), connection.getOutputStream());
+        } catch (IOException e) {
+            logger.warning("Connection " + socket.getRemoteSocketAddress() + " failed: " + e);
+        }
+    }
+
+    /**
+     * A read-only query on a snapshot of the transcript.
+     */
+    @FunctionalInterface
+    private interface Query {
+        /**
+         * Returns the result of the query on {@code snapshot}.
+         */
+        Object apply(TranscriptSnapshot snapshot);
+    }
+
+    /**
+     * An error returned to the client with a JSON-RPC error code.
+     */
+    private static class RpcException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private final int code;
+
+        RpcException(int code, String message) {
+            super(message);
+            this.code = code;
+        }
+    }
+
+    /**
+     * A JSON-RPC request.
+     */
+    private static class Request {
+        private JsonNode id;
+        private String method;
+        private JsonNode params;
+    }
+
+    /**
+     * A JSON-RPC response, with either a result or an error.
+     */
+    private static class Response {
+        private final String jsonrpc = "2.0";
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final Object result;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final RpcError error;
+        private final JsonNode id;
+
+        private Response(JsonNode id, Object result, RpcError error) {
+            this.id = id;
+            this.result = result;
+            this.error = error;
+        }
+
+        static Response success(JsonNode id, Object result) {
+            return new Response(id, result, null);
+        }
+
+        static Response failure(JsonNode id, int code, String message) {
+            return new Response(id, null, new RpcError(code, message));
+        }
+    }
+
+    /**
+     * The error of a JSON-RPC response.
+     */
+    private static class RpcError {
+        private final int code;
+        private final String message;
+
+        RpcError(int code, String message) {
+            this.code = code;
+            this.message = message;
+        }
+    }
+
+    /**
+     * The number and latency of the requests served, which may be updated
+     * concurrently.
+     */
+    public static class Statistics {
+        private final long startTime = System.nanoTime();
+        private final LongAdder requestCount = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private final LongAdder totalLatency = new LongAdder();
+        private final AtomicLong maxLatency = new AtomicLong();
+
+        /**
+         * Records a request that took {@code latency} nanoseconds.
+         */
+        void record(long latency, boolean isError) {
+            requestCount.increment();
+            if (isError) {
+                errorCount.increment();
+            }
+            totalLatency.add(latency);
+            maxLatency.accumulateAndGet(latency, Math::max);
+        }
+
+        public long getRequestCount() {
+            return requestCount.sum();
+        }
+
+        public long getErrorCount() {
+            return errorCount.sum();
+        }
+
+        /**
+         * Returns the mean latency of the requests in microseconds.
+         */
+        public double getMeanLatencyMicros() {
+            long count = requestCount.sum();
+            return count == 0 ? 0 : totalLatency.sum() / 1000.0 / count;
+        }
+
+        /**
+         * Returns the highest latency of the requests in microseconds.
+         */
+        public double getMaxLatencyMicros() {
+            return maxLatency.get() / 1000.0;
+        }
+
+        /**
+         * Returns the number of requests served per second since the server
+         * started.
+         */
+        public double getThroughput() {
+            double seconds = (System.nanoTime() - startTime) / 1e9;
+            return seconds == 0 ? 0 : requestCount.sum() / seconds;
+        }
+
+        /**
+         * Returns the current values, in a form written by {@link JsonUtil}.
+         */
+        Object snapshot() {
+            return new StatisticsSnapshot(getRequestCount(), getErrorCount(), getMeanLatencyMicros(),
+                    getMaxLatencyMicros(), getThroughput());
+        }
+    }
+
+    /**
+     * The values of {@link Statistics} at one time.
+     */
+    private static class StatisticsSnapshot {
+        private final long requestCount;
+        private final long errorCount;
+        private final double meanLatencyMicros;
+        private final double maxLatencyMicros;
+        private final double throughput;
+
+        StatisticsSnapshot(long requestCount, long errorCount, double meanLatencyMicros,
+                double maxLatencyMicros, double throughput) {
+            this.requestCount = requestCount;
+            this.errorCount = errorCount;
+            this.meanLatencyMicros = meanLatencyMicros;
+            this.maxLatencyMicros = maxLatencyMicros;
+            this.throughput = throughput;
+        }
+    }
+}
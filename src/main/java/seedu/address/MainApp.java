@@ -13,11 +13,13 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Metrics;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandHistory;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.Model;
@@ -28,10 +30,13 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryTranscriptStorage;
+import seedu.address.storage.JournalTranscriptStorage;
 import seedu.address.storage.JsonTranscriptStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TextCommandHistoryStorage;
 import seedu.address.storage.TranscriptStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.storage.XmlAddressBookStorage;
@@ -66,14 +71,18 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
         AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        TranscriptStorage transcriptStorage = new JsonTranscriptStorage(userPrefs.getTranscriptFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, transcriptStorage);
+        TranscriptStorage transcriptStorage = initTranscriptStorage(userPrefs);
+        int commandHistoryLimit = Math.max(1, userPrefs.getCommandHistoryLimit());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, transcriptStorage,
+                userPrefs.getTranscriptSaveDelay(),
+                new TextCommandHistoryStorage(userPrefs.getCommandHistoryFilePath(), commandHistoryLimit));
 
         initLogging(config);
+        initMetrics(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, initCommandHistory(storage, commandHistoryLimit));
 
         ui = new UiManager(logic, config, userPrefs);
 
@@ -106,10 +115,56 @@ public class MainApp extends Application {
         return new ModelManager(initialTranscriptData, userPrefs);
     }
 
+    //@@author alexkmj
+    /**
+     * Returns a {@code CommandHistory} of at most {@code limit} commands, with
+     * the commands saved in {@code storage}. An empty history is used instead
+     * if errors occur when reading them.
+     */
+    private CommandHistory initCommandHistory(Storage storage, int limit) {
+        CommandHistory history = new CommandHistory(limit);
+        try {
+            storage.readCommandHistory().ifPresent(commands -> commands.forEach(history::add));
+        } catch (IOException e) {
+            logger.warning("Problem while reading the command history. Will be starting with an empty history");
+        }
+        return history;
+    }
+
+    /**
+     * Returns the {@code TranscriptStorage} for the transcript file in {@code userPrefs}.
+     * A file ending in {@value BinaryTranscriptStorage#FILE_EXTENSION} is stored in the binary format,
+     * and any other file as json, appended to a journal if it is enabled in {@code userPrefs}.
+     */
+    static TranscriptStorage initTranscriptStorage(UserPrefs userPrefs) {
+        Path transcriptFilePath = userPrefs.getTranscriptFilePath();
+        if (BinaryTranscriptStorage.isBinaryFile(transcriptFilePath)) {
+            return new BinaryTranscriptStorage(transcriptFilePath);
+        }
+        if (userPrefs.isTranscriptJournalEnabled()) {
+            return new JournalTranscriptStorage(transcriptFilePath, userPrefs.isCompactJsonOutput());
+        }
+        return new JsonTranscriptStorage(transcriptFilePath, userPrefs.isCompactJsonOutput());
+    }
+    //@@author
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
+    //@@author alexkmj
+    /**
+     * Exposes the metrics through JMX, and writes them to the metrics file
+     * periodically if it is enabled in {@code config}.
+     */
+    private void initMetrics(Config config) {
+        Metrics.registerMBean();
+        if (config.getMetricsDumpInterval() > 0) {
+            Metrics.startPeriodicDump(config.getMetricsFilePath(), config.getMetricsDumpInterval());
+        }
+    }
+    //@@author
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -191,18 +246,26 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        EventsCenter.getInstance().flush();
+        storage.flush();
         ui.stop();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        LogsCenter.flush();
         Platform.exit();
         System.exit(0);
     }
 
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
+        if (!Platform.isFxApplicationThread()) {
+            // the exit command is executed on the logic thread
+            Platform.runLater(() -> handleExitAppRequestEvent(event));
+            return;
+        }
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         stop();
     }
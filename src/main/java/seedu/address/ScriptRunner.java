@@ -0,0 +1,179 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyTranscript;
+import seedu.address.model.Transcript;
+import seedu.address.model.TranscriptSnapshot;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.TranscriptStorage;
+
+//@@author alexkmj
+/**
+ * Runs a script of commands on the transcript without the GUI.
+ * <p>
+ * The script holds one command per line, and blank lines and lines starting
+ * with {@value #COMMENT_PREFIX} are skipped. The whole script runs as one
+ * transaction: the transcript is committed for undo once and saved once, after
+ * the last command. If any command fails, the transcript is left unchanged.
+ * <p>
+ * Usage: {@code ScriptRunner [--config=CONFIG_FILE] [SCRIPT_FILE]}, where the
+ * script is read from standard input if no file is given.
+ */
+public class ScriptRunner {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_IO_ERROR = 2;
+
+    public static final String COMMENT_PREFIX = "#";
+
+    private static final String CONFIG_OPTION = "--config=";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final ModelManager model;
+    private final Logic logic;
+    private final TranscriptStorage storage;
+    private final PrintStream out;
+
+    /**
+     * Constructs a {@code ScriptRunner}.
+     *
+     * @param model the model the commands run on
+     * @param storage the storage the transcript is saved to
+     * @param out the stream the results of the commands are printed to
+     */
+    public ScriptRunner(ModelManager model, TranscriptStorage storage, PrintStream out) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        requireNonNull(out);
+        this.model = model;
+        this.logic = new LogicManager(model);
+        this.storage = storage;
+        this.out = out;
+    }
+
+    /**
+     * Runs every command in {@code script}, and saves the transcript if it
+     * changed and every command succeeded.
+     *
+     * @param script the script, with one command per line
+     * @return the exit status: {@link #EXIT_SUCCESS}, {@link #EXIT_COMMAND_FAILED}
+     *         or {@link #EXIT_IO_ERROR}
+     */
+    public int run(BufferedReader script) {
+        TranscriptSnapshot start = model.getTranscriptSnapshot();
+        model.beginTransaction();
+        int lineNumber = 0;
+        try {
+            String line;
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                CommandResult result = logic.execute(commandText);
+                out.println(result.feedbackToUser);
+            }
+        } catch (CommandException | ParseException e) {
+            model.rollbackTransaction();
+            out.println("Line " + lineNumber + ": " + e.getMessage());
+            out.println("Script failed, no changes saved");
+            return EXIT_COMMAND_FAILED;
+        } catch (IOException e) {
+            model.rollbackTransaction();
+            out.println("Failed to read script, no changes saved: " + e.getMessage());
+            return EXIT_IO_ERROR;
+        } catch (RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
+        }
+        model.endTransaction();
+
+        TranscriptSnapshot end = model.getTranscriptSnapshot();
+        if (end == start) {
+            return EXIT_SUCCESS;
+        }
+        try {
+            storage.saveTranscript(end);
+        } catch (IOException e) {
+            out.println("Failed to save transcript: " + e.getMessage());
+            return EXIT_IO_ERROR;
+        }
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Runs the script given in {@code args} on the transcript of the user and
+     * exits with the status of the script.
+     */
+    public static void main(String[] args) {
+        Path configFilePath = Config.DEFAULT_CONFIG_FILE;
+        Path scriptFilePath = null;
+        for (String arg : args) {
+            if (arg.startsWith(CONFIG_OPTION)) {
+                configFilePath = Paths.get(arg.substring(CONFIG_OPTION.length()));
+            } else {
+                scriptFilePath = Paths.get(arg);
+            }
+        }
+        System.exit(runWithConfig(configFilePath, scriptFilePath));
+    }
+
+    /**
+     * Runs the script at {@code scriptFilePath}, or on standard input if it is
+     * null, on the transcript named by the config at {@code configFilePath}.
+     */
+    private static int runWithConfig(Path configFilePath, Path scriptFilePath) {
+        UserPrefs userPrefs;
+        ReadOnlyTranscript transcript;
+        TranscriptStorage storage;
+        try {
+            Config config = ConfigUtil.readConfig(configFilePath).orElseGet(Config::new);
+            LogsCenter.init(config);
+            userPrefs = new JsonUserPrefsStorage(config.getUserPrefsFilePath()).readUserPrefs()
+                    .orElseGet(UserPrefs::new);
+            storage = MainApp.initTranscriptStorage(userPrefs);
+            Optional<ReadOnlyTranscript> stored = storage.readTranscript();
+            transcript = stored.orElseGet(Transcript::new);
+        } catch (DataConversionException | IOException e) {
+            logger.severe("Failed to read the transcript: " + e);
+            System.err.println("Failed to read the transcript: " + e.getMessage());
+            return EXIT_IO_ERROR;
+        }
+
+        ScriptRunner runner = new ScriptRunner(new ModelManager(transcript, userPrefs), storage, System.out);
+        try (BufferedReader script = scriptFilePath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(scriptFilePath, StandardCharsets.UTF_8)) {
+            return runner.run(script);
+        } catch (IOException e) {
+            System.err.println("Failed to open script: " + e.getMessage());
+            return EXIT_IO_ERROR;
+        }
+    }
+}
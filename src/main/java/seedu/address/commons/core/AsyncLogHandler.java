@@ -0,0 +1,217 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+//@@author alexkmj
+/**
+ * A {@link Handler} that publishes log records to other handlers on a
+ * background thread, so that logging does not wait for the console or the log
+ * file.
+ * <p>
+ * Records are queued in a ring buffer of fixed capacity. When the buffer is
+ * full, the {@link OverflowPolicy} decides whether a record is dropped or the
+ * logging thread waits for space. Records of level {@code WARNING} and above
+ * are never dropped. The number of records dropped is logged once there is
+ * space again.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a record logged while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Drops records below {@code WARNING}, and waits for space for the others. */
+        DROP,
+        /** Waits for space for every record. */
+        BLOCK
+    }
+
+    private static final String THREAD_NAME = "log-writer";
+
+    private final List<Handler> targets;
+    private final LogRecord[] buffer;
+    private final Thread writer;
+
+    private volatile OverflowPolicy overflowPolicy;
+
+    /** The index in {@link #buffer} of the oldest record queued. */
+    private int head = 0;
+    private int size = 0;
+    private long droppedCount = 0;
+    private boolean isWriting = false;
+    private boolean isClosed = false;
+
+    /**
+     * Constructs an {@code AsyncLogHandler} that publishes to {@code targets}
+     * and queues at most {@code capacity} records.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity, OverflowPolicy overflowPolicy) {
+        requireNonNull(targets);
+        requireNonNull(overflowPolicy);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.targets = Collections.unmodifiableList(new ArrayList<>(targets));
+        this.buffer = new LogRecord[capacity];
+        this.overflowPolicy = overflowPolicy;
+        writer = new Thread(this::writeRecords, THREAD_NAME);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = requireNonNull(overflowPolicy);
+    }
+
+    /**
+     * Queues {@code record} to be published by the background thread.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        if (Thread.currentThread() == writer) {
+            // a target handler that logs would otherwise wait for itself to make space
+            publishToTargets(record);
+            return;
+        }
+        // the source is found from the stack of the logging thread, so it must be found before queuing
+        record.getSourceClassName();
+        synchronized (this) {
+            while (size == buffer.length && !isClosed) {
+                if (overflowPolicy == OverflowPolicy.DROP && record.getLevel().intValue() < Level.WARNING.intValue()) {
+                    droppedCount++;
+                    return;
+                }
+                if (!awaitChange()) {
+                    return;
+                }
+            }
+            if (isClosed) {
+                return;
+            }
+            buffer[(head + size) % buffer.length] = record;
+            size++;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Waits until every record queued so far has been published, then
+     * flushes the target handlers.
+     */
+    @Override
+    public void flush() {
+        synchronized (this) {
+            while ((size > 0 || isWriting) && writer.isAlive()) {
+                if (!awaitChange()) {
+                    return;
+                }
+            }
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Publishes the records queued so far, then stops the background thread
+     * and closes the target handlers.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Waits for another thread to change the buffer. Returns false if this
+     * thread was interrupted, with its interrupt status set again.
+     */
+    private boolean awaitChange() {
+        assert Thread.holdsLock(this);
+        try {
+            wait();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Publishes the queued records to the target handlers, one at a time and
+     * in the order they were queued, until this handler is closed.
+     */
+    private void writeRecords() {
+        while (true) {
+            LogRecord record;
+            long dropped;
+            synchronized (this) {
+                isWriting = false;
+                notifyAll();
+                while (size == 0 && !isClosed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // only stopped by closing
+                    }
+                }
+                if (size == 0) {
+                    return;
+                }
+                record = buffer[head];
+                buffer[head] = null;
+                head = (head + 1) % buffer.length;
+                size--;
+                dropped = droppedCount;
+                droppedCount = 0;
+                isWriting = true;
+                notifyAll();
+            }
+            if (dropped > 0) {
+                LogRecord droppedRecord = new LogRecord(Level.WARNING,
+                        dropped + " log records dropped while the buffer was full");
+                droppedRecord.setSourceClassName(AsyncLogHandler.class.getName());
+                droppedRecord.setSourceMethodName("publish");
+                publishToTargets(droppedRecord);
+            }
+            publishToTargets(record);
+        }
+    }
+
+    /**
+     * Publishes {@code record} to every target handler.
+     */
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Failed to publish log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.commons.core;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Level;
 
@@ -16,6 +18,12 @@ public class Config {
     private String appTitle = "Address App";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    //@@author alexkmj
+    private Map<String, Level> loggerLevels = new HashMap<>();
+    private AsyncLogHandler.OverflowPolicy logOverflowPolicy = AsyncLogHandler.OverflowPolicy.DROP;
+    private Path metricsFilePath = Paths.get("metrics.txt");
+    private long metricsDumpInterval = 0;
+    //@@author
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +49,50 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    //@@author alexkmj
+    /**
+     * Returns the levels of the loggers whose level differs from {@link #getLogLevel()}, by logger name.
+     */
+    public Map<String, Level> getLoggerLevels() {
+        return loggerLevels;
+    }
+
+    public void setLoggerLevels(Map<String, Level> loggerLevels) {
+        this.loggerLevels = loggerLevels;
+    }
+
+    /**
+     * Returns what is done with messages logged while the log buffer is full.
+     */
+    public AsyncLogHandler.OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(AsyncLogHandler.OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    /**
+     * Returns the time in seconds between the writes of the metrics to the
+     * metrics file, or 0 if they are not written.
+     */
+    public long getMetricsDumpInterval() {
+        return metricsDumpInterval;
+    }
+
+    public void setMetricsDumpInterval(long metricsDumpInterval) {
+        this.metricsDumpInterval = metricsDumpInterval;
+    }
+    //@@author
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +106,17 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(loggerLevels, o.loggerLevels)
+                && logOverflowPolicy == o.logOverflowPolicy
+                && Objects.equals(metricsFilePath, o.metricsFilePath)
+                && metricsDumpInterval == o.metricsDumpInterval;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, loggerLevels, logOverflowPolicy,
+                metricsFilePath, metricsDumpInterval);
     }
 
     @Override
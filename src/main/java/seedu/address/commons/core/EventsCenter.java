@@ -1,21 +1,79 @@
 package seedu.address.commons.core;
 
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 
+import seedu.address.commons.events.AsyncEvent;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ * <p>
+ * Handlers are registered either as objects with {@link Subscribe} methods,
+ * which are found once when the object is registered, or as typed callbacks
+ * with {@link #subscribe(Class, Consumer)}. A handler receives the events of
+ * its event type and of all subtypes.
+ * <p>
+ * Events are delivered to their handlers on the posting thread before
+ * {@link #post(BaseEvent)} returns, except for {@link AsyncEvent}s, which
+ * are delivered on a lane of their own event type.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
+    //@@author alexkmj
+    private static final LatencyHistogram dispatchLatency = Metrics.histogram("events.dispatch");
+    //@@author
+
+    //@@author alexkmj
+    /** Runs the lanes of asynchronous events. */
+    private static final ExecutorService laneExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "event-lane");
+        thread.setDaemon(true);
+        return thread;
+    });
+    //@@author
+
     private static EventsCenter instance;
-    private final EventBus eventBus;
+
+    //@@author alexkmj
+    /** The handlers of each event type, as registered. */
+    private final Map<Class<?>, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    /** The handlers of each event class, including those of its supertypes. */
+    private final Map<Class<?>, List<Subscriber>> dispatchCache = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Lane> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * The events posted on this thread while it is delivering another event,
+     * which are delivered once that event has been delivered to all handlers.
+     */
+    private final ThreadLocal<Queue<BaseEvent>> queuedEvents = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> isDispatching = ThreadLocal.withInitial(() -> false);
+    //@@author
 
     private EventsCenter() {
-        eventBus = new EventBus();
     }
 
     public static EventsCenter getInstance() {
@@ -29,17 +87,270 @@ public class EventsCenter {
         instance = null;
     }
 
+    //@@author alexkmj
+    /**
+     * Registers every method of {@code handler} annotated with
+     * {@link Subscribe}, which must take one event as its parameter. Handlers
+     * already registered are not registered again.
+     */
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        requireNonNull(handler);
+        for (Class<?> type = handler.getClass(); type != null; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Subscribe.class) || method.isBridge()) {
+                    continue;
+                }
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                if (parameterTypes.length != 1 || !BaseEvent.class.isAssignableFrom(parameterTypes[0])) {
+                    throw new IllegalArgumentException("Method " + method
+                            + " has @Subscribe annotation but does not take one event");
+                }
+                addSubscriber(parameterTypes[0], new Subscriber(handler, method, toConsumer(handler, method)));
+            }
+        }
+    }
+
+    /**
+     * Registers {@code handler} for the events of {@code eventType} and its
+     * subtypes.
+     */
+    public <E extends BaseEvent> void subscribe(Class<E> eventType, Consumer<? super E> handler) {
+        requireNonNull(eventType);
+        requireNonNull(handler);
+        addSubscriber(eventType, new Subscriber(handler, null, event -> handler.accept(eventType.cast(event))));
+    }
+
+    /**
+     * Adds {@code subscriber} to the handlers of {@code eventType}.
+     */
+    private void addSubscriber(Class<?> eventType, Subscriber subscriber) {
+        synchronized (subscribers) {
+            subscribers.computeIfAbsent(eventType, type -> new CopyOnWriteArraySet<>()).add(subscriber);
+            dispatchCache.clear();
+        }
+    }
+
+    /**
+     * Returns a callback that invokes {@code method} of {@code handler}.
+     */
+    private static Consumer<BaseEvent> toConsumer(Object handler, Method method) {
+        MethodHandle methodHandle;
+        try {
+            method.setAccessible(true);
+            methodHandle = MethodHandles.lookup().unreflect(method).bindTo(handler);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("Cannot access handler method " + method, e);
+        }
+        return event -> {
+            try {
+                methodHandle.invoke(event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
     }
 
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        requireNonNull(event);
+        // formatted only when logged, since formatting an event can be costly
+        logger.fine(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event);
+        if (event instanceof AsyncEvent) {
+            lanes.computeIfAbsent(event.getClass(), type -> new Lane()).offer(event);
+        } else {
+            dispatch(event);
+        }
         return this;
     }
 
+    /**
+     * Waits until every asynchronous event posted so far, and every event
+     * posted while delivering them, has been delivered. Must not be called
+     * by a handler of an asynchronous event.
+     */
+    public void flush() {
+        boolean wasIdle;
+        do {
+            wasIdle = true;
+            for (Lane lane : lanes.values()) {
+                wasIdle &= lane.awaitIdle();
+            }
+        } while (!wasIdle);
+    }
+
+    /**
+     * Delivers {@code event} to its handlers on this thread. If this thread
+     * is already delivering an event, {@code event} is delivered after it.
+     */
+    private void dispatch(BaseEvent event) {
+        Queue<BaseEvent> queue = queuedEvents.get();
+        queue.offer(event);
+        if (isDispatching.get()) {
+            return;
+        }
+        isDispatching.set(true);
+        try {
+            BaseEvent next;
+            while ((next = queue.poll()) != null) {
+                long start = System.nanoTime();
+                for (Subscriber subscriber : getSubscribers(next.getClass())) {
+                    subscriber.deliver(next);
+                }
+                dispatchLatency.recordSince(start);
+            }
+        } finally {
+            isDispatching.remove();
+            queuedEvents.remove();
+        }
+    }
+
+    /**
+     * Returns the handlers of {@code eventClass} and of all its supertypes.
+     */
+    private List<Subscriber> getSubscribers(Class<?> eventClass) {
+        List<Subscriber> cached = dispatchCache.get(eventClass);
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (subscribers) {
+            Set<Class<?>> supertypes = new LinkedHashSet<>();
+            addSupertypes(eventClass, supertypes);
+            List<Subscriber> result = new ArrayList<>();
+            for (Class<?> supertype : supertypes) {
+                result.addAll(subscribers.getOrDefault(supertype, Collections.emptySet()));
+            }
+            dispatchCache.put(eventClass, result);
+            return result;
+        }
+    }
+
+    /**
+     * Adds {@code type} and all its superclasses and interfaces to {@code supertypes}.
+     */
+    private static void addSupertypes(Class<?> type, Set<Class<?>> supertypes) {
+        if (type == null || !supertypes.add(type)) {
+            return;
+        }
+        addSupertypes(type.getSuperclass(), supertypes);
+        for (Class<?> implemented : type.getInterfaces()) {
+            addSupertypes(implemented, supertypes);
+        }
+    }
+
+    /**
+     * A registered handler of one event type.
+     */
+    private static class Subscriber {
+        private final Object target;
+        private final Method method;
+        private final Consumer<BaseEvent> handler;
+
+        /**
+         * Constructs a {@code Subscriber}.
+         *
+         * @param target the object that handles the events
+         * @param method the method of {@code target} that handles the events,
+         *         or null if {@code target} is a callback
+         * @param handler delivers an event to {@code target}
+         */
+        Subscriber(Object target, Method method, Consumer<BaseEvent> handler) {
+            this.target = target;
+            this.method = method;
+            this.handler = handler;
+        }
+
+        /**
+         * Delivers {@code event} to the handler, one event at a time. Any
+         * exception thrown by the handler is logged.
+         */
+        synchronized void deliver(BaseEvent event) {
+            try {
+                handler.accept(event);
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, e, () -> "Handler " + (method == null ? target : method)
+                        + " failed on " + event.getClass().getSimpleName());
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Subscriber // instanceof handles nulls
+                    && target == ((Subscriber) other).target
+                    && (method == null ? ((Subscriber) other).method == null
+                            : method.equals(((Subscriber) other).method)));
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(target) * 31 + (method == null ? 0 : method.hashCode());
+        }
+    }
+
+    /**
+     * The pending events of one asynchronous event type, which are delivered
+     * one at a time on {@link #laneExecutor}.
+     */
+    private class Lane implements Runnable {
+        private final Deque<BaseEvent> pending = new ArrayDeque<>();
+        private boolean isScheduled = false;
+
+        /**
+         * Queues {@code event} for delivery, dropping the event queued just
+         * before it if {@code event} supersedes it.
+         */
+        synchronized void offer(BaseEvent event) {
+            BaseEvent last = pending.peekLast();
+            if (last != null && ((AsyncEvent) event).supersedes(last)) {
+                pending.pollLast();
+                logger.finer(() -> "------[Event Coalesced] " + event.getClass().getCanonicalName());
+            }
+            pending.addLast(event);
+            if (!isScheduled) {
+                isScheduled = true;
+                laneExecutor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                BaseEvent event;
+                synchronized (this) {
+                    event = pending.pollFirst();
+                    if (event == null) {
+                        isScheduled = false;
+                        notifyAll();
+                        return;
+                    }
+                }
+                dispatch(event);
+            }
+        }
+
+        /**
+         * Waits until every queued event has been delivered, and returns true
+         * if there was none.
+         */
+        synchronized boolean awaitIdle() {
+            boolean wasIdle = !isScheduled;
+            boolean isInterrupted = false;
+            while (isScheduled) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return wasIdle;
+        }
+    }
+    //@@author
 }
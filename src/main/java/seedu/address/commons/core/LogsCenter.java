@@ -1,9 +1,16 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -16,24 +23,36 @@ import seedu.address.commons.events.BaseEvent;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written to the console and the file on a background thread, through an
+ *   {@link AsyncLogHandler}. The level of each logger can be set in the {@link Config}, so that messages below
+ *   it cost nothing beyond the level check, particularly when logged with a {@code Supplier}.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
+    //@@author alexkmj
+    private static final int LOG_BUFFER_CAPACITY = 1024;
+    /** The loggers created by this class, by name, which are kept so that their levels are not lost. */
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+    private static Map<String, Level> loggerLevels = Map.of();
+    private static AsyncLogHandler asyncHandler;
+    //@@author
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
-     * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * Initializes with a custom log level (specified in the {@code config} object), and the levels of
+     * individual loggers and the overflow policy of the log buffer.
+     * The levels of loggers already obtained are updated as well.
      */
-    public static void init(Config config) {
+    public static synchronized void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        //@@author alexkmj
+        loggerLevels = Collections.unmodifiableMap(new HashMap<>(config.getLoggerLevels()));
+        loggers.forEach((name, existing) -> existing.setLevel(getLevel(name)));
+        getAsyncHandler().setOverflowPolicy(config.getLogOverflowPolicy());
+        //@@author
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
@@ -41,14 +60,15 @@ public class LogsCenter {
      * Creates a logger with the given name.
      */
     public static Logger getLogger(String name) {
-        Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        //@@author alexkmj
+        Logger existing = loggers.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (LogsCenter.class) {
+            return loggers.computeIfAbsent(name, LogsCenter::createLogger);
+        }
+        //@@author
     }
 
     /**
@@ -61,38 +81,58 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
+    //@@author alexkmj
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Waits until every message logged so far has been written.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
+    public static void flush() {
+        getAsyncHandler().flush();
     }
 
     /**
-     * Remove all the handlers from {@code logger}.
+     * Returns a logger with the given name that logs to the {@link #asyncHandler} only, at its configured level.
      */
-    private static void removeHandlers(Logger logger) {
-        Arrays.stream(logger.getHandlers())
-                .forEach(logger::removeHandler);
+    private static Logger createLogger(String name) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+        removeHandlers(logger);
+        logger.addHandler(getAsyncHandler());
+        logger.setLevel(getLevel(name));
+        return logger;
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the level of the logger with the given name.
      */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
+    private static Level getLevel(String name) {
+        return loggerLevels.getOrDefault(name, currentLogLevel);
+    }
+
+    /**
+     * Returns the {@code AsyncLogHandler} shared by all loggers. <br>
+     * Creates it, with the console and file handlers it writes to, if it is null.
+     */
+    private static synchronized AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler == null) {
+            List<Handler> targets = new ArrayList<>();
+            targets.add(createConsoleHandler());
+            try {
+                targets.add(createFileHandler());
+            } catch (IOException e) {
+                System.err.println("Error creating file handler for logs: " + e);
             }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            asyncHandler = new AsyncLogHandler(targets, LOG_BUFFER_CAPACITY, AsyncLogHandler.OverflowPolicy.DROP);
         }
+        return asyncHandler;
+    }
+    //@@author
+
+    /**
+     * Remove all the handlers from {@code logger}.
+     */
+    private static void removeHandlers(Logger logger) {
+        Arrays.stream(logger.getHandlers())
+                .forEach(logger::removeHandler);
     }
 
     /**
@@ -102,13 +142,14 @@ public class LogsCenter {
     private static FileHandler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
+        // the level of each logger decides what is logged
+        fileHandler.setLevel(Level.ALL);
         return fileHandler;
     }
 
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
+        consoleHandler.setLevel(Level.ALL);
         return consoleHandler;
     }
 
@@ -0,0 +1,185 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import seedu.address.commons.util.FileUtil;
+
+//@@author alexkmj
+/**
+ * Keeps the counters and latency histograms of the app, by name.
+ * <p>
+ * Metrics are created on first use and live for the rest of the run, so
+ * callers may keep the metric returned rather than looking it up every time.
+ * The metrics can be read as a report, through the {@link MetricsMxBean}
+ * registered by {@link #registerMBean()}, or from a file written periodically
+ * by {@link #startPeriodicDump(Path, long)}.
+ */
+public class Metrics {
+
+    public static final String MBEAN_NAME = "seedu.address:type=Metrics";
+
+    private static final Logger logger = LogsCenter.getLogger(Metrics.class);
+
+    private static final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    private static ScheduledExecutorService dumpExecutor;
+
+    private Metrics() {
+    }
+
+    /**
+     * Returns the counter with the given name, creating it if there is none.
+     */
+    public static LongAdder counter(String name) {
+        requireNonNull(name);
+        return counters.computeIfAbsent(name, unused -> new LongAdder());
+    }
+
+    /**
+     * Returns the latency histogram with the given name, creating it if there
+     * is none.
+     */
+    public static LatencyHistogram histogram(String name) {
+        requireNonNull(name);
+        return histograms.computeIfAbsent(name, unused -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns the counts of every counter, and of every histogram, by name.
+     */
+    public static Map<String, Long> getCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        counters.forEach((name, counter) -> counts.put(name, counter.sum()));
+        histograms.forEach((name, histogram) -> counts.put(name, histogram.getCount()));
+        return counts;
+    }
+
+    /**
+     * Returns a report of every metric with a non-zero count, one per line,
+     * sorted by name. Times are given in milliseconds.
+     */
+    public static String getReport() {
+        StringBuilder report = new StringBuilder();
+        new TreeMap<>(counters).forEach((name, counter) -> {
+            long count = counter.sum();
+            if (count > 0) {
+                report.append(String.format("%s: %d\n", name, count));
+            }
+        });
+        new TreeMap<>(histograms).forEach((name, histogram) -> {
+            long count = histogram.getCount();
+            if (count > 0) {
+                report.append(String.format("%s: %d, mean %s, p50 %s, p99 %s, max %s ms\n", name, count,
+                        toMillis(histogram.getMeanNanos()), toMillis(histogram.getPercentileNanos(50)),
+                        toMillis(histogram.getPercentileNanos(99)), toMillis(histogram.getMaxNanos())));
+            }
+        });
+        return report.toString().trim();
+    }
+
+    /**
+     * Discards the values of every metric.
+     */
+    public static void reset() {
+        counters.values().forEach(LongAdder::reset);
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+
+    /**
+     * Registers a {@link MetricsMxBean} with the platform MBean server under
+     * {@value #MBEAN_NAME}, unless it is already registered.
+     */
+    public static synchronized void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(MBEAN_NAME);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(new MetricsBean(), objectName);
+            }
+        } catch (JMException | SecurityException e) {
+            logger.warning("Could not register metrics MBean: " + e);
+        }
+    }
+
+    /**
+     * Writes the report to {@code filePath} every {@code intervalSeconds}
+     * seconds on a background thread, replacing the previous report, until
+     * the app exits. Only one periodic dump runs at a time.
+     */
+    public static synchronized void startPeriodicDump(Path filePath, long intervalSeconds) {
+        requireNonNull(filePath);
+        if (intervalSeconds <= 0) {
+            throw new IllegalArgumentException("Interval must be positive: " + intervalSeconds);
+        }
+        if (dumpExecutor != null) {
+            dumpExecutor.shutdownNow();
+        }
+        dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpExecutor.scheduleAtFixedRate(() -> dump(filePath), intervalSeconds, intervalSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Writes the report to {@code filePath}, replacing any previous report.
+     */
+    static void dump(Path filePath) {
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            Files.write(filePath, ("Metrics at " + LocalDateTime.now() + "\n" + getReport() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warning("Could not write metrics to " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Returns {@code nanos} in milliseconds, to the microsecond.
+     */
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Exposes the metrics through JMX.
+     */
+    private static class MetricsBean implements MetricsMxBean {
+        @Override
+        public String getReport() {
+            return Metrics.getReport();
+        }
+
+        @Override
+        public Map<String, Long> getCounts() {
+            return Metrics.getCounts();
+        }
+
+        @Override
+        public void reset() {
+            Metrics.reset();
+        }
+    }
+}
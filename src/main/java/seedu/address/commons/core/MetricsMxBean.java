@@ -0,0 +1,29 @@
+package seedu.address.commons.core;
+
+import java.util.Map;
+
+import javax.management.MXBean;
+
+//@@author alexkmj
+/**
+ * The management interface of the {@link Metrics} of the app, registered
+ * under {@value Metrics#MBEAN_NAME}.
+ */
+@MXBean
+public interface MetricsMxBean {
+
+    /**
+     * Returns a report of every metric with a non-zero count.
+     */
+    String getReport();
+
+    /**
+     * Returns the counts of every metric, by name.
+     */
+    Map<String, Long> getCounts();
+
+    /**
+     * Discards the values of every metric.
+     */
+    void reset();
+}
@@ -0,0 +1,21 @@
+package seedu.address.commons.core.jfr;
+
+import seedu.address.commons.core.jfr.FlightEvents.CommandSpan;
+import seedu.address.commons.core.jfr.FlightEvents.HistorySpan;
+import seedu.address.commons.core.jfr.FlightEvents.StorageSpan;
+import seedu.address.commons.core.jfr.FlightEvents.TargetSolveSpan;
+
+//@@author alexkmj
+/**
+ * Begins the spans emitted by {@link FlightEvents}.
+ */
+interface FlightEventFactory {
+
+    CommandSpan beginCommand();
+
+    TargetSolveSpan beginTargetSolve();
+
+    HistorySpan beginHistory(String operation);
+
+    StorageSpan beginStorage(String operation);
+}
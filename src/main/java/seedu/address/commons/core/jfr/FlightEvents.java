@@ -0,0 +1,172 @@
+package seedu.address.commons.core.jfr;
+
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+//@@author alexkmj
+/**
+ * Emits Java Flight Recorder events around the work of the app, so that a
+ * recording shows which commands, target grade solves, history changes and
+ * storage accesses the time was spent in.
+ * <p>
+ * Events are only recorded while a recording that enables them is running,
+ * and cost almost nothing otherwise. On runtimes without Flight Recorder, the
+ * event types are never loaded and every span does nothing. The event types
+ * are in {@code src/jfr/java}, which is only compiled on Java 11 and later.
+ */
+public final class FlightEvents {
+
+    /** The name of the Flight Recorder class that must be present for events to be emitted. */
+    private static final String FLIGHT_RECORDER_CLASS = "jdk.jfr.FlightRecorder";
+    private static final String JFR_EVENT_FACTORY_CLASS = "seedu.address.commons.core.jfr.JfrEventFactory";
+
+    private static final Logger logger = LogsCenter.getLogger(FlightEvents.class);
+
+    private static final FlightEventFactory factory = createFactory();
+
+    private FlightEvents() {
+    }
+
+    /**
+     * The execution of a command.
+     */
+    public interface CommandSpan {
+        /**
+         * Ends the span of the command with {@code commandWord}, which
+         * succeeded if {@code isSuccessful}.
+         */
+        void finish(String commandWord, boolean isSuccessful);
+    }
+
+    /**
+     * The calculation of the target grades of the targetable modules.
+     */
+    public interface TargetSolveSpan {
+        /**
+         * Ends the span of a solve over {@code moduleCount} targetable
+         * modules, which found the CAP goal possible if {@code isPossible}.
+         */
+        void finish(int moduleCount, boolean isPossible);
+    }
+
+    /**
+     * A commit, undo or redo of the transcript history.
+     */
+    public interface HistorySpan {
+        /**
+         * Ends the span, after which the history holds {@code stateCount}
+         * states.
+         */
+        void finish(int stateCount);
+    }
+
+    /**
+     * A read or write of a data file.
+     */
+    public interface StorageSpan {
+        /**
+         * Ends the span of an access to the file at {@code filePath}.
+         */
+        void finish(Path filePath);
+    }
+
+    /**
+     * Returns true if Flight Recorder is available, so that the spans begun
+     * are recorded when a recording is running.
+     */
+    public static boolean isAvailable() {
+        return factory != NoOpFactory.INSTANCE;
+    }
+
+    /**
+     * Begins the span of a command being parsed and executed.
+     */
+    public static CommandSpan beginCommand() {
+        return factory.beginCommand();
+    }
+
+    /**
+     * Begins the span of a target grade solve.
+     */
+    public static TargetSolveSpan beginTargetSolve() {
+        return factory.beginTargetSolve();
+    }
+
+    /**
+     * Begins the span of the history {@code operation}, one of
+     * {@code "commit"}, {@code "undo"} and {@code "redo"}.
+     */
+    public static HistorySpan beginHistory(String operation) {
+        return factory.beginHistory(operation);
+    }
+
+    /**
+     * Begins the span of the storage {@code operation}, either {@code "read"}
+     * or {@code "write"}.
+     */
+    public static StorageSpan beginStorage(String operation) {
+        return factory.beginStorage(operation);
+    }
+
+    /**
+     * Returns the factory of Flight Recorder events if Flight Recorder is
+     * available, or a factory of spans that do nothing otherwise.
+     * <p>
+     * The event types extend {@code jdk.jfr.Event}, so they are only loaded,
+     * by name, once Flight Recorder is known to be present.
+     */
+    private static FlightEventFactory createFactory() {
+        try {
+            Class.forName(FLIGHT_RECORDER_CLASS);
+            return (FlightEventFactory) Class.forName(JFR_EVENT_FACTORY_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.info("Flight Recorder is not available, no flight events will be recorded: " + e);
+            return NoOpFactory.INSTANCE;
+        }
+    }
+
+    /**
+     * Begins spans that do nothing, for runtimes without Flight Recorder.
+     */
+    private enum NoOpFactory implements FlightEventFactory, CommandSpan, TargetSolveSpan, HistorySpan, StorageSpan {
+        INSTANCE;
+
+        @Override
+        public CommandSpan beginCommand() {
+            return this;
+        }
+
+        @Override
+        public TargetSolveSpan beginTargetSolve() {
+            return this;
+        }
+
+        @Override
+        public HistorySpan beginHistory(String operation) {
+            return this;
+        }
+
+        @Override
+        public StorageSpan beginStorage(String operation) {
+            return this;
+        }
+
+        @Override
+        public void finish(String commandWord, boolean isSuccessful) {
+        }
+
+        @Override
+        public void finish(int moduleCount, boolean isPossible) {
+        }
+
+        @Override
+        public void finish(int stateCount) {
+        }
+
+        @Override
+        public void finish(Path filePath) {
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.commons.events;
+
+//@@author alexkmj
+/**
+ * An event that is delivered asynchronously, on a lane of its own event type.
+ * <p>
+ * Events of the same type are delivered one at a time in the order they were
+ * posted, while events of different types are delivered in parallel. An
+ * event may supersede the event of its type posted just before it, in which
+ * case that event is dropped if it has not been delivered yet.
+ */
+public interface AsyncEvent {
+
+    /**
+     * Returns true if this event makes {@code pending}, the event of the same
+     * type posted just before it, redundant, so that only this event needs to
+     * be delivered.
+     */
+    default boolean supersedes(BaseEvent pending) {
+        return false;
+    }
+}
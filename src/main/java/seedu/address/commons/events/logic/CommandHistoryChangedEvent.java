@@ -0,0 +1,24 @@
+package seedu.address.commons.events.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.events.BaseEvent;
+
+//@@author alexkmj
+/**
+ * Indicates a command was added to the command history.
+ */
+public class CommandHistoryChangedEvent extends BaseEvent {
+
+    public final String userInput;
+
+    public CommandHistoryChangedEvent(String userInput) {
+        requireNonNull(userInput);
+        this.userInput = userInput;
+    }
+
+    @Override
+    public String toString() {
+        return "command entered: " + userInput;
+    }
+}
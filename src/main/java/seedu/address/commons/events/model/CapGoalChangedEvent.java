@@ -0,0 +1,31 @@
+package seedu.address.commons.events.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.capgoal.CapGoal;
+
+//@@author alexkmj
+/**
+ * Indicates the CAP goal of the transcript in the model was changed, or
+ * became possible or impossible to achieve.
+ * <p>
+ * Delivered synchronously, after the module events and before the
+ * {@link TranscriptChangedEvent} of the same change.
+ */
+public class CapGoalChangedEvent extends BaseEvent {
+
+    public final CapGoal previous;
+    public final CapGoal updated;
+
+    public CapGoalChangedEvent(CapGoal previous, CapGoal updated) {
+        requireAllNonNull(previous, updated);
+        this.previous = previous;
+        this.updated = updated;
+    }
+
+    @Override
+    public String toString() {
+        return "CAP goal " + previous + " to " + updated;
+    }
+}
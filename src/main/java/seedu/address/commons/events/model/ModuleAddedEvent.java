@@ -0,0 +1,32 @@
+package seedu.address.commons.events.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.module.Module;
+
+//@@author alexkmj
+/**
+ * Indicates a module was added to the transcript in the model.
+ * <p>
+ * Delivered synchronously, in the order of the changes, before the
+ * {@link TranscriptChangedEvent} of the same change.
+ */
+public class ModuleAddedEvent extends BaseEvent {
+
+    public final Module module;
+
+    /** The ordinal of the module, which gives its position in the transcript. */
+    public final long ordinal;
+
+    public ModuleAddedEvent(Module module, long ordinal) {
+        requireNonNull(module);
+        this.module = module;
+        this.ordinal = ordinal;
+    }
+
+    @Override
+    public String toString() {
+        return "added " + module.getCode();
+    }
+}
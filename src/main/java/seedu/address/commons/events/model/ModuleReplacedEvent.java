@@ -0,0 +1,32 @@
+package seedu.address.commons.events.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.module.Module;
+
+//@@author alexkmj
+/**
+ * Indicates a module in the transcript in the model was replaced by another
+ * module with the same identity, other than by the recomputation of target
+ * grades, which raises a {@link TargetsRecomputedEvent}.
+ * <p>
+ * Delivered synchronously, in the order of the changes, before the
+ * {@link TranscriptChangedEvent} of the same change.
+ */
+public class ModuleReplacedEvent extends BaseEvent {
+
+    public final Module previous;
+    public final Module updated;
+
+    public ModuleReplacedEvent(Module previous, Module updated) {
+        requireAllNonNull(previous, updated);
+        this.previous = previous;
+        this.updated = updated;
+    }
+
+    @Override
+    public String toString() {
+        return "replaced " + previous.getCode();
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.commons.events.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.module.Module;
+
+//@@author alexkmj
+/**
+ * Indicates the target grades of some modules in the transcript in the model
+ * were recomputed, or cleared.
+ * <p>
+ * Carries the modules whose target grade changed, as pairs at the same index
+ * of {@link #previous} and {@link #updated}, with their ordinals, which give
+ * their positions in the transcript. A module whose target grade changed may
+ * move, so its ordinal may change too. Delivered synchronously, after
+ * the other events of the same change and before its
+ * {@link TranscriptChangedEvent}.
+ */
+public class TargetsRecomputedEvent extends BaseEvent {
+
+    public final List<Module> previous;
+    public final List<Long> previousOrdinals;
+    public final List<Module> updated;
+    public final List<Long> updatedOrdinals;
+
+    public TargetsRecomputedEvent(List<Module> previous, List<Long> previousOrdinals,
+            List<Module> updated, List<Long> updatedOrdinals) {
+        requireAllNonNull(previous, previousOrdinals, updated, updatedOrdinals);
+        assert previous.size() == updated.size() : "Each module must be paired with its update";
+        assert previous.size() == previousOrdinals.size() && updated.size() == updatedOrdinals.size()
+                : "Each module must have an ordinal";
+        this.previous = Collections.unmodifiableList(new ArrayList<>(previous));
+        this.previousOrdinals = Collections.unmodifiableList(new ArrayList<>(previousOrdinals));
+        this.updated = Collections.unmodifiableList(new ArrayList<>(updated));
+        this.updatedOrdinals = Collections.unmodifiableList(new ArrayList<>(updatedOrdinals));
+    }
+
+    @Override
+    public String toString() {
+        return "recomputed " + updated.size() + " target grades";
+    }
+}
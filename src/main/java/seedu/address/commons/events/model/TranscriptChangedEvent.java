@@ -1,10 +1,16 @@
 package seedu.address.commons.events.model;
 
+import seedu.address.commons.events.AsyncEvent;
 import seedu.address.commons.events.BaseEvent;
 import seedu.address.model.ReadOnlyTranscript;
 
-/** Indicates the Transcript in the model has changed*/
-public class TranscriptChangedEvent extends BaseEvent {
+/**
+ * Indicates the Transcript in the model has changed.
+ * <p>
+ * Delivered asynchronously, and only the latest of the changes not delivered
+ * yet is delivered, since {@link #data} is the whole transcript.
+ */
+public class TranscriptChangedEvent extends BaseEvent implements AsyncEvent {
 
     public final ReadOnlyTranscript data;
 
@@ -12,8 +18,15 @@ public class TranscriptChangedEvent extends BaseEvent {
         this.data = data;
     }
 
+    //@@author alexkmj
+    @Override
+    public boolean supersedes(BaseEvent pending) {
+        return pending instanceof TranscriptChangedEvent;
+    }
+
     @Override
     public String toString() {
-        return "number of transcripts " + data.getModuleList().size();
+        // does not list the modules, which a snapshot only builds when needed
+        return "current CAP " + data.getCurrentCap() + ", CAP goal " + data.getCapGoal();
     }
 }
@@ -2,37 +2,132 @@ package seedu.address.logic;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.LinkedList;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Stores the history of commands executed.
+ * <p>
+ * Only the most recent commands, up to the capacity of the history, are
+ * kept. The commands are stored in a ring buffer with room for twice that
+ * many, so that the read-only views returned by {@link #snapshot()} can share
+ * it without copying: a view remains readable until as many further commands
+ * as the capacity have been added.
  */
 public class CommandHistory {
-    private LinkedList<String> userInputHistory;
+    //@@author alexkmj
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private final int capacity;
+    private final String[] userInputHistory;
+
+    /**
+     * The number of commands ever added, which is only changed after the
+     * command is stored, so that readers on other threads see the command.
+     */
+    private volatile long addedCount;
+    //@@author
 
     public CommandHistory() {
-        userInputHistory = new LinkedList<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    //@@author alexkmj
+    /**
+     * Constructs an empty {@code CommandHistory} that keeps at most
+     * {@code capacity} commands.
+     */
+    public CommandHistory(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        userInputHistory = new String[capacity * 2];
     }
+    //@@author
 
     public CommandHistory(CommandHistory commandHistory) {
-        userInputHistory = new LinkedList<>(commandHistory.userInputHistory);
+        this(commandHistory.capacity);
+        commandHistory.snapshot().forEach(this::add);
     }
 
     /**
-     * Appends {@code userInput} to the list of user input entered.
+     * Appends {@code userInput} to the list of user input entered, discarding
+     * the oldest input if the history is full.
      */
-    public void add(String userInput) {
+    public synchronized void add(String userInput) {
         requireNonNull(userInput);
-        userInputHistory.add(userInput);
+        userInputHistory[(int) (addedCount % userInputHistory.length)] = userInput;
+        addedCount++;
     }
 
     /**
      * Returns a defensive copy of {@code userInputHistory}.
      */
     public List<String> getHistory() {
-        return new LinkedList<>(userInputHistory);
+        return new ArrayList<>(snapshot());
+    }
+
+    //@@author alexkmj
+    /**
+     * Returns the maximum number of commands kept.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns a read-only view of the commands in the history now, from the
+     * earliest to the most recent, in O(1) time. The view is not changed by
+     * later additions, but can no longer be read once as many commands as the
+     * capacity have been added after it.
+     */
+    public List<String> snapshot() {
+        long end = addedCount;
+        return new HistoryView(Math.max(0, end - capacity), end);
+    }
+
+    /**
+     * A read-only view of the commands added between two counts of added
+     * commands.
+     */
+    private class HistoryView extends AbstractList<String> implements RandomAccess {
+        private final long start;
+        private final long end;
+
+        /**
+         * Constructs a view of the commands from the {@code start}-th command
+         * ever added, inclusive, to the {@code end}-th, exclusive.
+         */
+        HistoryView(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            long position = start + index;
+            String userInput = userInputHistory[(int) (position % userInputHistory.length)];
+            // the slot is reused by the command added this many commands after it, which may be
+            // being stored now
+            if (addedCount - position >= userInputHistory.length) {
+                throw new ConcurrentModificationException("Command has been discarded from the history");
+            }
+            return userInput;
+        }
+
+        @Override
+        public int size() {
+            return (int) (end - start);
+        }
     }
+    //@@author
 
     @Override
     public boolean equals(Object obj) {
@@ -48,11 +143,11 @@ public class CommandHistory {
 
         // state check
         CommandHistory other = (CommandHistory) obj;
-        return userInputHistory.equals(other.userInputHistory);
+        return snapshot().equals(other.snapshot());
     }
 
     @Override
     public int hashCode() {
-        return userInputHistory.hashCode();
+        return snapshot().hashCode();
     }
 }
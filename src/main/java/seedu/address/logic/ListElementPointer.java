@@ -14,6 +14,10 @@ import java.util.NoSuchElementException;
  */
 public class ListElementPointer {
     private List<String> list;
+    //@@author alexkmj
+    /** The elements added to the end of {@code list}, which is not changed. */
+    private List<String> addedElements = new ArrayList<>();
+    //@@author
     private int index;
 
     /**
@@ -21,15 +25,35 @@ public class ListElementPointer {
      * The cursor points to the last element in {@code list}.
      */
     public ListElementPointer(List<String> list) {
-        this.list = new ArrayList<>(list);
-        index = this.list.size() - 1;
+        this(new ArrayList<>(list), list.size() - 1);
     }
 
+    //@@author alexkmj
+    /**
+     * Constructs {@code ListElementPointer} which is backed by {@code list},
+     * with the cursor pointing to the element at {@code index}.
+     */
+    private ListElementPointer(List<String> list, int index) {
+        this.list = list;
+        this.index = index;
+    }
+
+    /**
+     * Returns a {@code ListElementPointer} that shares {@code list} instead of
+     * copying it, in O(1) time, which is only safe if {@code list} is never
+     * changed. Elements added to the pointer do not change {@code list}.
+     * The cursor points to the last element in {@code list}.
+     */
+    public static ListElementPointer sharing(List<String> list) {
+        return new ListElementPointer(list, list.size() - 1);
+    }
+    //@@author
+
     /**
      * Appends {@code element} to the end of the list.
      */
     public void add(String element) {
-        list.add(element);
+        addedElements.add(element);
     }
 
     /**
@@ -56,8 +80,33 @@ public class ListElementPointer {
     }
 
     private boolean isWithinBounds(int index) {
-        return index >= 0 && index < list.size();
+        return index >= 0 && index < size();
+    }
+
+    //@@author alexkmj
+    /**
+     * Returns the number of elements, including those added.
+     */
+    private int size() {
+        return list.size() + addedElements.size();
+    }
+
+    /**
+     * Returns the element at {@code index}, including those added.
+     */
+    private String get(int index) {
+        return index < list.size() ? list.get(index) : addedElements.get(index - list.size());
+    }
+
+    /**
+     * Returns all the elements, including those added.
+     */
+    private List<String> getElements() {
+        List<String> elements = new ArrayList<>(list);
+        elements.addAll(addedElements);
+        return elements;
     }
+    //@@author
 
     /**
      * Returns the next element in the list and advances the cursor position.
@@ -67,7 +116,7 @@ public class ListElementPointer {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return list.get(++index);
+        return get(++index);
     }
 
     /**
@@ -78,7 +127,7 @@ public class ListElementPointer {
         if (!hasPrevious()) {
             throw new NoSuchElementException();
         }
-        return list.get(--index);
+        return get(--index);
     }
 
     /**
@@ -89,7 +138,7 @@ public class ListElementPointer {
         if (!hasCurrent()) {
             throw new NoSuchElementException();
         }
-        return list.get(index);
+        return get(index);
     }
 
     @Override
@@ -106,6 +155,6 @@ public class ListElementPointer {
 
         // state check
         ListElementPointer iterator = (ListElementPointer) other;
-        return list.equals(iterator.list) && index == iterator.index;
+        return getElements().equals(iterator.getElements()) && index == iterator.index;
     }
 }
@@ -1,10 +1,12 @@
 package seedu.address.logic;
 
-import javafx.collections.ObservableList;
+import java.util.List;
+
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyTranscript;
+import seedu.address.model.TranscriptSnapshot;
 import seedu.address.model.module.Module;
 import seedu.address.model.person.Person;
 
@@ -23,21 +25,27 @@ public interface Logic {
 
     //@@author alexkmj
     /** Returns an unmodifiable view of the filtered list of modules */
-    ObservableList<Module> getFilteredModuleList();
+    List<Module> getFilteredModuleList();
 
     /** Returns the transcript. */
     ReadOnlyTranscript getTranscript();
 
+    /** Returns the immutable state of the transcript after its last change. */
+    TranscriptSnapshot getTranscriptSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
-    ObservableList<Person> getFilteredPersonList();
+    List<Person> getFilteredPersonList();
 
-    /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
+    /**
+     * Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object.
+     * The list is shared with the command history rather than copied.
+     */
     ListElementPointer getHistorySnapshot();
 
     //@@author jeremiah-ang
     /** Returns an unmodifiable view of the list of completed Modules */
-    ObservableList<Module> getCompletedModuleList();
+    List<Module> getCompletedModuleList();
 
     /** Returns an unmodifiable view of the list of yet to complete Modules */
-    ObservableList<Module> getIncompleteModuleList();
+    List<Module> getIncompleteModuleList();
 }
@@ -1,10 +1,16 @@
 package seedu.address.logic;
 
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.LatencyHistogram;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Metrics;
+import seedu.address.commons.core.jfr.FlightEvents;
+import seedu.address.commons.core.jfr.FlightEvents.CommandSpan;
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -12,6 +18,7 @@ import seedu.address.logic.parser.TranscriptParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTranscript;
+import seedu.address.model.TranscriptSnapshot;
 import seedu.address.model.module.Module;
 import seedu.address.model.person.Person;
 
@@ -19,6 +26,24 @@ import seedu.address.model.person.Person;
  * The main {@code LogicManager} of the app.
  */
 public class LogicManager extends ComponentManager implements Logic {
+    //@@author alexkmj
+    /** The {@code COMMAND_WORD} of each command class. */
+    private static final ClassValue<String> commandWords = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> commandClass) {
+            return getCommandWord(commandClass);
+        }
+    };
+    /** The latency of each command, by the {@code COMMAND_WORD} of its class. */
+    private static final ClassValue<LatencyHistogram> commandLatencies = new ClassValue<LatencyHistogram>() {
+        @Override
+        protected LatencyHistogram computeValue(Class<?> commandClass) {
+            return Metrics.histogram("command." + commandWords.get(commandClass));
+        }
+    };
+    private static final LongAdder commandFailures = Metrics.counter("command.failures");
+    //@@author
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -27,25 +52,61 @@ public class LogicManager extends ComponentManager implements Logic {
 
     //@@author alexkmj
     public LogicManager(Model model) {
+        this(model, new CommandHistory());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that adds the commands executed to
+     * {@code history}.
+     */
+    public LogicManager(Model model, CommandHistory history) {
         this.model = model;
-        history = new CommandHistory();
+        this.history = history;
         transcriptParser = new TranscriptParser();
     }
 
     //@@author alexkmj
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+        long start = System.nanoTime();
+        CommandSpan span = FlightEvents.beginCommand();
+        Command command = null;
+        boolean isSuccessful = false;
         try {
-            Command command = transcriptParser.parseCommand(commandText);
-            return command.execute(model, history);
+            command = transcriptParser.parseCommand(commandText);
+            CommandResult result = command.execute(model, history);
+            isSuccessful = true;
+            return result;
+        } catch (CommandException | ParseException e) {
+            commandFailures.increment();
+            throw e;
         } finally {
+            if (command != null) {
+                commandLatencies.get(command.getClass()).recordSince(start);
+                span.finish(commandWords.get(command.getClass()), isSuccessful);
+            } else {
+                span.finish(commandText.trim().split("\\s+", 2)[0], false);
+            }
             history.add(commandText);
+            raise(new CommandHistoryChangedEvent(commandText));
+        }
+    }
+
+    /**
+     * Returns the {@code COMMAND_WORD} of {@code commandClass}, or its name if
+     * it has none.
+     */
+    private static String getCommandWord(Class<?> commandClass) {
+        try {
+            return (String) commandClass.getField("COMMAND_WORD").get(null);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            return commandClass.getSimpleName();
         }
     }
 
     @Override
-    public ObservableList<Module> getFilteredModuleList() {
+    public List<Module> getFilteredModuleList() {
         return model.getFilteredModuleList();
     }
 
@@ -54,24 +115,29 @@ public class LogicManager extends ComponentManager implements Logic {
         return model.getTranscript();
     }
 
+    @Override
+    public TranscriptSnapshot getTranscriptSnapshot() {
+        return model.getTranscriptSnapshot();
+    }
+
     @Override
     public ListElementPointer getHistorySnapshot() {
-        return new ListElementPointer(history.getHistory());
+        return ListElementPointer.sharing(history.snapshot());
     }
 
     @Override
-    public ObservableList<Module> getCompletedModuleList() {
+    public List<Module> getCompletedModuleList() {
         return model.getCompletedModuleList();
     }
 
     @Override
-    public ObservableList<Module> getIncompleteModuleList() {
+    public List<Module> getIncompleteModuleList() {
         return model.getIncompleteModuleList();
     }
 
     //TODO: REMOVE LEGACY CODE
     @Override
-    public ObservableList<Person> getFilteredPersonList() {
+    public List<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 }
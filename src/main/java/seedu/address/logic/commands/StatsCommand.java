@@ -0,0 +1,31 @@
+package seedu.address.logic.commands;
+
+import seedu.address.commons.core.Metrics;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+
+//@@author alexkmj
+/**
+ * Shows how many times the commands and the operations behind them have run,
+ * and how long they took.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of times each command and operation has run and how long it took.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Statistics since the app started:\n%1$s";
+    public static final String MESSAGE_NO_STATISTICS = "No statistics have been recorded yet.";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        String report = Metrics.getReport();
+        if (report.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_STATISTICS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, report));
+    }
+}
@@ -6,6 +6,8 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.Metrics;
 import seedu.address.logic.commands.AddModuleCommand;
 import seedu.address.logic.commands.AdjustCommand;
 import seedu.address.logic.commands.Command;
@@ -16,6 +18,7 @@ import seedu.address.logic.commands.GoalCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.RedoModuleCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoModuleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -31,6 +34,8 @@ public class TranscriptParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern
             .compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private static final LatencyHistogram parseLatency = Metrics.histogram("parse");
+
     /**
      * Parses user input into command for execution.
      *
@@ -39,6 +44,20 @@ public class TranscriptParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
+        long start = System.nanoTime();
+        try {
+            return parse(userInput);
+        } finally {
+            parseLatency.recordSince(start);
+        }
+    }
+
+    /**
+     * Parses user input into command for execution.
+     *
+     * @see #parseCommand(String)
+     */
+    private Command parse(String userInput) throws ParseException {
         final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
         if (!matcher.matches()) {
             throw new ParseException(
@@ -79,6 +98,9 @@ public class TranscriptParser {
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -0,0 +1,205 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.capgoal.CapGoal;
+import seedu.address.model.module.Module;
+
+//@@author alexkmj
+/**
+ * Calculates the current CAP, the feasibility of the CAP goal and the target
+ * grades of many transcripts in parallel.
+ * <p>
+ * Every transcript is loaded and recalculated by a {@link Transcript} on a
+ * {@link ForkJoinPool}, so the results follow exactly the rules of the
+ * application. Only a bounded number of transcripts are loaded at any time,
+ * and each result is passed on as soon as it is ready, so a cohort of any
+ * size can be processed in bounded memory.
+ */
+public class BulkCapCalculator {
+
+    public static final String MESSAGE_LIMIT_CONSTRAINTS =
+            "The number of transcripts in progress must be positive";
+
+    private final ForkJoinPool pool;
+    private final int maxInProgress;
+
+    /**
+     * Constructs a {@code BulkCapCalculator} on the common pool, with two
+     * transcripts in progress per thread.
+     */
+    public BulkCapCalculator() {
+        this(ForkJoinPool.commonPool(), 2 * ForkJoinPool.commonPool().getParallelism());
+    }
+
+    /**
+     * Constructs a {@code BulkCapCalculator}.
+     *
+     * @param pool the pool that loads and calculates the transcripts
+     * @param maxInProgress the number of transcripts loaded at any time
+     */
+    public BulkCapCalculator(ForkJoinPool pool, int maxInProgress) {
+        requireNonNull(pool);
+        checkArgument(maxInProgress > 0, MESSAGE_LIMIT_CONSTRAINTS);
+        this.pool = pool;
+        this.maxInProgress = maxInProgress;
+    }
+
+    /**
+     * Calculates the transcript of every name in {@code names}, and passes
+     * each result to {@code results} in the order they finish. The names are
+     * only read as transcripts finish. {@code results} is called by one thread
+     * at a time. Returns once every result has been passed on.
+     *
+     * @param names the names of the transcripts
+     * @param loader loads the transcript with a name
+     * @param results receives the results
+     * @throws InterruptedException if interrupted while waiting for the results
+     */
+    public void calculateAll(Stream<String> names, TranscriptLoader loader, Consumer<Result> results)
+            throws InterruptedException {
+        requireNonNull(names);
+        requireNonNull(loader);
+        requireNonNull(results);
+
+        Semaphore inProgress = new Semaphore(maxInProgress);
+        Iterator<String> iterator = names.iterator();
+        while (iterator.hasNext()) {
+            String name = iterator.next();
+            inProgress.acquire();
+            pool.execute(() -> {
+                try {
+                    Result result = calculate(name, loader);
+                    synchronized (results) {
+                        results.accept(result);
+                    }
+                } finally {
+                    inProgress.release();
+                }
+            });
+        }
+        inProgress.acquire(maxInProgress);
+        inProgress.release(maxInProgress);
+    }
+
+    /**
+     * Loads and calculates the transcript named {@code name}.
+     */
+    private static Result calculate(String name, TranscriptLoader loader) {
+        try {
+            Optional<ReadOnlyTranscript> stored = loader.load(name);
+            return stored.map(transcript -> calculate(name, transcript))
+                    .orElseGet(() -> new Result(name, new IOException("Transcript " + name + " not found")));
+        } catch (DataConversionException | IOException | RuntimeException e) {
+            return new Result(name, e);
+        }
+    }
+
+    /**
+     * Returns the result of recalculating {@code transcript}.
+     *
+     * @param name the name of the transcript
+     * @param transcript the modules and CAP goal of the transcript
+     */
+    public static Result calculate(String name, ReadOnlyTranscript transcript) {
+        Transcript calculated = new Transcript(transcript);
+        return new Result(name, calculated.getCurrentCap(), calculated.getCapGoal(),
+                calculated.getTargetedModulesList());
+    }
+
+    /**
+     * Loads transcripts by name.
+     */
+    @FunctionalInterface
+    public interface TranscriptLoader {
+        /**
+         * Returns the transcript named {@code name}, or {@code Optional.empty()}
+         * if there is none.
+         */
+        Optional<ReadOnlyTranscript> load(String name) throws DataConversionException, IOException;
+    }
+
+    /**
+     * The CAP, CAP goal and target grades of one transcript, or the exception
+     * that prevented their calculation.
+     * Guarantees: immutable.
+     */
+    public static final class Result {
+        private final String name;
+        private final double currentCap;
+        private final CapGoal capGoal;
+        private final List<Module> targetModules;
+        private final Exception failure;
+
+        private Result(String name, double currentCap, CapGoal capGoal, List<Module> targetModules) {
+            this.name = name;
+            this.currentCap = currentCap;
+            this.capGoal = capGoal;
+            this.targetModules = Collections.unmodifiableList(targetModules);
+            this.failure = null;
+        }
+
+        private Result(String name, Exception failure) {
+            this.name = name;
+            this.currentCap = 0;
+            this.capGoal = new CapGoal();
+            this.targetModules = Collections.emptyList();
+            this.failure = failure;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getCurrentCap() {
+            return currentCap;
+        }
+
+        public CapGoal getCapGoal() {
+            return capGoal;
+        }
+
+        /**
+         * Returns true if the CAP goal is set and can be achieved.
+         */
+        public boolean isCapGoalAchievable() {
+            return capGoal.isSet() && !capGoal.isImpossible();
+        }
+
+        /**
+         * Returns the modules given a target grade to achieve the CAP goal.
+         */
+        public List<Module> getTargetModules() {
+            return targetModules;
+        }
+
+        /**
+         * Returns the exception thrown while loading or calculating the
+         * transcript, if any.
+         */
+        public Optional<Exception> getFailure() {
+            return Optional.ofNullable(failure);
+        }
+
+        @Override
+        public String toString() {
+            if (failure != null) {
+                return name + ": " + failure;
+            }
+            return name + ": CAP " + currentCap + ", goal " + capGoal + ", "
+                    + targetModules.size() + " target modules";
+        }
+    }
+}
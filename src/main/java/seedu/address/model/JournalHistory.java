@@ -0,0 +1,237 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import seedu.address.model.capgoal.CapGoal;
+import seedu.address.model.module.ModuleMapDelta;
+
+//@@author alexkmj
+/**
+ * {@code TranscriptHistory} that keeps only the current state and, for every
+ * commit, the modules and CAP goal it changed.
+ * <p>
+ * Undoing a commit reverts its changes on the current state, and redoing it
+ * applies them again. The oldest commits are forgotten once the history holds
+ * more than {@code maxEntries} commits or more than {@code maxChanges}
+ * changed modules in total, so a long editing session does not keep growing
+ * the heap. A limit of 0 means unlimited.
+ */
+public class JournalHistory implements TranscriptHistory {
+
+    public static final String MESSAGE_LIMIT_CONSTRAINTS =
+            "History limits cannot be negative";
+
+    private final int maxEntries;
+    private final int maxChanges;
+
+    /**
+     * Commits that can be undone, oldest first.
+     */
+    private final Deque<Entry> undoEntries = new ArrayDeque<>();
+
+    /**
+     * Commits that can be redone, most recently undone first.
+     */
+    private final Deque<Entry> redoEntries = new ArrayDeque<>();
+
+    private TranscriptSnapshot currentState;
+    private long retainedChanges;
+
+    /**
+     * Creates a {@code JournalHistory} without limits.
+     */
+    public JournalHistory() {
+        this(0, 0);
+    }
+
+    /**
+     * Creates a {@code JournalHistory} that keeps at most {@code maxEntries}
+     * commits and at most {@code maxChanges} changed modules.
+     *
+     * @param maxEntries maximum number of commits kept, or 0 for no limit
+     * @param maxChanges maximum number of changed modules kept, or 0 for no
+     * limit
+     */
+    public JournalHistory(int maxEntries, int maxChanges) {
+        checkArgument(maxEntries >= 0 && maxChanges >= 0, MESSAGE_LIMIT_CONSTRAINTS);
+        this.maxEntries = maxEntries;
+        this.maxChanges = maxChanges;
+    }
+
+    @Override
+    public void reset(TranscriptSnapshot initialState) {
+        requireNonNull(initialState);
+        undoEntries.clear();
+        redoEntries.clear();
+        retainedChanges = 0;
+        currentState = initialState;
+    }
+
+    @Override
+    public void commit(TranscriptSnapshot state) {
+        requireNonNull(state);
+        redoEntries.forEach(entry -> retainedChanges -= entry.weight());
+        redoEntries.clear();
+
+        undoEntries.addLast(new Entry(currentState, state));
+        retainedChanges += undoEntries.getLast().weight();
+        currentState = state;
+        evictOldEntries();
+    }
+
+    /**
+     * Forgets the oldest commits until the history is within its limits.
+     * The newest commit is always kept.
+     */
+    private void evictOldEntries() {
+        while (undoEntries.size() > 1 && isOverBudget()) {
+            retainedChanges -= undoEntries.removeFirst().weight();
+        }
+    }
+
+    private boolean isOverBudget() {
+        return maxEntries > 0 && undoEntries.size() > maxEntries
+                || maxChanges > 0 && retainedChanges > maxChanges;
+    }
+
+    @Override
+    public int size() {
+        return undoEntries.size() + redoEntries.size() + 1;
+    }
+
+    @Override
+    public boolean canUndo() {
+        return !undoEntries.isEmpty();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return !redoEntries.isEmpty();
+    }
+
+    @Override
+    public TranscriptSnapshot undo() {
+        assert canUndo();
+        Entry entry = undoEntries.removeLast();
+        redoEntries.addFirst(entry);
+        currentState = entry.revert(currentState);
+        return currentState;
+    }
+
+    @Override
+    public TranscriptSnapshot redo() {
+        assert canRedo();
+        Entry entry = redoEntries.removeFirst();
+        undoEntries.addLast(entry);
+        currentState = entry.apply(currentState);
+        return currentState;
+    }
+
+    /**
+     * Returns the number of changed modules held by this history.
+     */
+    long getRetainedChanges() {
+        return retainedChanges;
+    }
+
+    /**
+     * Returns every state this history can move to, oldest first, by
+     * reverting the undoable commits and applying the redoable ones from the
+     * current state.
+     */
+    private List<TranscriptSnapshot> getStates() {
+        Deque<TranscriptSnapshot> states = new ArrayDeque<>();
+        states.add(currentState);
+        TranscriptSnapshot state = currentState;
+        for (Iterator<Entry> entries = undoEntries.descendingIterator(); entries.hasNext();) {
+            state = entries.next().revert(state);
+            states.addFirst(state);
+        }
+        state = currentState;
+        for (Entry entry : redoEntries) {
+            state = entry.apply(state);
+            states.addLast(state);
+        }
+        return new ArrayList<>(states);
+    }
+
+    /**
+     * Two {@code JournalHistory} objects are equal if they hold the same
+     * states and are at the same one of them, like {@link SnapshotHistory}.
+     */
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JournalHistory)) {
+            return false;
+        }
+
+        JournalHistory otherHistory = (JournalHistory) other;
+
+        // state check
+        return currentState.equals(otherHistory.currentState)
+                && undoEntries.size() == otherHistory.undoEntries.size()
+                && redoEntries.size() == otherHistory.redoEntries.size()
+                && getStates().equals(otherHistory.getStates());
+    }
+
+    @Override
+    public int hashCode() {
+        return currentState.hashCode();
+    }
+
+    /**
+     * The changes made by one commit.
+     */
+    private static class Entry {
+        private final ModuleMapDelta modules;
+        private final CapGoal capGoalBefore;
+        private final CapGoal capGoalAfter;
+        private final double currentCapBefore;
+        private final double currentCapAfter;
+
+        Entry(TranscriptSnapshot before, TranscriptSnapshot after) {
+            modules = ModuleMapDelta.between(before.getModuleMap(), after.getModuleMap());
+            capGoalBefore = before.getCapGoal();
+            capGoalAfter = after.getCapGoal();
+            currentCapBefore = before.getCurrentCap();
+            currentCapAfter = after.getCurrentCap();
+        }
+
+        /**
+         * Returns the state after this commit, given the state before it.
+         */
+        TranscriptSnapshot apply(TranscriptSnapshot before) {
+            return new TranscriptSnapshot(modules.apply(before.getModuleMap()),
+                    capGoalAfter, currentCapAfter);
+        }
+
+        /**
+         * Returns the state before this commit, given the state after it.
+         */
+        TranscriptSnapshot revert(TranscriptSnapshot after) {
+            return new TranscriptSnapshot(modules.revert(after.getModuleMap()),
+                    capGoalBefore, currentCapBefore);
+        }
+
+        /**
+         * Returns the number of changed modules this entry holds, counting
+         * the CAP goal as one.
+         */
+        int weight() {
+            return modules.size() + 1;
+        }
+    }
+}
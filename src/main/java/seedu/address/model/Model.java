@@ -1,9 +1,8 @@
 package seedu.address.model;
 
+import java.util.List;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
-
 import seedu.address.model.capgoal.CapGoal;
 import seedu.address.model.module.Code;
 import seedu.address.model.module.Grade;
@@ -44,6 +43,15 @@ public interface Model {
      */
     ReadOnlyTranscript getTranscript();
 
+    /**
+     * Returns an immutable state of the transcript, published after every
+     * change to it. Unlike {@link #getTranscript()}, it may be read from any
+     * thread without locking, and is never seen partway through a change.
+     *
+     * @return the last published state of the transcript
+     */
+    TranscriptSnapshot getTranscriptSnapshot();
+
     /**
      * Returns true if a module with the same identity as {@code module} exists
      * in the transcript.
@@ -103,10 +111,22 @@ public interface Model {
     void updateModule(Module target, Module editedModule);
 
     /**
-     * Returns an unmodifiable view of the list of {@code Module} backed by the
-     * internal list of {@code versionedTranscript}
+     * Applies every change in {@code batch} to the transcript as a single
+     * mutation.
+     * <p>
+     * The target grades and CAP are recalculated once and a single change
+     * is reported for the whole batch. If any change is invalid, the
+     * transcript is left unchanged.
+     *
+     * @param batch the changes to be applied
+     */
+    void applyTranscriptBatch(TranscriptBatch batch);
+
+    /**
+     * Returns an unmodifiable list of the modules of the transcript that pass
+     * the current filter.
      */
-    ObservableList<Module> getFilteredModuleList();
+    List<Module> getFilteredModuleList();
 
     /**
      * Updates the filter of the filtered module list to filter by the given
@@ -165,7 +185,7 @@ public interface Model {
      *
      * @return completed module list
      */
-    ObservableList<Module> getCompletedModuleList();
+    List<Module> getCompletedModuleList();
 
     /**
      * Returns an unmodifiable view of list of modules that have yet been
@@ -173,7 +193,7 @@ public interface Model {
      *
      * @return incomplete module list
      */
-    ObservableList<Module> getIncompleteModuleList();
+    List<Module> getIncompleteModuleList();
 
     /**
      * Adjust the target Module to the desired Grade
@@ -196,7 +216,7 @@ public interface Model {
 
     void updatePerson(Person target, Person editedPerson);
 
-    ObservableList<Person> getFilteredPersonList();
+    List<Person> getFilteredPersonList();
 
     void updateFilteredPersonList(Predicate<Person> predicate);
 
@@ -3,16 +3,24 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.CapGoalChangedEvent;
+import seedu.address.commons.events.model.ModuleAddedEvent;
+import seedu.address.commons.events.model.ModuleRemovedEvent;
+import seedu.address.commons.events.model.ModuleReplacedEvent;
+import seedu.address.commons.events.model.TargetsRecomputedEvent;
 import seedu.address.commons.events.model.TranscriptChangedEvent;
 import seedu.address.model.capgoal.CapGoal;
 import seedu.address.model.module.Code;
@@ -33,11 +41,33 @@ public class ModelManager extends ComponentManager implements Model {
 
     //TODO: REMOVE LEGACY CODE
     private final VersionedAddressBook versionedAddressBook;
-    private final FilteredList<Person> filteredPersons;
+    private Predicate<Person> personPredicate = PREDICATE_SHOW_ALL_PERSONS;
 
     //@@author alexkmj
     private final VersionedTranscript versionedTranscript;
-    private final FilteredList<Module> filteredModules;
+    private Predicate<Module> modulePredicate = PREDICATE_SHOW_ALL_MODULES;
+
+    /**
+     * The state of the transcript after its last change, which readers on
+     * other threads use in place of the transcript being changed.
+     */
+    private volatile TranscriptSnapshot publishedTranscript;
+
+    /**
+     * The state of the transcript when the current transaction began, or null
+     * if there is no transaction.
+     */
+    private TranscriptSnapshot transactionStart;
+    private boolean isChangeEventDeferred;
+
+    /**
+     * The states committed during the current transaction, most recent first,
+     * which undo and redo within the transaction move between. They never
+     * reach a state from before the transaction began.
+     */
+    private final Deque<TranscriptSnapshot> transactionUndoStates = new ArrayDeque<>();
+    private final Deque<TranscriptSnapshot> transactionRedoStates = new ArrayDeque<>();
+    private TranscriptSnapshot transactionCommitted;
 
     /**
      * Initializes a ModelManager with the given transcript and userPrefs.
@@ -51,14 +81,12 @@ public class ModelManager extends ComponentManager implements Model {
                 + " and user prefs "
                 + userPrefs);
 
-        versionedTranscript = new VersionedTranscript(transcript);
-        filteredModules = new FilteredList<>(
-                versionedTranscript.getModuleList());
+        versionedTranscript = new VersionedTranscript(transcript,
+                createTranscriptHistory(userPrefs));
+        publishedTranscript = versionedTranscript.snapshot();
 
         //TODO: REMOVE LEGACY CODE
         versionedAddressBook = new VersionedAddressBook(new AddressBook());
-        filteredPersons = new FilteredList<>(
-                versionedAddressBook.getPersonList());
     }
 
     public ModelManager() {
@@ -77,13 +105,23 @@ public class ModelManager extends ComponentManager implements Model {
                 + " and user prefs " + userPrefs);
 
         versionedAddressBook = new VersionedAddressBook(addressBook);
-        filteredPersons = new FilteredList<>(
-                versionedAddressBook.getPersonList());
         versionedTranscript = new VersionedTranscript(new Transcript());
-        filteredModules = new FilteredList<>(
-                versionedTranscript.getModuleList());
+        publishedTranscript = versionedTranscript.snapshot();
     }
 
+    //@@author alexkmj
+    /**
+     * Creates the undo history selected in {@code userPrefs}.
+     */
+    private static TranscriptHistory createTranscriptHistory(UserPrefs userPrefs) {
+        if (!userPrefs.isUndoJournalEnabled()) {
+            return new SnapshotHistory();
+        }
+        return new JournalHistory(Math.max(0, userPrefs.getUndoHistoryLimit()),
+                Math.max(0, userPrefs.getUndoChangeLimit()));
+    }
+    //@@author
+
     /**
      * Clears existing backing model and replaces with the newly provided data.
      *
@@ -112,11 +150,148 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedTranscript;
     }
 
+    @Override
+    public TranscriptSnapshot getTranscriptSnapshot() {
+        return publishedTranscript;
+    }
+
     /**
-     * Raises an event to indicate the model has changed.
+     * Publishes the new state of the transcript and raises events to
+     * indicate how the model has changed.
      */
     private void indicateTranscriptChanged() {
-        raise(new TranscriptChangedEvent(versionedTranscript));
+        TranscriptSnapshot previous = publishedTranscript;
+        TranscriptSnapshot snapshot = versionedTranscript.snapshot();
+        publishedTranscript = snapshot;
+        if (transactionStart != null) {
+            isChangeEventDeferred = true;
+            return;
+        }
+        raiseChangeEvents(previous, snapshot);
+    }
+
+    /**
+     * Raises an event for each change from {@code previous} to
+     * {@code current}, followed by a {@link TranscriptChangedEvent}. Only the
+     * modules that differ between both snapshots are compared. Removals are
+     * raised before additions, and additions in list order, so that the
+     * events can be applied in turn to a copy of the module list. A module
+     * that moved, such as one whose identity was edited, is removed and added,
+     * unless only its target grade changed.
+     */
+    private void raiseChangeEvents(TranscriptSnapshot previous, TranscriptSnapshot current) {
+        List<Module> removedModules = new ArrayList<>();
+        List<Module> addedModules = new ArrayList<>();
+        List<ModuleReplacedEvent> replacements = new ArrayList<>();
+        List<Module> previousTargets = new ArrayList<>();
+        List<Module> updatedTargets = new ArrayList<>();
+        previous.getModuleMap().diff(current.getModuleMap(), (before, after) -> {
+            if (before == null) {
+                addedModules.add(after);
+            } else if (after == null) {
+                removedModules.add(before);
+            } else if (isTargetChange(before, after)) {
+                previousTargets.add(before);
+                updatedTargets.add(after);
+            } else if (previous.getOrdinal(before) != current.getOrdinal(after)) {
+                removedModules.add(before);
+                addedModules.add(after);
+            } else {
+                replacements.add(new ModuleReplacedEvent(before, after));
+            }
+        });
+        removedModules.forEach(module -> raise(new ModuleRemovedEvent(module, previous.getOrdinal(module))));
+        replacements.forEach(this::raise);
+        addedModules.sort(Comparator.comparingLong(current::getOrdinal));
+        addedModules.forEach(module -> raise(new ModuleAddedEvent(module, current.getOrdinal(module))));
+        if (!isSameCapGoal(previous.getCapGoal(), current.getCapGoal())) {
+            raise(new CapGoalChangedEvent(previous.getCapGoal(), current.getCapGoal()));
+        }
+        if (!updatedTargets.isEmpty()) {
+            raise(new TargetsRecomputedEvent(previousTargets, getOrdinals(previous, previousTargets),
+                    updatedTargets, getOrdinals(current, updatedTargets)));
+        }
+        raise(new TranscriptChangedEvent(current));
+    }
+
+    /**
+     * Returns the ordinals of {@code modules} in {@code snapshot}.
+     */
+    private static List<Long> getOrdinals(TranscriptSnapshot snapshot, List<Module> modules) {
+        return modules.stream().map(snapshot::getOrdinal).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if {@code after} differs from {@code before}, a module with
+     * the same identity, only by a target grade set or cleared by the
+     * recomputation of target grades.
+     */
+    private static boolean isTargetChange(Module before, Module after) {
+        return before.isTargetable() && after.isTargetable()
+                && (before.isTargetted() || after.isTargetted())
+                && before.getCredits().equals(after.getCredits());
+    }
+
+    /**
+     * Returns true if both CAP goals have the same value and state.
+     */
+    private static boolean isSameCapGoal(CapGoal first, CapGoal second) {
+        return first.isSet() == second.isSet()
+                && first.isImpossible() == second.isImpossible()
+                && Double.compare(first.getValue(), second.getValue()) == 0;
+    }
+
+    /**
+     * Begins a transaction, during which every change to the transcript is
+     * collected into one. Commits and change events are deferred until
+     * {@link #endTransaction()}, so that the changes are committed for undo
+     * and saved once. Until then, undo and redo only move between the states
+     * committed during the transaction.
+     */
+    public void beginTransaction() {
+        assert transactionStart == null : "Transactions cannot be nested";
+        transactionStart = versionedTranscript.snapshot();
+        transactionCommitted = transactionStart;
+        isChangeEventDeferred = false;
+    }
+
+    /**
+     * Ends the current transaction, committing the transcript once if any
+     * command committed it during the transaction, and raising the change
+     * events from its state when the transaction began if it changed.
+     */
+    public void endTransaction() {
+        assert transactionStart != null : "No transaction to end";
+        TranscriptSnapshot start = transactionStart;
+        boolean isCommitted = !transactionUndoStates.isEmpty();
+        clearTransaction();
+        if (isCommitted) {
+            versionedTranscript.commit();
+        }
+        if (isChangeEventDeferred) {
+            raiseChangeEvents(start, publishedTranscript);
+        }
+    }
+
+    /**
+     * Ends the current transaction by restoring the transcript to its state
+     * when the transaction began. Nothing is committed or raised.
+     */
+    public void rollbackTransaction() {
+        assert transactionStart != null : "No transaction to roll back";
+        versionedTranscript.restore(transactionStart);
+        publishedTranscript = transactionStart;
+        clearTransaction();
+    }
+
+    /**
+     * Forgets the current transaction and the states committed during it.
+     */
+    private void clearTransaction() {
+        transactionStart = null;
+        transactionCommitted = null;
+        transactionUndoStates.clear();
+        transactionRedoStates.clear();
     }
 
     /**
@@ -201,15 +376,29 @@ public class ModelManager extends ComponentManager implements Model {
         indicateTranscriptChanged();
     }
 
+    /**
+     * Applies every change in {@code batch} to the transcript as a single
+     * mutation.
+     *
+     * @param batch the changes to be applied
+     */
+    @Override
+    public void applyTranscriptBatch(TranscriptBatch batch) {
+        requireNonNull(batch);
+
+        versionedTranscript.applyBatch(batch);
+        indicateTranscriptChanged();
+    }
+
     //=========== Filtered Module List Accessors ===============================
 
     /**
-     * Returns an unmodifiable view of the list of {@code Module} backed by the
-     * internal list of {@code versionedTranscript}
+     * Returns an unmodifiable list of the modules of {@code versionedTranscript}
+     * that pass the current filter.
      */
     @Override
-    public ObservableList<Module> getFilteredModuleList() {
-        return FXCollections.unmodifiableObservableList(filteredModules);
+    public List<Module> getFilteredModuleList() {
+        return Collections.unmodifiableList(getFilteredModules());
     }
 
     /**
@@ -219,7 +408,17 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredModuleList(Predicate<Module> predicate) {
         requireNonNull(predicate);
-        filteredModules.setPredicate(predicate);
+        modulePredicate = predicate;
+    }
+
+    /**
+     * Returns the modules that pass the current filter, without creating the
+     * filtered view.
+     */
+    private List<Module> getFilteredModules() {
+        return versionedTranscript.getModules().stream()
+                .filter(modulePredicate)
+                .collect(Collectors.toList());
     }
 
     //=========== Undo/Redo ====================================================
@@ -231,6 +430,9 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public boolean canUndoTranscript() {
+        if (transactionStart != null) {
+            return !transactionUndoStates.isEmpty();
+        }
         return versionedTranscript.canUndo();
     }
 
@@ -241,6 +443,9 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public boolean canRedoTranscript() {
+        if (transactionStart != null) {
+            return !transactionRedoStates.isEmpty();
+        }
         return versionedTranscript.canRedo();
     }
 
@@ -249,7 +454,11 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public void undoTranscript() {
-        versionedTranscript.undo();
+        if (transactionStart != null) {
+            moveTransactionState(transactionUndoStates, transactionRedoStates);
+        } else {
+            versionedTranscript.undo();
+        }
         indicateTranscriptChanged();
     }
 
@@ -258,15 +467,38 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public void redoTranscript() {
-        versionedTranscript.redo();
+        if (transactionStart != null) {
+            moveTransactionState(transactionRedoStates, transactionUndoStates);
+        } else {
+            versionedTranscript.redo();
+        }
         indicateTranscriptChanged();
     }
 
+    /**
+     * Restores the transcript to the state on top of {@code from}, and pushes
+     * the state committed last onto {@code to}.
+     */
+    private void moveTransactionState(Deque<TranscriptSnapshot> from, Deque<TranscriptSnapshot> to) {
+        if (from.isEmpty()) {
+            throw new IllegalStateException("No committed state to restore in this transaction");
+        }
+        to.push(transactionCommitted);
+        transactionCommitted = from.pop();
+        versionedTranscript.restore(transactionCommitted);
+    }
+
     /**
      * Saves the current transcript state for undo/redo.
      */
     @Override
     public void commitTranscript() {
+        if (transactionStart != null) {
+            transactionUndoStates.push(transactionCommitted);
+            transactionCommitted = versionedTranscript.snapshot();
+            transactionRedoStates.clear();
+            return;
+        }
         versionedTranscript.commit();
     }
     //@@author
@@ -289,12 +521,12 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     @Override
-    public ObservableList<Module> getCompletedModuleList() {
+    public List<Module> getCompletedModuleList() {
         return versionedTranscript.getCompletedModuleList();
     }
 
     @Override
-    public ObservableList<Module> getIncompleteModuleList() {
+    public List<Module> getIncompleteModuleList() {
         return versionedTranscript.getIncompleteModuleList();
     }
 
@@ -322,8 +554,8 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return versionedAddressBook.equals(other.versionedAddressBook)
-                && filteredPersons.equals(other.filteredPersons) // TODO: REMOVE
-                && filteredModules.equals(other.filteredModules);
+                && getFilteredPersonList().equals(other.getFilteredPersonList()) // TODO: REMOVE
+                && getFilteredModules().equals(other.getFilteredModules());
     }
     //@@author
 
@@ -369,14 +601,16 @@ public class ModelManager extends ComponentManager implements Model {
     //=========== Filtered Person List Accessors ===============================
 
     @Override
-    public ObservableList<Person> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredPersons);
+    public List<Person> getFilteredPersonList() {
+        return Collections.unmodifiableList(versionedAddressBook.getPersonList().stream()
+                .filter(personPredicate)
+                .collect(Collectors.toList()));
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        personPredicate = predicate;
     }
 
     //=========== Undo/Redo ====================================================
@@ -0,0 +1,156 @@
+package seedu.address.model;
+
+import seedu.address.model.module.Module;
+
+//@@author alexkmj
+/**
+ * Running totals of the module points and credits that CAP and target grade
+ * calculation depend on.
+ * <p>
+ * Every module added to or removed from a {@link Transcript} is counted in
+ * O(1), so that the totals never have to be summed over the whole transcript.
+ */
+class ModuleTotals {
+
+    private double gradedPoint;
+    private double gradedCredit;
+    private double adjustedPoint;
+    private double adjustedCredit;
+    private double targetableCredit;
+
+    /**
+     * Counts {@code module} towards the totals.
+     *
+     * @param module module that was added
+     */
+    void add(Module module) {
+        accumulate(module, 1);
+    }
+
+    /**
+     * Stops counting {@code module} towards the totals.
+     *
+     * @param module module that was removed
+     */
+    void remove(Module module) {
+        accumulate(module, -1);
+    }
+
+    /**
+     * Resets all totals to zero.
+     */
+    void clear() {
+        gradedPoint = 0;
+        gradedCredit = 0;
+        adjustedPoint = 0;
+        adjustedCredit = 0;
+        targetableCredit = 0;
+    }
+
+    /**
+     * Adds {@code sign} times the point and credit of {@code module} to the
+     * totals it belongs to.
+     *
+     * @param module module to be counted
+     * @param sign 1 to count the module, -1 to stop counting it
+     */
+    private void accumulate(Module module, int sign) {
+        double credit = sign * module.getCreditsValue();
+        double point = credit * module.getGrade().getPoint();
+
+        if (isGraded(module)) {
+            gradedPoint += point;
+            gradedCredit += credit;
+        } else if (isGradedAdjusted(module)) {
+            adjustedPoint += point;
+            adjustedCredit += credit;
+        } else if (module.isTargetable()) {
+            targetableCredit += credit;
+        }
+    }
+
+    /**
+     * Check if the given module should be considered for CAP Calculation
+     *
+     * @param module
+     * @return true if yes, false otherwise
+     */
+    static boolean isGraded(Module module) {
+        return module.hasCompleted() && module.isAffectCap();
+    }
+
+    /**
+     * Check if the given module has an adjusted grade that affects CAP
+     *
+     * @param module
+     * @return true if yes, false otherwise
+     */
+    static boolean isGradedAdjusted(Module module) {
+        return module.isAdjusted() && module.isAffectCap();
+    }
+
+    /**
+     * Returns the total points of completed modules that affect CAP.
+     */
+    double getGradedPoint() {
+        return gradedPoint;
+    }
+
+    /**
+     * Returns the total credits of completed modules that affect CAP.
+     */
+    double getGradedCredit() {
+        return gradedCredit;
+    }
+
+    /**
+     * Returns the total points of adjusted modules that affect CAP.
+     */
+    double getAdjustedPoint() {
+        return adjustedPoint;
+    }
+
+    /**
+     * Returns the total credits of adjusted modules that affect CAP.
+     */
+    double getAdjustedCredit() {
+        return adjustedCredit;
+    }
+
+    /**
+     * Returns the total credits of modules that can be assigned a target grade.
+     */
+    double getTargetableCredit() {
+        return targetableCredit;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ModuleTotals)) {
+            return false;
+        }
+
+        ModuleTotals otherTotals = (ModuleTotals) other;
+        return gradedPoint == otherTotals.gradedPoint
+                && gradedCredit == otherTotals.gradedCredit
+                && adjustedPoint == otherTotals.adjustedPoint
+                && adjustedCredit == otherTotals.adjustedCredit
+                && targetableCredit == otherTotals.targetableCredit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(gradedPoint + adjustedPoint + targetableCredit);
+    }
+
+    @Override
+    public String toString() {
+        return "graded " + gradedPoint + "/" + gradedCredit
+                + ", adjusted " + adjustedPoint + "/" + adjustedCredit
+                + ", targetable " + targetableCredit;
+    }
+}
@@ -1,24 +1,27 @@
 package seedu.address.model;
 
-import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.util.List;
 
-import javafx.collections.ObservableList;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import seedu.address.model.capgoal.CapGoal;
 import seedu.address.model.module.Module;
 import seedu.address.storage.JsonTranscriptDeserializer;
+import seedu.address.storage.JsonTranscriptSerializer;
 
 //@@author jeremiah-ang
 /**
  * Unmodifiable view of a Transcript.
  */
 @JsonDeserialize(using = JsonTranscriptDeserializer.class)
+@JsonSerialize(using = JsonTranscriptSerializer.class)
 public interface ReadOnlyTranscript {
     /**
      * Returns an unmodifiable view of the module list.
      * This list will not contain any duplicate modules.
      */
-    ObservableList<Module> getModuleList();
+    List<Module> getModules();
 
     /**
      * Returns the CapGoal of this transcript
@@ -34,11 +37,11 @@ public interface ReadOnlyTranscript {
      * Returns an unmodifiable view of list of modules that have completed
      * @return completed module list
      */
-    ObservableList<Module> getCompletedModuleList();
+    List<Module> getCompletedModuleList();
 
     /**
      * Returns an unmodifiable view of list of modules that have yet been completed
      * @return incomplete module list
      */
-    ObservableList<Module> getIncompleteModuleList();
+    List<Module> getIncompleteModuleList();
 }
@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//@@author alexkmj
+/**
+ * {@code TranscriptHistory} that keeps a {@link TranscriptSnapshot} of every
+ * committed state.
+ * <p>
+ * Snapshots share unchanged modules with each other, so every commit costs
+ * O(1) and holds on to the modules it changed. The history is unbounded.
+ */
+public class SnapshotHistory implements TranscriptHistory {
+
+    private final List<TranscriptSnapshot> transcriptStateList = new ArrayList<>();
+    private int currentStatePointer;
+
+    @Override
+    public void reset(TranscriptSnapshot initialState) {
+        requireNonNull(initialState);
+        transcriptStateList.clear();
+        transcriptStateList.add(initialState);
+        currentStatePointer = 0;
+    }
+
+    @Override
+    public void commit(TranscriptSnapshot state) {
+        requireNonNull(state);
+        removeStatesAfterCurrentPointer();
+        transcriptStateList.add(state);
+        currentStatePointer++;
+    }
+
+    private void removeStatesAfterCurrentPointer() {
+        int fromIndex = currentStatePointer + 1;
+        int toIndex = transcriptStateList.size();
+        transcriptStateList.subList(fromIndex, toIndex).clear();
+    }
+
+    @Override
+    public int size() {
+        return transcriptStateList.size();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    @Override
+    public boolean canRedo() {
+        return currentStatePointer < transcriptStateList.size() - 1;
+    }
+
+    @Override
+    public TranscriptSnapshot undo() {
+        assert canUndo();
+        currentStatePointer--;
+        return transcriptStateList.get(currentStatePointer);
+    }
+
+    @Override
+    public TranscriptSnapshot redo() {
+        assert canRedo();
+        currentStatePointer++;
+        return transcriptStateList.get(currentStatePointer);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SnapshotHistory)) {
+            return false;
+        }
+
+        SnapshotHistory otherHistory = (SnapshotHistory) other;
+
+        // state check
+        return transcriptStateList.equals(otherHistory.transcriptStateList)
+                && currentStatePointer == otherHistory.currentStatePointer;
+    }
+
+    @Override
+    public int hashCode() {
+        return transcriptStateList.hashCode();
+    }
+}
@@ -3,15 +3,17 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
 import java.util.logging.Logger;
-import java.util.stream.Stream;
-
-import javafx.collections.ObservableList;
 
+import seedu.address.commons.core.LatencyHistogram;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Metrics;
+import seedu.address.commons.core.jfr.FlightEvents;
+import seedu.address.commons.core.jfr.FlightEvents.TargetSolveSpan;
 import seedu.address.model.capgoal.CapGoal;
 import seedu.address.model.exceptions.CapGoalIsImpossibleException;
 import seedu.address.model.exceptions.NoTargetableModulesException;
@@ -32,8 +34,11 @@ import seedu.address.model.module.exceptions.MultipleModuleEntryFoundException;
  */
 public class Transcript implements ReadOnlyTranscript {
     private static final Logger logger = LogsCenter.getLogger(Transcript.class);
+    private static final LatencyHistogram modulesUpdatedLatency = Metrics.histogram("transcript.modulesUpdated");
+    private static final LatencyHistogram targetSolveLatency = Metrics.histogram("transcript.targetSolve");
 
     private final UniqueModuleList modules;
+    private final transient ModuleTotals totals;
     private CapGoal capGoal;
     private double currentCap;
 
@@ -47,6 +52,7 @@ public class Transcript implements ReadOnlyTranscript {
      */
     {
         modules = new UniqueModuleList();
+        totals = new ModuleTotals();
     }
 
     public Transcript() {
@@ -70,6 +76,7 @@ public class Transcript implements ReadOnlyTranscript {
      */
     public void setModules(List<Module> modules) {
         this.modules.setModules(modules);
+        recountTotals();
         modulesUpdated();
     }
 
@@ -79,8 +86,75 @@ public class Transcript implements ReadOnlyTranscript {
     public void resetData(ReadOnlyTranscript newData) {
         requireNonNull(newData);
 
-        setModules(newData.getModuleList());
-        setCapGoal(newData.getCapGoal());
+        applyBatch(new TranscriptBatch()
+                .clearModules()
+                .addModules(newData.getModules())
+                .setCapGoal(newData.getCapGoal()));
+    }
+
+    /**
+     * Applies every change in {@code batch} to this {@code Transcript}.
+     * <p>
+     * The changes are validated together and applied as one change to the
+     * module list, after which the target grades and CAP are recalculated
+     * once. If any change is invalid, the transcript is left unchanged.
+     *
+     * @param batch the changes to be applied
+     */
+    public void applyBatch(TranscriptBatch batch) {
+        requireNonNull(batch);
+
+        modules.applyChanges(batch.clearsModules(), batch.getModulesToRemove(),
+                batch.getUpdateTargets(), batch.getUpdatedModules(),
+                batch.getModulesToAdd());
+
+        if (batch.clearsModules()) {
+            recountTotals();
+        } else {
+            batch.getModulesToRemove().forEach(totals::remove);
+            batch.getUpdateTargets().forEach(totals::remove);
+            batch.getUpdatedModules().forEach(totals::add);
+            batch.getModulesToAdd().forEach(totals::add);
+        }
+
+        batch.getCapGoal().ifPresent(this::setCapGoal);
+        modulesUpdated();
+    }
+
+    /**
+     * Returns an immutable snapshot of the current state of this
+     * {@code Transcript}.
+     * <p>
+     * The snapshot shares every unchanged module with this transcript, so
+     * taking it costs O(1) regardless of the number of modules.
+     */
+    public TranscriptSnapshot snapshot() {
+        return new TranscriptSnapshot(modules.snapshot(), capGoal, currentCap);
+    }
+
+    /**
+     * Restores this {@code Transcript} to {@code snapshot}, which must have
+     * been taken from this transcript.
+     * <p>
+     * Only the modules that differ from the snapshot are changed, and the
+     * target grades and CAP are restored rather than recalculated.
+     *
+     * @param snapshot the state to be restored
+     */
+    public void restore(TranscriptSnapshot snapshot) {
+        requireNonNull(snapshot);
+
+        modules.restore(snapshot.getModuleMap(), (before, after) -> {
+            if (before != null) {
+                totals.remove(before);
+            }
+            if (after != null) {
+                totals.add(after);
+            }
+        });
+        capGoal = snapshot.getCapGoal();
+        currentCap = snapshot.getCurrentCap();
+        assert totalsMatchModules();
     }
 
     //// module-level operations
@@ -100,6 +174,7 @@ public class Transcript implements ReadOnlyTranscript {
      */
     public void addModule(Module p) {
         modules.add(p);
+        totals.add(p);
         modulesUpdated();
     }
 
@@ -112,6 +187,8 @@ public class Transcript implements ReadOnlyTranscript {
     public void updateModule(Module target, Module editedModule) {
         requireNonNull(editedModule);
         modules.setModule(target, editedModule);
+        totals.remove(target);
+        totals.add(editedModule);
         modulesUpdated();
     }
 
@@ -121,6 +198,7 @@ public class Transcript implements ReadOnlyTranscript {
      */
     public void removeModule(Module key) {
         modules.remove(key);
+        totals.remove(key);
         modulesUpdated();
     }
 
@@ -131,17 +209,17 @@ public class Transcript implements ReadOnlyTranscript {
     }
 
     @Override
-    public ObservableList<Module> getCompletedModuleList() {
-        return getModuleList().filtered(Module::hasCompleted);
+    public List<Module> getCompletedModuleList() {
+        return Collections.unmodifiableList(modules.getFilteredModules(Module::hasCompleted));
     }
 
     @Override
-    public ObservableList<Module> getIncompleteModuleList() {
-        return getModuleList().filtered(module -> !module.hasCompleted());
+    public List<Module> getIncompleteModuleList() {
+        return Collections.unmodifiableList(modules.getFilteredModules(module -> !module.hasCompleted()));
     }
 
     private void updateCurrentCap() {
-        logger.info("Updating Current CAP");
+        logger.fine("Updating Current CAP");
         currentCap = calculateCap();
     }
 
@@ -151,10 +229,7 @@ public class Transcript implements ReadOnlyTranscript {
      * @return cap: cap score
      */
     private double calculateCap() {
-        ObservableList<Module> gradedModulesList = getGradedModulesList();
-        double totalModulePoint = calculateTotalModulePoint(gradedModulesList);
-        double totalModuleCredit = calculateTotalModuleCredit(gradedModulesList);
-        return calculateCap(totalModulePoint, totalModuleCredit);
+        return calculateCap(totals.getGradedPoint(), totals.getGradedCredit());
     }
 
     /**
@@ -172,16 +247,6 @@ public class Transcript implements ReadOnlyTranscript {
     }
 
 
-    /**
-     * Calculates the total module point from the list of list of modules
-     * @param listOfModules
-     * @return total module point
-     */
-    @SafeVarargs
-    private double calculateTotalModulePoint(List<Module>... listOfModules) {
-        return Stream.of(listOfModules).mapToDouble(this::calculateTotalModulePoint).sum();
-    }
-
     /**
      * Calculates the total module point from the list of modules
      * @param modules
@@ -195,16 +260,6 @@ public class Transcript implements ReadOnlyTranscript {
         return totalPoint;
     }
 
-    /**
-     * Calculates the total module credit from the list of list of modules
-     * @param listOfModules
-     * @return total module credit
-     */
-    @SafeVarargs
-    private double calculateTotalModuleCredit(List<Module>... listOfModules) {
-        return Stream.of(listOfModules).mapToDouble(this::calculateTotalModuleCredit).sum();
-    }
-
     /**
      * Calculates the total module credit from the list of modules
      * @param modules
@@ -223,15 +278,15 @@ public class Transcript implements ReadOnlyTranscript {
      *
      * @return list of modules used for CAP calculation
      */
-    private ObservableList<Module> getGradedModulesList() {
-        return modules.getFilteredModules(this::moduleIsUsedForCapCalculation);
+    private List<Module> getGradedModulesList() {
+        return modules.getFilteredModules(ModuleTotals::isGraded);
     }
 
     /**
      * Filters for modules that is to be assigned a target grade
      * @return gradedModulesList: a list of modules used for CAP calculation
      */
-    private ObservableList<Module> getTargetableModulesList() {
+    private List<Module> getTargetableModulesList() {
         return modules.getFilteredModules(Module::isTargetable);
     }
 
@@ -239,52 +294,92 @@ public class Transcript implements ReadOnlyTranscript {
      * Filters for modules that have target grades
      * @return gradedModulesList: a list of modules used for CAP calculation
      */
-    protected ObservableList<Module> getTargetedModulesList() {
+    protected List<Module> getTargetedModulesList() {
         return modules.getFilteredModules(Module::isTargetted);
     }
 
-    /**
-     * Check if the given module should be considered for CAP Calculation
-     *
-     * @param module
-     * @return true if yes, false otherwise
-     */
-    private boolean moduleIsUsedForCapCalculation(Module module) {
-        return module.hasCompleted() && module.isAffectCap();
-    }
-
     /**
      * Calls relevant methods when the modules list is updated
      */
     private void modulesUpdated() {
-        logger.info("Modules Updated... Updating Target Grades and Current CAP");
+        logger.fine("Modules Updated... Updating Target Grades and Current CAP");
+        long start = System.nanoTime();
         updateTargetModuleGrades();
         updateCurrentCap();
+        modulesUpdatedLatency.recordSince(start);
+        assert totalsMatchModules() : "Running totals differ from a full recount: " + totals;
+    }
+
+    /**
+     * Recounts {@link #totals} from every module in the transcript.
+     */
+    private void recountTotals() {
+        totals.clear();
+        modules.forEach(totals::add);
+    }
+
+    /**
+     * Removes {@code toRemove} and appends {@code toAdd} to the module list in
+     * a single change, and updates {@link #totals} accordingly.
+     * Every module in {@code toRemove} must exist in the transcript.
+     */
+    private void replaceModules(List<Module> toRemove, List<Module> toAdd) {
+        modules.applyChanges(false, toRemove, Collections.emptyList(),
+                Collections.emptyList(), toAdd);
+        toRemove.forEach(totals::remove);
+        toAdd.forEach(totals::add);
+    }
+
+    /**
+     * Verifies the running totals against a full recomputation over the
+     * filtered module lists.
+     * <p>
+     * This is evaluated only when assertions are enabled.
+     *
+     * @return true if the running totals agree with the full recomputation
+     */
+    private boolean totalsMatchModules() {
+        List<Module> gradedModules = getGradedModulesList();
+        List<Module> adjustedModules = getGradedAdjustedModulesList();
+        List<Module> targetableModules = getTargetableModulesList();
+
+        return calculateTotalModulePoint(gradedModules) == totals.getGradedPoint()
+                && calculateTotalModuleCredit(gradedModules) == totals.getGradedCredit()
+                && calculateTotalModulePoint(adjustedModules) == totals.getAdjustedPoint()
+                && calculateTotalModuleCredit(adjustedModules) == totals.getAdjustedCredit()
+                && calculateTotalModuleCredit(targetableModules) == totals.getTargetableCredit();
     }
 
     /**
      * Replaces targetable module with an updated target grade
      */
     private void updateTargetModuleGrades() {
-        logger.info("Updating Target Grades...");
+        logger.fine("Updating Target Grades...");
         boolean shouldSkip = !capGoal.isSet();
         if (shouldSkip) {
-            logger.info("No CAP Goal set, stopping target grades calculation.");
+            logger.fine("No CAP Goal set, stopping target grades calculation.");
             return;
         }
-        ObservableList<Module> targetableModules = getTargetableModulesList().sorted(
-                Comparator.comparingInt(Module::getCreditsValue));
-
+        long start = System.nanoTime();
+        TargetSolveSpan span = FlightEvents.beginTargetSolve();
+        int targetableCount = 0;
         try {
+            checkTargetGradesPossible();
+            List<Module> targetableModules = new ArrayList<>(getTargetableModulesList());
+            targetableCount = targetableModules.size();
+            targetableModules.sort(Comparator.comparingInt(Module::getCreditsValue));
             List<Module> newTargetModules = getNewTargetModuleGrade(targetableModules);
             makeCapGoalPossible();
             replaceTargetModules(targetableModules, newTargetModules);
         } catch (CapGoalIsImpossibleException cgiie) {
-            logger.info("CAP Goal is impossible to achieve.");
+            logger.fine("CAP Goal is impossible to achieve.");
             makeCapGoalImpossible();
         } catch (NoTargetableModulesException ntme) {
-            logger.info("No targetable modules.");
+            logger.fine("No targetable modules.");
             makeCapGoalPossible();
+        } finally {
+            targetSolveLatency.recordSince(start);
+            span.finish(targetableCount, !capGoal.isImpossible());
         }
     }
 
@@ -298,32 +393,53 @@ public class Transcript implements ReadOnlyTranscript {
         if (targetableModules.isEmpty()) {
             return;
         }
-        modules.removeAll(targetableModules);
-        modules.addAll(newTargetModules);
+        replaceModules(targetableModules, newTargetModules);
     }
 
 
     /**
-     * Calculates target module grade in order to achieve target goal
-     * @return a list of modules with target grade if possible. null otherwise
+     * Checks, from the running totals alone, whether target grades can and
+     * need to be calculated.
+     *
+     * @throws CapGoalIsImpossibleException if there are no targetable modules
+     * and the CAP goal is above the current CAP
+     * @throws NoTargetableModulesException if there are no targetable modules
+     * and the CAP goal is already achieved
      */
-    private List<Module> getNewTargetModuleGrade(List<Module> sortedTargetableModules)
+    private void checkTargetGradesPossible()
             throws CapGoalIsImpossibleException, NoTargetableModulesException {
-        List<Module> gradedModules = getGradedModulesList();
-        List<Module> adjustedModules = getGradedAdjustedModulesList();
-
-        double totalUngradedModuleCredit = calculateTotalModuleCredit(sortedTargetableModules);
-        double totalMc = calculateTotalModuleCredit(
-                gradedModules, adjustedModules, sortedTargetableModules);
-        double currentTotalPoint = calculateTotalModulePoint(
-                gradedModules, adjustedModules);
-
-        if (totalUngradedModuleCredit == 0) {
-            if (totalMc == 0 || capGoal.getValue() > currentTotalPoint / totalMc) {
+        if (totals.getTargetableCredit() == 0) {
+            double totalMc = getTotalMc();
+            if (totalMc == 0 || capGoal.getValue() > getCurrentTotalPoint() / totalMc) {
                 throw new CapGoalIsImpossibleException();
             }
             throw new NoTargetableModulesException();
         }
+    }
+
+    /**
+     * Returns the total credits of graded, adjusted and targetable modules.
+     */
+    private double getTotalMc() {
+        return totals.getGradedCredit() + totals.getAdjustedCredit() + totals.getTargetableCredit();
+    }
+
+    /**
+     * Returns the total points of graded and adjusted modules.
+     */
+    private double getCurrentTotalPoint() {
+        return totals.getGradedPoint() + totals.getAdjustedPoint();
+    }
+
+    /**
+     * Calculates target module grade in order to achieve target goal
+     * @return a list of modules with target grade if possible. null otherwise
+     */
+    private List<Module> getNewTargetModuleGrade(List<Module> sortedTargetableModules)
+            throws CapGoalIsImpossibleException {
+        double totalUngradedModuleCredit = totals.getTargetableCredit();
+        double totalMc = getTotalMc();
+        double currentTotalPoint = getCurrentTotalPoint();
 
         return createNewTargetModuleGrade(
                 sortedTargetableModules,
@@ -394,13 +510,13 @@ public class Transcript implements ReadOnlyTranscript {
             throw new CapGoalIsImpossibleException();
         }
         if (unitScoreToAchieve <= 0.5) {
-            logger.info("Unit score to achieve is the minimum");
+            logger.fine("Unit score to achieve is the minimum");
             return 1.0;
         }
         return unitScoreToAchieve;
     }
 
-    private ObservableList<Module> getGradedAdjustedModulesList() {
+    private List<Module> getGradedAdjustedModulesList() {
         return modules.getFilteredModules(module -> module.isAdjusted() && module.isAffectCap());
     }
 
@@ -430,13 +546,12 @@ public class Transcript implements ReadOnlyTranscript {
      * Removes the given target grades to incomplete modules
      */
     private void removeTargetFromTargetedModules() {
-        List<Module> targetedModules = getTargetedModulesList();
+        List<Module> targetedModules = new ArrayList<>(getTargetedModulesList());
         List<Module> targetRemovedModules = new ArrayList<>();
         for (Module targetedModule : targetedModules) {
             targetRemovedModules.add(new Module(targetedModule, new Grade()));
         }
-        modules.removeAll(targetedModules);
-        modules.addAll(targetRemovedModules);
+        replaceModules(targetedModules, targetRemovedModules);
     }
 
     /**
@@ -492,8 +607,8 @@ public class Transcript implements ReadOnlyTranscript {
 
         Module adjustedModule = targetModule.adjustGrade(adjustGrade);
         //TODO: Use updateModule when fixed
-        modules.remove(targetModule);
-        modules.add(adjustedModule);
+        replaceModules(Collections.singletonList(targetModule),
+                Collections.singletonList(adjustedModule));
         modulesUpdated();
         return adjustedModule;
     }
@@ -503,13 +618,13 @@ public class Transcript implements ReadOnlyTranscript {
 
     @Override
     public String toString() {
-        return modules.asUnmodifiableObservableList().size() + " modules";
+        return modules.asUnmodifiableList().size() + " modules";
         // TODO: refine later
     }
 
     @Override
-    public ObservableList<Module> getModuleList() {
-        return modules.asUnmodifiableObservableList();
+    public List<Module> getModules() {
+        return modules.asUnmodifiableList();
     }
 
     @Override
@@ -0,0 +1,167 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.capgoal.CapGoal;
+import seedu.address.model.module.Module;
+
+//@@author alexkmj
+/**
+ * A group of module and CAP goal changes that is applied to a
+ * {@link Transcript} as a single mutation.
+ * <p>
+ * The changes are validated as a whole before any of them is applied, and the
+ * target grades and CAP are recalculated once for the whole batch. Changes are
+ * applied in this order: clearing of modules, removals, updates, additions
+ * and finally the CAP goal.
+ */
+public class TranscriptBatch {
+
+    private final List<Module> toRemove = new ArrayList<>();
+    private final List<Module> updateTargets = new ArrayList<>();
+    private final List<Module> updatedModules = new ArrayList<>();
+    private final List<Module> toAdd = new ArrayList<>();
+    private boolean clearsModules;
+    private CapGoal capGoal;
+
+    /**
+     * Removes every module in the transcript before the other changes in this
+     * batch are applied.
+     *
+     * @return this batch
+     */
+    public TranscriptBatch clearModules() {
+        clearsModules = true;
+        return this;
+    }
+
+    /**
+     * Adds {@code module} to the transcript.
+     *
+     * @param module module to be added
+     * @return this batch
+     */
+    public TranscriptBatch addModule(Module module) {
+        requireNonNull(module);
+        toAdd.add(module);
+        return this;
+    }
+
+    /**
+     * Adds every module in {@code modules} to the transcript.
+     *
+     * @param modules modules to be added
+     * @return this batch
+     */
+    public TranscriptBatch addModules(Collection<Module> modules) {
+        requireAllNonNull(modules);
+        toAdd.addAll(modules);
+        return this;
+    }
+
+    /**
+     * Removes {@code module} from the transcript.
+     *
+     * @param module module to be removed
+     * @return this batch
+     */
+    public TranscriptBatch removeModule(Module module) {
+        requireNonNull(module);
+        toRemove.add(module);
+        return this;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedModule}.
+     *
+     * @param target module to be replaced
+     * @param editedModule module that replaces {@code target}
+     * @return this batch
+     */
+    public TranscriptBatch updateModule(Module target, Module editedModule) {
+        requireAllNonNull(target, editedModule);
+        updateTargets.add(target);
+        updatedModules.add(editedModule);
+        return this;
+    }
+
+    /**
+     * Replaces the CAP goal of the transcript.
+     *
+     * @param capGoal the new CAP goal
+     * @return this batch
+     */
+    public TranscriptBatch setCapGoal(CapGoal capGoal) {
+        requireNonNull(capGoal);
+        this.capGoal = capGoal;
+        return this;
+    }
+
+    /**
+     * Returns true if this batch removes every module before applying its
+     * other changes.
+     */
+    public boolean clearsModules() {
+        return clearsModules;
+    }
+
+    /**
+     * Returns the modules to be removed.
+     */
+    public List<Module> getModulesToRemove() {
+        return Collections.unmodifiableList(toRemove);
+    }
+
+    /**
+     * Returns the modules to be replaced, in the same order as
+     * {@link #getUpdatedModules()}.
+     */
+    public List<Module> getUpdateTargets() {
+        return Collections.unmodifiableList(updateTargets);
+    }
+
+    /**
+     * Returns the replacements of {@link #getUpdateTargets()}.
+     */
+    public List<Module> getUpdatedModules() {
+        return Collections.unmodifiableList(updatedModules);
+    }
+
+    /**
+     * Returns the modules to be added.
+     */
+    public List<Module> getModulesToAdd() {
+        return Collections.unmodifiableList(toAdd);
+    }
+
+    /**
+     * Returns the new CAP goal, if this batch changes it.
+     */
+    public Optional<CapGoal> getCapGoal() {
+        return Optional.ofNullable(capGoal);
+    }
+
+    /**
+     * Returns true if this batch does not change anything.
+     */
+    public boolean isEmpty() {
+        return !clearsModules && toRemove.isEmpty() && updateTargets.isEmpty()
+                && toAdd.isEmpty() && capGoal == null;
+    }
+
+    @Override
+    public String toString() {
+        return (clearsModules ? "clear, " : "")
+                + toRemove.size() + " removed, "
+                + updateTargets.size() + " updated, "
+                + toAdd.size() + " added"
+                + (capGoal == null ? "" : ", goal " + capGoal);
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model;
+
+//@@author alexkmj
+/**
+ * Records the committed states of a {@link VersionedTranscript} so that they
+ * can be undone and redone.
+ */
+public interface TranscriptHistory {
+
+    /**
+     * Discards all recorded states and starts the history at
+     * {@code initialState}.
+     *
+     * @param initialState the state of the transcript when it was created
+     */
+    void reset(TranscriptSnapshot initialState);
+
+    /**
+     * Records {@code state} as the newest state, discarding every undone
+     * state.
+     *
+     * @param state the state of the transcript after a change
+     */
+    void commit(TranscriptSnapshot state);
+
+    /**
+     * Returns the number of states recorded, including the current state.
+     */
+    int size();
+
+    /**
+     * Returns true if {@link #undo()} has a state to return to.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if {@link #redo()} has a state to return to.
+     */
+    boolean canRedo();
+
+    /**
+     * Moves back to the previous state and returns it.
+     * <p>
+     * {@link #canUndo()} must be true.
+     *
+     * @return the state to be restored
+     */
+    TranscriptSnapshot undo();
+
+    /**
+     * Moves forward to the previously undone state and returns it.
+     * <p>
+     * {@link #canRedo()} must be true.
+     *
+     * @return the state to be restored
+     */
+    TranscriptSnapshot redo();
+}
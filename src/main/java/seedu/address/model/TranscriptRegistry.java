@@ -0,0 +1,313 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.storage.TranscriptStorage;
+
+//@@author alexkmj
+/**
+ * Manages the transcripts of many students, identified by name.
+ * <p>
+ * Each transcript has its own queue of tasks: a task is chained after the
+ * task submitted before it on the same transcript, and is only handed to the
+ * pool of threads once that task has finished. Tasks on the same transcript
+ * therefore run one at a time in the order they were submitted, while tasks
+ * on different transcripts run in parallel, and no thread of the pool ever
+ * waits for a busy transcript.
+ * <p>
+ * A transcript is read from its {@link TranscriptStorage} when the first task
+ * on it runs. Once more than a given number of transcripts are loaded, the
+ * least recently used ones without queued tasks are saved if they were
+ * changed and unloaded, to be read again by the next task on them. A
+ * transcript that is neither loaded nor has queued tasks is forgotten.
+ */
+public class TranscriptRegistry {
+
+    public static final String MESSAGE_LIMIT_CONSTRAINTS =
+            "The number of loaded transcripts and of threads must be positive";
+
+    private static final Logger logger = LogsCenter.getLogger(TranscriptRegistry.class);
+
+    private final Function<String, TranscriptStorage> storageFactory;
+    private final int maxLoadedTranscripts;
+    private final ExecutorService executor;
+
+    /**
+     * The transcripts that are loaded or have queued tasks. An entry is only
+     * added, queued on and removed inside {@code compute} on this map, so that
+     * a task is never queued on an entry that was removed.
+     */
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger loadedCount = new AtomicInteger();
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * Constructs a {@code TranscriptRegistry}.
+     *
+     * @param storageFactory returns the storage of the transcript with a name
+     * @param maxLoadedTranscripts the number of transcripts kept loaded
+     * @param threadCount the number of threads that run tasks
+     */
+    public TranscriptRegistry(Function<String, TranscriptStorage> storageFactory, int maxLoadedTranscripts,
+            int threadCount) {
+        requireNonNull(storageFactory);
+        checkArgument(maxLoadedTranscripts > 0 && threadCount > 0, MESSAGE_LIMIT_CONSTRAINTS);
+        this.storageFactory = storageFactory;
+        this.maxLoadedTranscripts = maxLoadedTranscripts;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "transcript-registry-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs {@code task} on the transcript named {@code name} on the pool of
+     * threads, after the tasks on that transcript submitted before it. The
+     * transcript is saved before it is unloaded if any task changed it.
+     *
+     * @param name the name of the transcript
+     * @param task the task, which may change the transcript
+     * @return the result of the task, or the exception thrown by the task or
+     *         by reading the transcript, once the transcripts in excess of
+     *         the limit have been unloaded
+     */
+    public <T> CompletableFuture<T> submit(String name, Function<VersionedTranscript, T> task) {
+        requireNonNull(name);
+        requireNonNull(task);
+        CompletableFuture<T> result = enqueue(name, entry -> entry.run(task));
+        return result.handle((ignored, e) -> evictIdleTranscripts())
+                .thenCompose(eviction -> eviction)
+                .thenCompose(ignored -> result);
+    }
+
+    /**
+     * Returns the number of transcripts loaded.
+     */
+    public int getLoadedCount() {
+        return loadedCount.get();
+    }
+
+    /**
+     * Saves every loaded transcript that was changed since it was last saved,
+     * after the tasks on it submitted before.
+     *
+     * @throws IOException if a transcript could not be saved; the others are
+     *         still saved
+     */
+    public void flush() throws IOException {
+        List<CompletableFuture<Void>> saves = new ArrayList<>();
+        for (String name : entries.keySet()) {
+            saves.add(enqueue(name, entry -> {
+                entry.save();
+                return null;
+            }));
+        }
+        IOException failure = null;
+        for (CompletableFuture<Void> save : saves) {
+            try {
+                save.join();
+            } catch (CompletionException e) {
+                if (!(e.getCause() instanceof IOException)) {
+                    throw e;
+                }
+                failure = (IOException) e.getCause();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Waits for the tasks submitted to finish, saves every changed transcript
+     * and stops the threads. No task can be submitted afterwards.
+     *
+     * @throws IOException if a transcript could not be saved
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Queues {@code action} on the entry of the transcript named
+     * {@code name}, creating the entry if there is none.
+     */
+    private <T> CompletableFuture<T> enqueue(String name, EntryAction<T> action) {
+        List<CompletableFuture<T>> result = new ArrayList<>(1);
+        entries.compute(name, (key, entry) -> {
+            Entry queuedOn = entry == null ? new Entry(key) : entry;
+            queuedOn.queuedCount++;
+            CompletableFuture<T> queued = queuedOn.tail.thenApplyAsync(ignored -> {
+                try {
+                    return action.apply(queuedOn);
+                } catch (DataConversionException | IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+            queuedOn.tail = queued.handle((ignored, e) -> null);
+            result.add(queued);
+            return queuedOn;
+        });
+        // outside compute, since the action may already have finished and the map cannot be updated recursively
+        result.get(0).whenComplete((ignored, e) -> dequeue(name));
+        return result.get(0);
+    }
+
+    /**
+     * Records that a task queued on the entry of {@code name} has finished,
+     * and forgets the entry if it is idle.
+     */
+    private void dequeue(String name) {
+        entries.computeIfPresent(name, (key, entry) -> {
+            entry.queuedCount--;
+            return entry.isIdle() ? null : entry;
+        });
+    }
+
+    /**
+     * Saves and unloads the least recently used transcripts without queued
+     * tasks until no more than the maximum number of transcripts are loaded.
+     *
+     * @return completes once those transcripts are unloaded, or kept loaded
+     *         because they could not be saved
+     */
+    private CompletableFuture<Void> evictIdleTranscripts() {
+        int excess = loadedCount.get() - maxLoadedTranscripts;
+        if (excess <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<Entry> loaded = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (entry.transcript != null && entry.queuedCount == 0) {
+                loaded.add(entry);
+            }
+        }
+        loaded.sort(Comparator.comparingLong(entry -> entry.lastUsed));
+        List<CompletableFuture<Void>> unloads = new ArrayList<>();
+        for (Entry entry : loaded.subList(0, Math.min(excess, loaded.size()))) {
+            CompletableFuture<Void> unload = enqueue(entry.name, queued -> {
+                queued.unload();
+                return null;
+            });
+            unloads.add(unload.exceptionally(e -> {
+                logger.warning("Failed to save transcript " + entry.name + ", keeping it loaded: " + e);
+                return null;
+            }));
+        }
+        return CompletableFuture.allOf(unloads.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * An action on an entry, run as one of the tasks queued on it.
+     */
+    @FunctionalInterface
+    private interface EntryAction<T> {
+        T apply(Entry entry) throws DataConversionException, IOException;
+    }
+
+    /**
+     * A named transcript, which is only read or changed by the tasks queued
+     * on it, one at a time.
+     */
+    private class Entry {
+        private final String name;
+
+        /** Completes once the last task queued on this entry has finished. Guarded by {@link #entries}. */
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+        /** The number of tasks queued on this entry that have not finished. Guarded by {@link #entries}. */
+        private int queuedCount;
+
+        private volatile VersionedTranscript transcript;
+        private volatile long lastUsed;
+        private boolean isChanged;
+
+        Entry(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns true if the transcript is not loaded and no task is queued.
+         */
+        boolean isIdle() {
+            return transcript == null && queuedCount == 0;
+        }
+
+        /**
+         * Runs {@code task} on the transcript, loading it first if needed,
+         * and records whether the task changed it.
+         */
+        <T> T run(Function<VersionedTranscript, T> task) throws DataConversionException, IOException {
+            load();
+            lastUsed = clock.incrementAndGet();
+            TranscriptSnapshot before = transcript.snapshot();
+            try {
+                return task.apply(transcript);
+            } finally {
+                TranscriptSnapshot after = transcript.snapshot();
+                if (!after.deltaFrom(before).isEmpty()
+                        || after.getCapGoal().getValue() != before.getCapGoal().getValue()) {
+                    isChanged = true;
+                }
+            }
+        }
+
+        /**
+         * Reads the transcript from its storage if it is not loaded.
+         */
+        void load() throws DataConversionException, IOException {
+            if (transcript != null) {
+                return;
+            }
+            ReadOnlyTranscript stored = storageFactory.apply(name).readTranscript().orElseGet(Transcript::new);
+            transcript = new VersionedTranscript(stored);
+            isChanged = false;
+            loadedCount.incrementAndGet();
+        }
+
+        /**
+         * Saves the transcript to its storage if it was changed.
+         */
+        void save() throws IOException {
+            if (transcript == null || !isChanged) {
+                return;
+            }
+            storageFactory.apply(name).saveTranscript(transcript.snapshot());
+            isChanged = false;
+        }
+
+        /**
+         * Saves the transcript if it was changed and unloads it.
+         */
+        void unload() throws IOException {
+            if (transcript == null) {
+                return;
+            }
+            save();
+            transcript = null;
+            loadedCount.decrementAndGet();
+        }
+    }
+}
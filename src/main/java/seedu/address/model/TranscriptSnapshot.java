@@ -0,0 +1,128 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.capgoal.CapGoal;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ModuleMapDelta;
+import seedu.address.model.module.PersistentModuleMap;
+
+//@@author alexkmj
+/**
+ * An immutable state of a {@link Transcript}.
+ * <p>
+ * The modules are held in a {@link PersistentModuleMap} that shares every
+ * unchanged module with the transcript it was taken from and with the other
+ * snapshots of that transcript, so a snapshot costs O(1) to take and only
+ * holds on to the modules that changed since the previous one.
+ */
+public final class TranscriptSnapshot implements ReadOnlyTranscript {
+
+    private final PersistentModuleMap modules;
+    private final CapGoal capGoal;
+    private final double currentCap;
+
+    /**
+     * The modules in list order, materialised on first use.
+     */
+    private volatile List<Module> moduleList;
+
+    /**
+     * Constructs a {@code TranscriptSnapshot}.
+     *
+     * @param modules the modules of the transcript
+     * @param capGoal the CAP goal of the transcript
+     * @param currentCap the current CAP of the transcript
+     */
+    TranscriptSnapshot(PersistentModuleMap modules, CapGoal capGoal, double currentCap) {
+        requireAllNonNull(modules, capGoal);
+        this.modules = modules;
+        this.capGoal = capGoal;
+        this.currentCap = currentCap;
+    }
+
+    /**
+     * Returns the modules of this snapshot.
+     */
+    PersistentModuleMap getModuleMap() {
+        return modules;
+    }
+
+    /**
+     * Returns the changes to the modules from {@code previous} to this
+     * snapshot. Only the modules that are not shared by both snapshots are
+     * compared, so this is cheap between successive snapshots of the same
+     * transcript.
+     *
+     * @param previous an earlier snapshot
+     * @return the changes to the modules since {@code previous}
+     */
+    public ModuleMapDelta deltaFrom(TranscriptSnapshot previous) {
+        return ModuleMapDelta.between(previous.modules, modules);
+    }
+
+    /**
+     * Returns the ordinal of the module with the same identity as
+     * {@code module}. The modules of the snapshot are in the order of their
+     * ordinals, and a module keeps its ordinal when it is edited.
+     *
+     * @param module a module of this snapshot
+     * @return the ordinal of the module
+     */
+    public long getOrdinal(Module module) {
+        return modules.getOrdinal(module);
+    }
+
+    @Override
+    public List<Module> getModules() {
+        List<Module> list = moduleList;
+        if (list == null) {
+            list = Collections.unmodifiableList(modules.toList());
+            moduleList = list;
+        }
+        return list;
+    }
+
+    @Override
+    public CapGoal getCapGoal() {
+        return capGoal;
+    }
+
+    @Override
+    public double getCurrentCap() {
+        return currentCap;
+    }
+
+    @Override
+    public List<Module> getCompletedModuleList() {
+        return Collections.unmodifiableList(
+                getModules().stream().filter(Module::hasCompleted).collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<Module> getIncompleteModuleList() {
+        return Collections.unmodifiableList(
+                getModules().stream().filter(module -> !module.hasCompleted()).collect(Collectors.toList()));
+    }
+
+    @Override
+    public String toString() {
+        return modules.size() + " modules";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TranscriptSnapshot // instanceof handles nulls
+                && modules.equals(((TranscriptSnapshot) other).modules));
+    }
+
+    @Override
+    public int hashCode() {
+        return modules.hashCode();
+    }
+}
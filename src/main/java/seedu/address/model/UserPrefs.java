@@ -15,6 +15,16 @@ public class UserPrefs {
     //TODO: REMOVE
     private Path addressBookFilePath = Paths.get("data", "addressbook.xml");
     private Path transcriptFilePath = Paths.get("data", "transcript.json");
+    //@@author alexkmj
+    private boolean undoJournalEnabled = false;
+    private int undoHistoryLimit = 0;
+    private int undoChangeLimit = 0;
+    private boolean compactJsonOutput = false;
+    private long transcriptSaveDelay = 200;
+    private boolean transcriptJournalEnabled = false;
+    private Path commandHistoryFilePath = Paths.get("data", "history.txt");
+    private int commandHistoryLimit = 1000;
+    //@@author
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -40,6 +50,100 @@ public class UserPrefs {
         this.transcriptFilePath = transcriptFilePath;
     }
 
+    //@@author alexkmj
+    /**
+     * Returns true if undo history is kept as a journal of changes rather
+     * than as snapshots of every state.
+     */
+    public boolean isUndoJournalEnabled() {
+        return undoJournalEnabled;
+    }
+
+    public void setUndoJournalEnabled(boolean undoJournalEnabled) {
+        this.undoJournalEnabled = undoJournalEnabled;
+    }
+
+    /**
+     * Returns the maximum number of commands that can be undone when the undo
+     * journal is enabled, or 0 for no limit.
+     */
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    /**
+     * Returns the maximum number of changed modules kept by the undo journal,
+     * or 0 for no limit.
+     */
+    public int getUndoChangeLimit() {
+        return undoChangeLimit;
+    }
+
+    public void setUndoChangeLimit(int undoChangeLimit) {
+        this.undoChangeLimit = undoChangeLimit;
+    }
+
+    /**
+     * Returns true if the transcript file is written as compact json without
+     * whitespace rather than pretty printed.
+     */
+    public boolean isCompactJsonOutput() {
+        return compactJsonOutput;
+    }
+
+    public void setCompactJsonOutput(boolean compactJsonOutput) {
+        this.compactJsonOutput = compactJsonOutput;
+    }
+
+    /**
+     * Returns the time in milliseconds to wait for further changes to the
+     * transcript before saving it, or 0 if it is saved as soon as it changes.
+     */
+    public long getTranscriptSaveDelay() {
+        return transcriptSaveDelay;
+    }
+
+    public void setTranscriptSaveDelay(long transcriptSaveDelay) {
+        this.transcriptSaveDelay = transcriptSaveDelay;
+    }
+
+    /**
+     * Returns true if changes to the transcript are appended to a journal
+     * rather than rewriting the whole data file.
+     */
+    public boolean isTranscriptJournalEnabled() {
+        return transcriptJournalEnabled;
+    }
+
+    public void setTranscriptJournalEnabled(boolean transcriptJournalEnabled) {
+        this.transcriptJournalEnabled = transcriptJournalEnabled;
+    }
+
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryFilePath;
+    }
+
+    public void setCommandHistoryFilePath(Path commandHistoryFilePath) {
+        this.commandHistoryFilePath = commandHistoryFilePath;
+    }
+
+    /**
+     * Returns the maximum number of commands kept in the command history,
+     * both in memory and in its file.
+     */
+    public int getCommandHistoryLimit() {
+        return commandHistoryLimit;
+    }
+
+    public void setCommandHistoryLimit(int commandHistoryLimit) {
+        this.commandHistoryLimit = commandHistoryLimit;
+    }
+    //@@author
+
     // TODO: REMOVE
     public Path getAddressBookFilePath() {
         return addressBookFilePath;
@@ -63,12 +167,22 @@ public class UserPrefs {
 
         return Objects.equals(guiSettings, o.guiSettings)
                 && Objects.equals(addressBookFilePath, o.addressBookFilePath) //TODO: REMOVE
-                && Objects.equals(transcriptFilePath, o.transcriptFilePath);
+                && Objects.equals(transcriptFilePath, o.transcriptFilePath)
+                && undoJournalEnabled == o.undoJournalEnabled
+                && undoHistoryLimit == o.undoHistoryLimit
+                && undoChangeLimit == o.undoChangeLimit
+                && compactJsonOutput == o.compactJsonOutput
+                && transcriptSaveDelay == o.transcriptSaveDelay
+                && transcriptJournalEnabled == o.transcriptJournalEnabled
+                && Objects.equals(commandHistoryFilePath, o.commandHistoryFilePath)
+                && commandHistoryLimit == o.commandHistoryLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, transcriptFilePath);
+        return Objects.hash(guiSettings, transcriptFilePath, undoJournalEnabled,
+                undoHistoryLimit, undoChangeLimit, compactJsonOutput, transcriptSaveDelay,
+                transcriptJournalEnabled, commandHistoryFilePath, commandHistoryLimit);
     }
 
     @Override
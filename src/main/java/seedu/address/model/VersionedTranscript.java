@@ -1,41 +1,55 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
-import java.util.List;
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.Metrics;
+import seedu.address.commons.core.jfr.FlightEvents;
+import seedu.address.commons.core.jfr.FlightEvents.HistorySpan;
 
 //@@author alexkmj
 /**
  * {@code Transcript} that keeps track of its own history.
+ * <p>
+ * Committed states are recorded by a {@link TranscriptHistory}: a
+ * {@link SnapshotHistory} by default, or a {@link JournalHistory} when the
+ * history has to fit a memory budget. Restoring a state only touches the
+ * modules that differ from the current state.
  */
 public class VersionedTranscript extends Transcript {
 
-    private final List<ReadOnlyTranscript> transcriptStateList;
-    private int currentStatePointer;
+    private static final LatencyHistogram commitLatency = Metrics.histogram("transcript.commit");
+
+    private final TranscriptHistory history;
 
     public VersionedTranscript(ReadOnlyTranscript initialState) {
+        this(initialState, new SnapshotHistory());
+    }
+
+    /**
+     * Creates a {@code VersionedTranscript} that records its states in
+     * {@code history}.
+     */
+    public VersionedTranscript(ReadOnlyTranscript initialState, TranscriptHistory history) {
         super(initialState);
+        requireNonNull(history);
 
-        transcriptStateList = new ArrayList<>();
-        transcriptStateList.add(new Transcript(initialState));
-        currentStatePointer = 0;
+        this.history = history;
+        history.reset(snapshot());
     }
 
     /**
-     * Saves a copy of the current {@code Transcript} state at the end of the
-     * state list.
+     * Saves the current {@code Transcript} state as the newest state in the
+     * history.
      * <p>
-     * Undone states are removed from the state list.
+     * Undone states are removed from the history.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        transcriptStateList.add(new Transcript(this));
-        currentStatePointer++;
-    }
-
-    private void removeStatesAfterCurrentPointer() {
-        int fromIndex = currentStatePointer + 1;
-        int toIndex = transcriptStateList.size();
-        transcriptStateList.subList(fromIndex, toIndex).clear();
+        long start = System.nanoTime();
+        HistorySpan span = FlightEvents.beginHistory("commit");
+        history.commit(snapshot());
+        commitLatency.recordSince(start);
+        span.finish(history.size());
     }
 
     /**
@@ -45,8 +59,9 @@ public class VersionedTranscript extends Transcript {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(transcriptStateList.get(currentStatePointer));
+        HistorySpan span = FlightEvents.beginHistory("undo");
+        restore(history.undo());
+        span.finish(history.size());
     }
 
     /**
@@ -56,22 +71,23 @@ public class VersionedTranscript extends Transcript {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(transcriptStateList.get(currentStatePointer));
+        HistorySpan span = FlightEvents.beginHistory("redo");
+        restore(history.redo());
+        span.finish(history.size());
     }
 
     /**
      * Returns true if {@code undo()} has transcript states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has transcript states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < transcriptStateList.size() - 1;
+        return history.canRedo();
     }
 
     /**
@@ -108,7 +124,6 @@ public class VersionedTranscript extends Transcript {
 
         // state check
         return super.equals(otherVersionedTranscript)
-                && transcriptStateList.equals(otherVersionedTranscript.transcriptStateList)
-                && currentStatePointer == otherVersionedTranscript.currentStatePointer;
+                && history.equals(otherVersionedTranscript.history);
     }
 }
@@ -21,6 +21,11 @@ public class Credit {
      */
     public final int value;
 
+    /**
+     * Cached hash code of the {@code value}.
+     */
+    private final transient int hash;
+
     /**
      * Constructs an {@code Credit}.
      *
@@ -30,6 +35,7 @@ public class Credit {
         requireNonNull(credits);
         checkArgument(isValidCredit(credits), MESSAGE_CREDIT_CONSTRAINTS);
         value = credits;
+        hash = Integer.toString(value).hashCode();
     }
 
     /**
@@ -77,6 +83,6 @@ public class Credit {
 
     @Override
     public int hashCode() {
-        return toString().hashCode();
+        return hash;
     }
 }
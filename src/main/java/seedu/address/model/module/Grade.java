@@ -216,6 +216,18 @@ public class Grade {
         return State.TARGET.equals(state);
     }
 
+    //@@author alexkmj
+    /**
+     * Returns the name of the state of this grade, as accepted by
+     * {@link #Grade(String, String)}.
+     *
+     * @return name of the state
+     */
+    public String getStateName() {
+        return state.name();
+    }
+    //@@author
+
     /**
      * Creates a new Grade that is adjusted
      * @param grade
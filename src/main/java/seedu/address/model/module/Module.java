@@ -2,13 +2,16 @@ package seedu.address.model.module;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Objects;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import seedu.address.storage.JsonModuleSerializer;
 
 /**
  * Represents a Module in the transcript.
  * <p>
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
+@JsonSerialize(using = JsonModuleSerializer.class)
 public class Module {
 
     //@@author alexkmj
@@ -58,6 +61,18 @@ public class Module {
      */
     private final boolean completed;
 
+    //@@author alexkmj
+    /**
+     * Identity of this module, created on first use.
+     */
+    private transient ModuleKey key;
+
+    //@@author alexkmj
+    /**
+     * Hash code of this module, computed on first use.
+     */
+    private transient int hash;
+
     //@@author alexkmj
     public Module(Code code, Year year, Semester semester, Credit credit, Grade grade,
             boolean completed) {
@@ -200,6 +215,23 @@ public class Module {
         return (grade == null) || grade.isComplete();
     }
 
+    //@@author alexkmj
+    /**
+     * Returns the identity of this module.
+     * <p>
+     * Modules that are {@link #isSameModule(Module)} share equal keys.
+     *
+     * @return identity of this module
+     */
+    ModuleKey getKey() {
+        ModuleKey result = key;
+        if (result == null) {
+            result = new ModuleKey(code, year, semester);
+            key = result;
+        }
+        return result;
+    }
+
     //@@author alexkmj
     /**
      * Returns true if module code, year, and semester are the same.
@@ -278,8 +310,15 @@ public class Module {
     //@@author alexkmj
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(code, year, semester, credits, grade, completed);
+        int result = hash;
+        if (result == 0) {
+            result = getKey().hashCode();
+            result = 31 * result + credits.hashCode();
+            result = 31 * result + grade.hashCode();
+            result = 31 * result + Boolean.hashCode(hasCompleted());
+            hash = result;
+        }
+        return result;
     }
 
 
@@ -0,0 +1,93 @@
+package seedu.address.model.module;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+//@@author alexkmj
+/**
+ * Represents the identity of a {@link Module} in the transcript.
+ * <p>
+ * Two modules share a {@code ModuleKey} if and only if
+ * {@link Module#isSameModule(Module)} is true for them.
+ * <p>
+ * Guarantees: immutable; hash code is computed once on construction.
+ */
+final class ModuleKey {
+
+    /**
+     * Code of the module.
+     */
+    private final Code code;
+
+    /**
+     * Year the module was taken.
+     */
+    private final Year year;
+
+    /**
+     * Semester the module was taken.
+     */
+    private final Semester semester;
+
+    /**
+     * Cached hash code of this key.
+     */
+    private final int hash;
+
+    /**
+     * Constructs a {@code ModuleKey}.
+     *
+     * @param code code of the module
+     * @param year year the module was taken
+     * @param semester semester the module was taken
+     */
+    ModuleKey(Code code, Year year, Semester semester) {
+        requireAllNonNull(code, year, semester);
+        this.code = code;
+        this.year = year;
+        this.semester = semester;
+        this.hash = (31 * code.hashCode() + year.hashCode()) * 31
+                + semester.hashCode();
+    }
+
+    /**
+     * Returns the code of the module.
+     *
+     * @return code of the module
+     */
+    Code getCode() {
+        return code;
+    }
+
+    /**
+     * Compares the code, year and semester of both ModuleKey object.
+     *
+     * @param other ModuleKey object compared against this object
+     * @return true if both are the same object or identify the same module
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ModuleKey)) {
+            return false;
+        }
+
+        ModuleKey otherKey = (ModuleKey) other;
+        return hash == otherKey.hash
+                && code.equals(otherKey.code)
+                && year.equals(otherKey.year)
+                && semester.equals(otherKey.semester);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return code + " " + year + " " + semester;
+    }
+}
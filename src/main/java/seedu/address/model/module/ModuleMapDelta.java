@@ -0,0 +1,164 @@
+package seedu.address.model.module;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//@@author alexkmj
+/**
+ * The difference between two versions of a {@link PersistentModuleMap}.
+ * <p>
+ * A delta only holds the modules that were added, removed or replaced, so it
+ * is much smaller than either version when few modules changed. It can be
+ * applied to the older version to obtain the newer one, or reverted on the
+ * newer version to obtain the older one.
+ * <p>
+ * Guarantees: immutable.
+ */
+public final class ModuleMapDelta {
+
+    /**
+     * Entries of the older version, or null for modules that were added.
+     */
+    private final PersistentModuleMap.Entry[] before;
+
+    /**
+     * Entries of the newer version, or null for modules that were removed.
+     */
+    private final PersistentModuleMap.Entry[] after;
+
+    private ModuleMapDelta(PersistentModuleMap.Entry[] before,
+            PersistentModuleMap.Entry[] after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Returns the delta that turns {@code from} into {@code to}.
+     *
+     * @param from the older version
+     * @param to the newer version
+     * @return the changes between both versions
+     */
+    public static ModuleMapDelta between(PersistentModuleMap from, PersistentModuleMap to) {
+        requireAllNonNull(from, to);
+        List<PersistentModuleMap.Entry> befores = new ArrayList<>();
+        List<PersistentModuleMap.Entry> afters = new ArrayList<>();
+        from.diffEntries(to, (oldEntry, newEntry) -> {
+            befores.add(oldEntry);
+            afters.add(newEntry);
+        });
+        return new ModuleMapDelta(
+                befores.toArray(new PersistentModuleMap.Entry[0]),
+                afters.toArray(new PersistentModuleMap.Entry[0]));
+    }
+
+    /**
+     * Returns the newer version, given the older version this delta was
+     * computed from.
+     *
+     * @param from the older version
+     * @return the newer version
+     */
+    public PersistentModuleMap apply(PersistentModuleMap from) {
+        return replace(from, before, after);
+    }
+
+    /**
+     * Returns the older version, given the newer version this delta was
+     * computed from.
+     *
+     * @param to the newer version
+     * @return the older version
+     */
+    public PersistentModuleMap revert(PersistentModuleMap to) {
+        return replace(to, after, before);
+    }
+
+    /**
+     * Returns the number of modules that changed.
+     *
+     * @return number of changed modules
+     */
+    public int size() {
+        return before.length;
+    }
+
+    /**
+     * Returns true if no module changed.
+     *
+     * @return true if both versions hold the same modules
+     */
+    public boolean isEmpty() {
+        return before.length == 0;
+    }
+
+    /**
+     * Visits the changes of this delta in the order they must be applied to
+     * a map from ordinal to module: first the ordinals of the modules that
+     * were removed, then the modules that were added or replaced with their
+     * ordinals. A module replaced in place is only visited as put.
+     *
+     * @param visitor the visitor of the changes
+     */
+    public void forEachChange(DeltaVisitor visitor) {
+        for (int i = 0; i < before.length; i++) {
+            if (before[i] != null && (after[i] == null || after[i].ordinal != before[i].ordinal)) {
+                visitor.removed(before[i].ordinal);
+            }
+        }
+        for (PersistentModuleMap.Entry entry : after) {
+            if (entry != null) {
+                visitor.put(entry.ordinal, entry.module);
+            }
+        }
+    }
+
+    /**
+     * Removes every entry in {@code removed} from {@code map} and then puts
+     * every entry in {@code added}.
+     */
+    private static PersistentModuleMap replace(PersistentModuleMap map,
+            PersistentModuleMap.Entry[] removed, PersistentModuleMap.Entry[] added) {
+        PersistentModuleMap result = map;
+        for (PersistentModuleMap.Entry entry : removed) {
+            if (entry != null) {
+                result = result.remove(entry.key);
+            }
+        }
+        for (PersistentModuleMap.Entry entry : added) {
+            if (entry != null) {
+                result = result.put(entry.module, entry.ordinal);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return size() + " changed modules";
+    }
+
+    /**
+     * Visits the changes of a {@code ModuleMapDelta} by the ordinals of the
+     * modules, which give the order of the modules in their list.
+     */
+    public interface DeltaVisitor {
+        /**
+         * Visits the module with {@code ordinal} that was removed.
+         *
+         * @param ordinal the ordinal of the removed module
+         */
+        void removed(long ordinal);
+
+        /**
+         * Visits {@code module}, which was added with {@code ordinal} or
+         * replaced the module with {@code ordinal}.
+         *
+         * @param ordinal the ordinal of the module
+         * @param module the module added or put in place
+         */
+        void put(long ordinal, Module module);
+    }
+}
@@ -0,0 +1,568 @@
+package seedu.address.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import seedu.address.model.module.exceptions.ModuleNotFoundException;
+
+//@@author alexkmj
+/**
+ * An immutable map from module identity to module, implemented as a hash
+ * array mapped trie.
+ * <p>
+ * Every update returns a new map that shares all untouched branches with the
+ * map it was derived from, so an update costs O(log n) and keeping many
+ * versions of a transcript costs memory only for what changed between them.
+ * Two versions can be compared in time proportional to their differences,
+ * since shared branches are skipped by reference.
+ * <p>
+ * Each module is stored with an ordinal that records its position in the
+ * {@link UniqueModuleList} it was taken from; {@link #toList()} returns the
+ * modules in that order.
+ */
+public final class PersistentModuleMap {
+
+    /**
+     * Number of hash bits consumed by each level of the trie.
+     */
+    private static final int BITS_PER_LEVEL = 5;
+
+    /**
+     * Mask for the hash bits of one level of the trie.
+     */
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    /**
+     * Number of bits in a hash code, after which keys can only collide.
+     */
+    private static final int HASH_BITS = 32;
+
+    private static final PersistentModuleMap EMPTY =
+            new PersistentModuleMap(BitmapNode.EMPTY, 0);
+
+    private final BitmapNode root;
+    private final int size;
+
+    private PersistentModuleMap(BitmapNode root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @return the empty map
+     */
+    public static PersistentModuleMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the number of modules in this map.
+     *
+     * @return number of modules
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this map contains no modules.
+     *
+     * @return true if this map is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if this map contains a module equal to {@code module}.
+     *
+     * @param module the module to look for
+     * @return true if an equal module is in this map
+     */
+    public boolean contains(Module module) {
+        requireNonNull(module);
+        Entry entry = getEntry(module.getKey());
+        return entry != null && entry.module.equals(module);
+    }
+
+    /**
+     * Returns the ordinal of the module with the same identity as
+     * {@code module}, which gives its position relative to the other modules.
+     *
+     * @param module a module with the identity to look for
+     * @return the ordinal of the module with that identity
+     * @throws ModuleNotFoundException if there is no module with that identity
+     */
+    public long getOrdinal(Module module) {
+        requireNonNull(module);
+        Entry entry = getEntry(module.getKey());
+        if (entry == null) {
+            throw new ModuleNotFoundException();
+        }
+        return entry.ordinal;
+    }
+
+    /**
+     * Returns the module with identity {@code key}, or null if there is none.
+     */
+    Module get(ModuleKey key) {
+        Entry entry = getEntry(key);
+        return entry == null ? null : entry.module;
+    }
+
+    /**
+     * Returns the entry with identity {@code key}, or null if there is none.
+     */
+    Entry getEntry(ModuleKey key) {
+        return root.get(key, key.hashCode(), 0);
+    }
+
+    /**
+     * Returns a map with {@code module} stored under its identity at
+     * {@code ordinal}, replacing any module with the same identity.
+     */
+    PersistentModuleMap put(Module module, long ordinal) {
+        ModuleKey key = module.getKey();
+        Entry entry = new Entry(key, module, ordinal);
+        Entry existing = getEntry(key);
+        BitmapNode newRoot = (BitmapNode) root.put(entry, 0);
+        return new PersistentModuleMap(newRoot, existing == null ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without the module with identity {@code key}.
+     */
+    PersistentModuleMap remove(ModuleKey key) {
+        if (getEntry(key) == null) {
+            return this;
+        }
+
+        Object newRoot = root.remove(key, key.hashCode(), 0);
+        if (newRoot == null) {
+            return EMPTY;
+        }
+        if (newRoot instanceof Entry) {
+            newRoot = BitmapNode.EMPTY.put((Entry) newRoot, 0);
+        }
+        return new PersistentModuleMap((BitmapNode) newRoot, size - 1);
+    }
+
+    /**
+     * Returns the modules in this map, in the order of their ordinals.
+     *
+     * @return modules ordered by their position in the list they came from
+     */
+    public List<Module> toList() {
+        List<Entry> entries = entries();
+        List<Module> modules = new ArrayList<>(entries.size());
+        entries.forEach(entry -> modules.add(entry.module));
+        return modules;
+    }
+
+    /**
+     * Returns the entries in this map, in the order of their ordinals.
+     */
+    List<Entry> entries() {
+        List<Entry> entries = new ArrayList<>(size);
+        forEachEntry(root, entries::add);
+        entries.sort(Comparator.comparingLong(entry -> entry.ordinal));
+        return entries;
+    }
+
+    /**
+     * Reports every module whose identity maps to a different module, or to
+     * the same module at a different position, in {@code other}.
+     * <p>
+     * Runs in time proportional to the differences between both maps when
+     * {@code other} was derived from this map or vice versa.
+     *
+     * @param other the map to compare against
+     * @param visitor receives the module in this map, or null if absent, and
+     * the module with the same identity in {@code other}, or null if absent
+     */
+    public void diff(PersistentModuleMap other, ChangeVisitor visitor) {
+        requireNonNull(other);
+        requireNonNull(visitor);
+        diffEntries(other, (before, after) -> visitor.visit(
+                before == null ? null : before.module,
+                after == null ? null : after.module));
+    }
+
+    /**
+     * Same as {@link #diff(PersistentModuleMap, ChangeVisitor)}, but reports
+     * the entries including their ordinals.
+     */
+    void diffEntries(PersistentModuleMap other, EntryVisitor visitor) {
+        diffNodes(root, other.root, 0, visitor);
+    }
+
+    /**
+     * Returns true if both maps contain equal modules in the same order.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersistentModuleMap)) {
+            return false;
+        }
+
+        PersistentModuleMap otherMap = (PersistentModuleMap) other;
+        return size == otherMap.size && toList().equals(otherMap.toList());
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return size + " modules";
+    }
+
+    /**
+     * Receives a pair of modules that have the same identity but differ
+     * between two maps.
+     */
+    @FunctionalInterface
+    public interface ChangeVisitor {
+        /**
+         * Visits one difference between two maps.
+         *
+         * @param before module in the first map, or null if absent
+         * @param after module in the second map, or null if absent
+         */
+        void visit(Module before, Module after);
+    }
+
+    /**
+     * Receives a pair of entries that have the same identity but differ
+     * between two maps.
+     */
+    @FunctionalInterface
+    interface EntryVisitor {
+        void visit(Entry before, Entry after);
+    }
+
+    //=========== Trie ==========================================================
+
+    /**
+     * Compares the subtrees {@code a} and {@code b} found at the same
+     * position in two tries.
+     */
+    private static void diffNodes(Object a, Object b, int shift, EntryVisitor visitor) {
+        if (a == b) {
+            return;
+        }
+
+        if (a == null) {
+            forEachEntry(b, entry -> visitor.visit(null, entry));
+        } else if (b == null) {
+            forEachEntry(a, entry -> visitor.visit(entry, null));
+        } else if (a instanceof BitmapNode && b instanceof BitmapNode) {
+            BitmapNode nodeA = (BitmapNode) a;
+            BitmapNode nodeB = (BitmapNode) b;
+            int bits = nodeA.bitmap | nodeB.bitmap;
+            while (bits != 0) {
+                int bit = Integer.lowestOneBit(bits);
+                bits &= ~bit;
+                diffNodes(nodeA.child(bit), nodeB.child(bit), shift + BITS_PER_LEVEL, visitor);
+            }
+        } else {
+            diffByKey(a, b, visitor);
+        }
+    }
+
+    /**
+     * Compares two small subtrees that do not share a shape by matching their
+     * entries by identity.
+     */
+    private static void diffByKey(Object a, Object b, EntryVisitor visitor) {
+        List<Entry> entriesA = new ArrayList<>();
+        List<Entry> entriesB = new ArrayList<>();
+        forEachEntry(a, entriesA::add);
+        forEachEntry(b, entriesB::add);
+
+        for (Entry entryA : entriesA) {
+            Entry match = null;
+            for (Entry entryB : entriesB) {
+                if (entryB.key.equals(entryA.key)) {
+                    match = entryB;
+                    break;
+                }
+            }
+
+            if (match == null) {
+                visitor.visit(entryA, null);
+            } else if (!entryA.isSameAs(match)) {
+                visitor.visit(entryA, match);
+            }
+        }
+
+        for (Entry entryB : entriesB) {
+            boolean isNew = entriesA.stream().noneMatch(entryA -> entryA.key.equals(entryB.key));
+            if (isNew) {
+                visitor.visit(null, entryB);
+            }
+        }
+    }
+
+    /**
+     * Passes every entry in the subtree {@code node} to {@code action}.
+     */
+    private static void forEachEntry(Object node, Consumer<Entry> action) {
+        if (node instanceof Entry) {
+            action.accept((Entry) node);
+        } else if (node instanceof BitmapNode) {
+            for (Object child : ((BitmapNode) node).children) {
+                forEachEntry(child, action);
+            }
+        } else if (node instanceof CollisionNode) {
+            for (Entry entry : ((CollisionNode) node).entries) {
+                action.accept(entry);
+            }
+        }
+    }
+
+    /**
+     * Returns a subtree at depth {@code shift} that holds both entries, which
+     * must have different identities.
+     */
+    private static Object merge(Entry a, Entry b, int shift) {
+        if (shift >= HASH_BITS) {
+            return new CollisionNode(a.hash, new Entry[] {a, b});
+        }
+
+        int bitA = bitFor(a.hash, shift);
+        int bitB = bitFor(b.hash, shift);
+        if (bitA == bitB) {
+            return new BitmapNode(bitA, new Object[] {merge(a, b, shift + BITS_PER_LEVEL)});
+        }
+
+        Object[] children = Integer.compareUnsigned(bitA, bitB) < 0
+                ? new Object[] {a, b}
+                : new Object[] {b, a};
+        return new BitmapNode(bitA | bitB, children);
+    }
+
+    /**
+     * Returns the bit that selects the child for {@code hash} at depth
+     * {@code shift}.
+     */
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    /**
+     * A module stored in the trie together with its identity and ordinal.
+     */
+    static final class Entry {
+        final ModuleKey key;
+        final int hash;
+        final Module module;
+        final long ordinal;
+
+        Entry(ModuleKey key, Module module, long ordinal) {
+            this.key = key;
+            this.hash = key.hashCode();
+            this.module = module;
+            this.ordinal = ordinal;
+        }
+
+        /**
+         * Returns true if {@code other} holds an equal module at the same
+         * ordinal.
+         */
+        boolean isSameAs(Entry other) {
+            return this == other
+                    || ordinal == other.ordinal && module.equals(other.module);
+        }
+    }
+
+    /**
+     * An inner node of the trie whose children are selected by a bitmap of
+     * the occupied slots.
+     */
+    private static final class BitmapNode {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        final int bitmap;
+        final Object[] children;
+
+        BitmapNode(int bitmap, Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        Object child(int bit) {
+            return (bitmap & bit) == 0 ? null : children[indexOf(bit)];
+        }
+
+        Entry get(ModuleKey key, int hash, int shift) {
+            Object child = child(bitFor(hash, shift));
+            if (child == null) {
+                return null;
+            }
+            if (child instanceof Entry) {
+                Entry entry = (Entry) child;
+                return entry.key.equals(key) ? entry : null;
+            }
+            if (child instanceof CollisionNode) {
+                return ((CollisionNode) child).get(key);
+            }
+            return ((BitmapNode) child).get(key, hash, shift + BITS_PER_LEVEL);
+        }
+
+        /**
+         * Returns this node with {@code entry} added at depth {@code shift},
+         * replacing any entry with the same identity.
+         */
+        Object put(Entry entry, int shift) {
+            int bit = bitFor(entry.hash, shift);
+            int index = indexOf(bit);
+
+            if ((bitmap & bit) == 0) {
+                Object[] newChildren = new Object[children.length + 1];
+                System.arraycopy(children, 0, newChildren, 0, index);
+                newChildren[index] = entry;
+                System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+                return new BitmapNode(bitmap | bit, newChildren);
+            }
+
+            Object child = children[index];
+            Object newChild;
+            if (child instanceof Entry) {
+                Entry existing = (Entry) child;
+                newChild = existing.key.equals(entry.key)
+                        ? entry
+                        : merge(existing, entry, shift + BITS_PER_LEVEL);
+            } else if (child instanceof CollisionNode) {
+                newChild = ((CollisionNode) child).put(entry);
+            } else {
+                newChild = ((BitmapNode) child).put(entry, shift + BITS_PER_LEVEL);
+            }
+
+            Object[] newChildren = children.clone();
+            newChildren[index] = newChild;
+            return new BitmapNode(bitmap, newChildren);
+        }
+
+        /**
+         * Returns this node without {@code key}: null if nothing is left, an
+         * {@code Entry} if a single entry is left, or a node otherwise.
+         */
+        Object remove(ModuleKey key, int hash, int shift) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+
+            int index = indexOf(bit);
+            Object child = children[index];
+            Object newChild;
+            if (child instanceof Entry) {
+                newChild = ((Entry) child).key.equals(key) ? null : child;
+            } else if (child instanceof CollisionNode) {
+                newChild = ((CollisionNode) child).remove(key);
+            } else {
+                newChild = ((BitmapNode) child).remove(key, hash, shift + BITS_PER_LEVEL);
+            }
+
+            if (newChild == child) {
+                return this;
+            }
+
+            if (newChild == null) {
+                if (children.length == 1) {
+                    return null;
+                }
+                if (children.length == 2 && children[1 - index] instanceof Entry) {
+                    return children[1 - index];
+                }
+                Object[] newChildren = new Object[children.length - 1];
+                System.arraycopy(children, 0, newChildren, 0, index);
+                System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+                return new BitmapNode(bitmap & ~bit, newChildren);
+            }
+
+            if (children.length == 1 && newChild instanceof Entry) {
+                return newChild;
+            }
+            Object[] newChildren = children.clone();
+            newChildren[index] = newChild;
+            return new BitmapNode(bitmap, newChildren);
+        }
+    }
+
+    /**
+     * A leaf of the trie holding entries whose identities have equal hashes.
+     */
+    private static final class CollisionNode {
+        final int hash;
+        final Entry[] entries;
+
+        CollisionNode(int hash, Entry[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        Entry get(ModuleKey key) {
+            for (Entry entry : entries) {
+                if (entry.key.equals(key)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns this node with {@code entry} added, replacing any entry
+         * with the same identity.
+         */
+        CollisionNode put(Entry entry) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(entry.key)) {
+                    Entry[] newEntries = entries.clone();
+                    newEntries[i] = entry;
+                    return new CollisionNode(hash, newEntries);
+                }
+            }
+            Entry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+            newEntries[entries.length] = entry;
+            return new CollisionNode(hash, newEntries);
+        }
+
+        /**
+         * Returns this node without {@code key}: the remaining entry if only
+         * one is left, or a node otherwise.
+         */
+        Object remove(ModuleKey key) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(key)) {
+                    if (entries.length == 2) {
+                        return entries[1 - i];
+                    }
+                    Entry[] newEntries = new Entry[entries.length - 1];
+                    System.arraycopy(entries, 0, newEntries, 0, i);
+                    System.arraycopy(entries, i + 1, newEntries, i, entries.length - i - 1);
+                    return new CollisionNode(hash, newEntries);
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package seedu.address.model.module;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-
 import seedu.address.model.module.exceptions.DuplicateModuleException;
 import seedu.address.model.module.exceptions.ModuleNotFoundException;
 import seedu.address.model.module.exceptions.MultipleModuleEntryFoundException;
@@ -25,15 +30,43 @@ import seedu.address.model.module.exceptions.MultipleModuleEntryFoundException;
  * As such, adding and updating of modules uses {@code moduleA.equals(moduleB)}
  * for equality so as to ensure that the module being added or updated is unique
  * in terms of identity in the {@code UniqueModuleList}.
+ * <p>
+ * Modules are indexed by identity and by {@link Code}, so that membership
+ * checks and lookups do not scan the list. The identity index is a
+ * {@link PersistentModuleMap}, so {@link #snapshot()} is O(1) and
+ * {@link #restore(PersistentModuleMap, PersistentModuleMap.ChangeVisitor)}
+ * only touches the modules that differ from the snapshot.
+ * <p>
+ * The modules are kept in a plain list without change notifications. The UI
+ * adapts the modules into an observable list of its own.
  */
 public class UniqueModuleList implements Iterable<Module> {
     //@@author alexkmj
     /**
-     * Creates an observable list of module.
+     * Creates a list of module.
      * See {@link Module}.
      */
-    private final ObservableList<Module> internalList =
-            FXCollections.observableArrayList();
+    private final List<Module> internalList = new ArrayList<>();
+
+    /**
+     * Maps the identity of every module in {@link #internalList} to the
+     * module and its ordinal. Ordinals increase along {@link #internalList}.
+     */
+    private transient PersistentModuleMap identityIndex =
+            PersistentModuleMap.empty();
+
+    /**
+     * Ordinal given to the next module appended to {@link #internalList}.
+     * Never decreases, so that ordinals stay ordered across snapshots.
+     */
+    private transient long nextOrdinal;
+
+    /**
+     * Maps the code of every module in {@link #internalList} to the modules
+     * with that code.
+     */
+    private final transient Map<Code, List<Module>> codeIndex =
+            new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent module as the given
@@ -44,7 +77,7 @@ public class UniqueModuleList implements Iterable<Module> {
      */
     public boolean contains(Module toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameModule);
+        return identityIndex.get(toCheck.getKey()) != null;
     }
 
     /**
@@ -59,6 +92,7 @@ public class UniqueModuleList implements Iterable<Module> {
         if (contains(toAdd)) {
             throw new DuplicateModuleException();
         }
+        index(toAdd);
         internalList.add(toAdd);
     }
     //@@author
@@ -66,12 +100,24 @@ public class UniqueModuleList implements Iterable<Module> {
     //@@author jeremiah-ang
     /**
      * Adds all module in a list to the list.
+     * <p>
+     * The modules must not exist in the list and must be unique among
+     * themselves.
      *
      * @param modules collection of modules to add
      * @return true if this list changed as a result of the call
      */
     public boolean addAll(Collection<Module> modules) {
-        return internalList.addAll(modules);
+        requireAllNonNull(modules);
+        List<Module> toAdd = new ArrayList<>(modules);
+        if (!modulesAreUnique(toAdd)
+                || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateModuleException();
+        }
+
+        toAdd.forEach(this::index);
+        internalList.addAll(toAdd);
+        return !toAdd.isEmpty();
     }
     //@@author
 
@@ -89,8 +135,7 @@ public class UniqueModuleList implements Iterable<Module> {
     public void setModule(Module target, Module editedModule) {
         requireAllNonNull(target, editedModule);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(identityIndex.get(target.getKey()))) {
             throw new ModuleNotFoundException();
         }
 
@@ -98,6 +143,10 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
 
+        int index = internalList.indexOf(target);
+        long ordinal = identityIndex.getEntry(target.getKey()).ordinal;
+        unindex(target);
+        index(editedModule, ordinal);
         internalList.set(index, editedModule);
     }
 
@@ -110,7 +159,9 @@ public class UniqueModuleList implements Iterable<Module> {
      */
     public void setModules(UniqueModuleList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        List<Module> modules = new ArrayList<>(replacement.internalList);
+        reindex(modules);
+        replaceContents(modules);
     }
 
     /**
@@ -126,7 +177,8 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
 
-        internalList.setAll(modules);
+        reindex(modules);
+        replaceContents(modules);
     }
 
     /**
@@ -139,9 +191,12 @@ public class UniqueModuleList implements Iterable<Module> {
     public void remove(Module module) {
         requireNonNull(module);
 
-        if (!internalList.remove(module)) {
+        if (!module.equals(identityIndex.get(module.getKey()))) {
             throw new ModuleNotFoundException();
         }
+
+        unindex(module);
+        internalList.remove(internalList.indexOf(module));
     }
 
     /**
@@ -152,12 +207,136 @@ public class UniqueModuleList implements Iterable<Module> {
      * @param filter the predicate used to filter the modules to be removed
      */
     public void remove(Predicate<Module> filter) {
-        boolean successful = internalList.removeIf(filter);
+        List<Module> toRemove = new ArrayList<>();
+        internalList.forEach(module -> {
+            if (filter.test(module)) {
+                toRemove.add(module);
+            }
+        });
+
+        if (toRemove.isEmpty()) {
+            throw new ModuleNotFoundException();
+        }
+
+        toRemove.forEach(this::unindex);
+        removeModules(toRemove);
+    }
+    //@@author
+
+    //@@author alexkmj
+    /**
+     * Applies a group of changes to the list as a single replacement of its
+     * contents.
+     * <p>
+     * Changes are applied in this order: clearing, removals, updates and
+     * additions. All changes are validated before any of them is applied, so
+     * the list is left unchanged if any change is invalid. Updated modules
+     * keep their position in the list and added modules are appended.
+     *
+     * @param clearsModules true if every module is removed first
+     * @param toRemove modules to be removed; each must exist in the list
+     * @param updateTargets modules to be replaced; each must exist in the list
+     * @param updatedModules replacements of {@code updateTargets}, in order
+     * @param toAdd modules to be appended
+     * @throws ModuleNotFoundException if a module to be removed or replaced
+     * is not in the list
+     * @throws DuplicateModuleException if the changes would result in two
+     * modules with the same identity
+     */
+    public void applyChanges(boolean clearsModules, List<Module> toRemove,
+            List<Module> updateTargets, List<Module> updatedModules,
+            List<Module> toAdd) {
+        requireAllNonNull(toRemove, updateTargets, updatedModules, toAdd);
+        checkArgument(updateTargets.size() == updatedModules.size(),
+                "Every update target must have an updated module");
+
+        Map<ModuleKey, Module> replacements = new HashMap<>();
+        Set<ModuleKey> removedKeys = new HashSet<>();
+        Set<ModuleKey> addedKeys = new HashSet<>();
+
+        for (Module module : toRemove) {
+            checkRemovable(clearsModules, removedKeys, module);
+            removedKeys.add(module.getKey());
+        }
 
-        if (!successful) {
+        for (int i = 0; i < updateTargets.size(); i++) {
+            Module target = updateTargets.get(i);
+            Module editedModule = updatedModules.get(i);
+            checkRemovable(clearsModules, removedKeys, target);
+            removedKeys.add(target.getKey());
+            replacements.put(target.getKey(), editedModule);
+        }
+
+        for (Module module : updatedModules) {
+            checkAddable(clearsModules, removedKeys, addedKeys, module);
+            addedKeys.add(module.getKey());
+        }
+
+        for (Module module : toAdd) {
+            checkAddable(clearsModules, removedKeys, addedKeys, module);
+            addedKeys.add(module.getKey());
+        }
+
+        if (!clearsModules && removedKeys.isEmpty() && toAdd.isEmpty()) {
+            return;
+        }
+
+        List<Module> newList = new ArrayList<>(
+                internalList.size() - removedKeys.size() + toAdd.size());
+        if (!clearsModules) {
+            for (Module module : internalList) {
+                ModuleKey key = module.getKey();
+                if (!removedKeys.contains(key)) {
+                    newList.add(module);
+                } else if (replacements.containsKey(key)) {
+                    newList.add(replacements.get(key));
+                }
+            }
+        }
+        newList.addAll(toAdd);
+
+        if (clearsModules) {
+            reindex(newList);
+        } else {
+            toRemove.forEach(this::unindex);
+            for (int i = 0; i < updateTargets.size(); i++) {
+                Module target = updateTargets.get(i);
+                long ordinal = identityIndex.getEntry(target.getKey()).ordinal;
+                unindex(target);
+                index(updatedModules.get(i), ordinal);
+            }
+            toAdd.forEach(this::index);
+        }
+        replaceContents(newList);
+    }
+
+    /**
+     * Throws if {@code module} cannot be removed by
+     * {@link #applyChanges(boolean, List, List, List, List)}.
+     */
+    private void checkRemovable(boolean clearsModules, Set<ModuleKey> removedKeys,
+            Module module) {
+        if (clearsModules
+                || removedKeys.contains(module.getKey())
+                || !module.equals(identityIndex.get(module.getKey()))) {
             throw new ModuleNotFoundException();
         }
     }
+
+    /**
+     * Throws if {@code module} cannot be added by
+     * {@link #applyChanges(boolean, List, List, List, List)}.
+     */
+    private void checkAddable(boolean clearsModules, Set<ModuleKey> removedKeys,
+            Set<ModuleKey> addedKeys, Module module) {
+        ModuleKey key = module.getKey();
+        boolean existsBefore = !clearsModules
+                && identityIndex.get(key) != null
+                && !removedKeys.contains(key);
+        if (existsBefore || addedKeys.contains(key)) {
+            throw new DuplicateModuleException();
+        }
+    }
     //@@author
 
     //@@author jeremiah-ang
@@ -165,18 +344,149 @@ public class UniqueModuleList implements Iterable<Module> {
      * Removes all module in a list from the list
      */
     public boolean removeAll(Collection<Module> modules) {
-        return internalList.removeAll(modules);
+        requireNonNull(modules);
+        List<Module> toRemove = new ArrayList<>();
+        for (Module module : modules) {
+            if (module.equals(identityIndex.get(module.getKey()))) {
+                toRemove.add(module);
+            }
+        }
+
+        toRemove.forEach(this::unindex);
+        removeModules(toRemove);
+        return !toRemove.isEmpty();
     }
     //@@author
 
     //@@author alexkmj
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns an immutable snapshot of the modules in this list.
+     * <p>
+     * The snapshot shares its structure with this list, so taking it is O(1)
+     * and later changes to this list only copy the parts they touch.
+     *
+     * @return snapshot of this list
+     */
+    public PersistentModuleMap snapshot() {
+        return identityIndex;
+    }
+
+    /**
+     * Restores the contents of this list to {@code snapshot}, which must have
+     * been taken from this list.
+     * <p>
+     * Only the modules that differ from the snapshot are removed, replaced or
+     * inserted, so restoring costs time proportional to the number of changed
+     * modules rather than the size of the list.
+     *
+     * @param snapshot the snapshot to restore
+     * @param visitor receives every module removed from the list as
+     * {@code (module, null)}, every module inserted as {@code (null, module)},
+     * and every module replaced in place as {@code (old, new)}
+     */
+    public void restore(PersistentModuleMap snapshot,
+            PersistentModuleMap.ChangeVisitor visitor) {
+        requireAllNonNull(snapshot, visitor);
+
+        List<PersistentModuleMap.Entry> removed = new ArrayList<>();
+        List<PersistentModuleMap.Entry> replaced = new ArrayList<>();
+        List<PersistentModuleMap.Entry> replacements = new ArrayList<>();
+        List<PersistentModuleMap.Entry> inserted = new ArrayList<>();
+        identityIndex.diffEntries(snapshot, (before, after) -> {
+            if (after == null) {
+                removed.add(before);
+            } else if (before == null) {
+                inserted.add(after);
+            } else if (before.ordinal == after.ordinal) {
+                replaced.add(before);
+                replacements.add(after);
+            } else {
+                removed.add(before);
+                inserted.add(after);
+            }
+        });
+
+        PersistentModuleMap current = identityIndex;
+        for (PersistentModuleMap.Entry entry : removed) {
+            internalList.remove(positionOf(entry.ordinal, current));
+            unindexCode(entry.module);
+            visitor.visit(entry.module, null);
+        }
+
+        for (int i = 0; i < replaced.size(); i++) {
+            Module before = replaced.get(i).module;
+            Module after = replacements.get(i).module;
+            int position = positionOf(replaced.get(i).ordinal, current);
+            internalList.set(position, after);
+            unindexCode(before);
+            indexCode(after);
+            visitor.visit(before, after);
+        }
+
+        inserted.sort(Comparator.comparingLong(entry -> entry.ordinal));
+        for (PersistentModuleMap.Entry entry : inserted) {
+            int position = positionOf(entry.ordinal, snapshot);
+            internalList.add(-(position + 1), entry.module);
+            indexCode(entry.module);
+            visitor.visit(null, entry.module);
+        }
+
+        identityIndex = snapshot;
+    }
+
+    /**
+     * Binary searches {@link #internalList} for the module at {@code ordinal},
+     * looking up the ordinals of the modules in the list in {@code ordinals}.
+     *
+     * @return the position of the module, or {@code -(insertion point) - 1}
+     * if there is no module at {@code ordinal}
+     */
+    private int positionOf(long ordinal, PersistentModuleMap ordinals) {
+        int low = 0;
+        int high = internalList.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midOrdinal = ordinals.getEntry(internalList.get(mid).getKey()).ordinal;
+            if (midOrdinal < ordinal) {
+                low = mid + 1;
+            } else if (midOrdinal > ordinal) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code List}.
      *
-     * @return backing list as an unmodifiable {@code ObservableList}
+     * @return backing list as an unmodifiable {@code List}
+     */
+    public List<Module> asUnmodifiableList() {
+        return Collections.unmodifiableList(internalList);
+    }
+
+    /**
+     * Removes {@code modules}, which must all be in the list, from
+     * {@link #internalList} in a single pass.
+     */
+    private void removeModules(Collection<Module> modules) {
+        Set<ModuleKey> keys = new HashSet<>();
+        modules.forEach(module -> keys.add(module.getKey()));
+        for (int i = internalList.size() - 1; i >= 0 && !keys.isEmpty(); i--) {
+            if (keys.remove(internalList.get(i).getKey())) {
+                internalList.remove(i);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of {@link #internalList} with {@code modules}.
      */
-    public ObservableList<Module> asUnmodifiableObservableList() {
-        return FXCollections.unmodifiableObservableList(internalList);
+    private void replaceContents(List<Module> modules) {
+        internalList.clear();
+        internalList.addAll(modules);
     }
     //@@author
 
@@ -187,10 +497,75 @@ public class UniqueModuleList implements Iterable<Module> {
      * @return true if modules are unique and false if modules are not unique
      */
     private boolean modulesAreUnique(List<Module> modules) {
-        return modules.size() == modules.parallelStream()
+        return modules.size() == modules.stream()
+                .map(Module::getKey)
                 .distinct()
                 .count();
     }
+
+    /**
+     * Adds {@code module}, which is appended to the list, to
+     * {@link #identityIndex} and {@link #codeIndex}.
+     *
+     * @param module the module to be indexed
+     */
+    private void index(Module module) {
+        index(module, nextOrdinal++);
+    }
+
+    /**
+     * Adds {@code module} at {@code ordinal} to {@link #identityIndex} and
+     * {@link #codeIndex}.
+     *
+     * @param module the module to be indexed
+     * @param ordinal the ordinal of the position of the module in the list
+     */
+    private void index(Module module, long ordinal) {
+        identityIndex = identityIndex.put(module, ordinal);
+        indexCode(module);
+    }
+
+    /**
+     * Removes {@code module} from {@link #identityIndex} and
+     * {@link #codeIndex}.
+     *
+     * @param module the module to be removed from the indexes
+     */
+    private void unindex(Module module) {
+        identityIndex = identityIndex.remove(module.getKey());
+        unindexCode(module);
+    }
+
+    /**
+     * Adds {@code module} to {@link #codeIndex}.
+     */
+    private void indexCode(Module module) {
+        codeIndex.computeIfAbsent(module.getCode(), unused -> new ArrayList<>(2))
+                .add(module);
+    }
+
+    /**
+     * Removes {@code module} from {@link #codeIndex}.
+     */
+    private void unindexCode(Module module) {
+        List<Module> sameCode = codeIndex.get(module.getCode());
+        sameCode.remove(module);
+        if (sameCode.isEmpty()) {
+            codeIndex.remove(module.getCode());
+        }
+    }
+
+    /**
+     * Rebuilds {@link #identityIndex} and {@link #codeIndex} from
+     * {@code modules}, giving the modules new ordinals in list order.
+     *
+     * @param modules the modules to be indexed
+     */
+    private void reindex(List<Module> modules) {
+        identityIndex = PersistentModuleMap.empty();
+        codeIndex.clear();
+        modules.forEach(this::index);
+    }
     //@@author
 
     //@@author jeremiah-ang
@@ -200,8 +575,14 @@ public class UniqueModuleList implements Iterable<Module> {
      * @param predicate
      * @return filtered list
      */
-    public ObservableList<Module> getFilteredModules(Predicate<Module> predicate) {
-        return internalList.filtered(predicate);
+    public List<Module> getFilteredModules(Predicate<Module> predicate) {
+        List<Module> filtered = new ArrayList<>();
+        for (Module module : internalList) {
+            if (predicate.test(module)) {
+                filtered.add(module);
+            }
+        }
+        return filtered;
     }
 
     /**
@@ -210,10 +591,11 @@ public class UniqueModuleList implements Iterable<Module> {
      * @return the Module that matches; null if not matched
      */
     public Module find(Module moduleToFind) throws ModuleNotFoundException {
-        return internalList.stream()
-                .filter(index -> index.isSameModule(moduleToFind))
-                .findAny()
-                .orElseThrow(() -> new ModuleNotFoundException());
+        Module found = identityIndex.get(moduleToFind.getKey());
+        if (found == null) {
+            throw new ModuleNotFoundException();
+        }
+        return found;
     }
     //@@author
 
@@ -239,32 +621,43 @@ public class UniqueModuleList implements Iterable<Module> {
             throws ModuleNotFoundException, MultipleModuleEntryFoundException {
         requireNonNull(targetCode);
 
-        Predicate<Module> moduleMatches = index -> {
-            boolean codeMatch = targetCode == null
-                    || index.getCode().equals(targetCode);
+        if (targetYear != null && targetSemester != null) {
+            Module found = identityIndex.get(
+                    new ModuleKey(targetCode, targetYear, targetSemester));
+            if (found == null) {
+                throw new ModuleNotFoundException();
+            }
+            return found;
+        }
+
+        List<Module> sameCode = codeIndex.get(targetCode);
+        if (sameCode == null) {
+            throw new ModuleNotFoundException();
+        }
 
+        Module match = null;
+        for (Module module : sameCode) {
             boolean yearMatch = targetYear == null
-                    || index.getYear().equals(targetYear);
+                    || module.getYear().equals(targetYear);
 
             boolean semesterMatch = targetSemester == null
-                    || index.getSemester().equals(targetSemester);
+                    || module.getSemester().equals(targetSemester);
 
-            return codeMatch && yearMatch && semesterMatch;
-        };
+            if (!yearMatch || !semesterMatch) {
+                continue;
+            }
 
-        Module[] moduleArray = internalList.stream()
-                .filter(moduleMatches)
-                .toArray(Module[]::new);
-
-        if (moduleArray.length == 0) {
-            throw new ModuleNotFoundException();
+            if (match != null) {
+                throw new MultipleModuleEntryFoundException();
+            }
+            match = module;
         }
 
-        if (moduleArray.length > 1) {
-            throw new MultipleModuleEntryFoundException();
+        if (match == null) {
+            throw new ModuleNotFoundException();
         }
 
-        return moduleArray[0];
+        return match;
     }
 
     /**
@@ -274,7 +667,7 @@ public class UniqueModuleList implements Iterable<Module> {
      */
     @Override
     public Iterator<Module> iterator() {
-        return internalList.iterator();
+        return asUnmodifiableList().iterator();
     }
 
     /**
@@ -24,6 +24,11 @@ public class Year {
      */
     public final int value;
 
+    /**
+     * Cached hash code of the {@code value}.
+     */
+    private final transient int hash;
+
     /**
      * Constructs an {@code Year}.
      *
@@ -32,6 +37,7 @@ public class Year {
     public Year(int year) {
         checkArgument(isValidYear(year), MESSAGE_YEAR_CONSTRAINTS);
         value = year;
+        hash = Integer.toString(value).hashCode();
     }
 
     /**
@@ -43,6 +49,7 @@ public class Year {
         requireNonNull(year);
         checkArgument(isValidYear(year), MESSAGE_YEAR_CONSTRAINTS);
         value = Integer.valueOf(year);
+        hash = Integer.toString(value).hashCode();
     }
 
     /**
@@ -92,6 +99,6 @@ public class Year {
 
     @Override
     public int hashCode() {
-        return toString().hashCode();
+        return hash;
     }
 }
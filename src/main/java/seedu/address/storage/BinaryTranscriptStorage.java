@@ -0,0 +1,281 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTranscript;
+import seedu.address.model.Transcript;
+import seedu.address.model.TranscriptBatch;
+import seedu.address.model.capgoal.CapGoal;
+import seedu.address.model.module.Code;
+import seedu.address.model.module.Credit;
+import seedu.address.model.module.Grade;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.Semester;
+import seedu.address.model.module.Year;
+import seedu.address.model.module.exceptions.DuplicateModuleException;
+
+//@@author alexkmj
+/**
+ * A class to access Transcript stored in the hard disk in a compact binary
+ * format.
+ * <p>
+ * The file starts with {@link #MAGIC} and a format version, followed by the
+ * CAP goal and a table of every distinct string used by the modules. Each
+ * module is then written as indices into the string table and small integers,
+ * all as variable-length integers, so most modules take 7 bytes.
+ * <p>
+ * A file path ending in {@value #JSON_FILE_EXTENSION} is read and written as
+ * json instead, for interchange with {@link JsonTranscriptStorage}. If the
+ * binary data file does not exist, the json file with the same name is
+ * imported if there is one.
+ */
+public class BinaryTranscriptStorage implements TranscriptStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final String JSON_FILE_EXTENSION = ".json";
+
+    /**
+     * The first bytes of every binary transcript file: "CAPT".
+     */
+    static final int MAGIC = 0x43415054;
+    static final int FORMAT_VERSION = 1;
+
+    private static final int FLAG_COMPLETED = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTranscriptStorage.class);
+
+    private final Path filePath;
+
+    public BinaryTranscriptStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a binary transcript file.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return hasExtension(filePath, FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getTranscriptFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTranscript> readTranscript() throws DataConversionException, IOException {
+        return readTranscript(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTranscript()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTranscript> readTranscript(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (hasExtension(filePath, JSON_FILE_EXTENSION)) {
+            return new JsonTranscriptStorage(filePath).readTranscript(filePath);
+        }
+        if (!Files.exists(filePath)) {
+            Path jsonFilePath = getJsonFilePath(filePath);
+            if (Files.exists(jsonFilePath)) {
+                logger.info("Transcript file " + filePath + " not found, importing " + jsonFilePath);
+                return new JsonTranscriptStorage(jsonFilePath).readTranscript(jsonFilePath);
+            }
+            logger.info("Transcript file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(read(in));
+        } catch (IOException | IllegalArgumentException | DuplicateModuleException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveTranscript(ReadOnlyTranscript transcript) throws IOException {
+        saveTranscript(transcript, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTranscript(ReadOnlyTranscript)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTranscript(ReadOnlyTranscript transcript, Path filePath) throws IOException {
+        requireNonNull(transcript);
+        requireNonNull(filePath);
+
+        if (hasExtension(filePath, JSON_FILE_EXTENSION)) {
+            new JsonTranscriptStorage(filePath).saveTranscript(transcript, filePath);
+            return;
+        }
+        FileUtil.createIfMissing(filePath);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            write(transcript, out);
+        }
+    }
+
+    /**
+     * Writes {@code transcript} to {@code out} in the binary format.
+     */
+    static void write(ReadOnlyTranscript transcript, OutputStream out) throws IOException {
+        DataOutputStream data = out instanceof DataOutputStream ? (DataOutputStream) out : new DataOutputStream(out);
+        List<Module> modules = transcript.getModules();
+
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Module module : modules) {
+            strings.putIfAbsent(module.getCode().value, strings.size());
+            strings.putIfAbsent(module.getSemester().value, strings.size());
+            strings.putIfAbsent(module.getGrade().value, strings.size());
+            strings.putIfAbsent(module.getGrade().getStateName(), strings.size());
+        }
+
+        data.writeInt(MAGIC);
+        data.writeByte(FORMAT_VERSION);
+        data.writeDouble(transcript.getCapGoal().getValue());
+        writeVarInt(data, strings.size());
+        for (String string : strings.keySet()) {
+            data.writeUTF(string);
+        }
+        writeVarInt(data, modules.size());
+        for (Module module : modules) {
+            writeVarInt(data, strings.get(module.getCode().value));
+            writeVarInt(data, module.getYear().value);
+            writeVarInt(data, strings.get(module.getSemester().value));
+            writeVarInt(data, module.getCredits().value);
+            writeVarInt(data, strings.get(module.getGrade().value));
+            writeVarInt(data, strings.get(module.getGrade().getStateName()));
+            data.writeByte(module.hasCompleted() ? FLAG_COMPLETED : 0);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a transcript in the binary format from {@code in}.
+     *
+     * @throws IOException if the data is not a binary transcript or is truncated
+     * @throws IllegalArgumentException if a module in the data is invalid
+     */
+    static Transcript read(InputStream in) throws IOException {
+        DataInputStream data = in instanceof DataInputStream ? (DataInputStream) in : new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a binary transcript file");
+        }
+        int version = data.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary transcript version " + version);
+        }
+
+        CapGoal capGoal = new CapGoal(data.readDouble());
+        int stringCount = readVarInt(data);
+        List<String> strings = new ArrayList<>(Math.min(stringCount, 1024));
+        for (int i = 0; i < stringCount; i++) {
+            strings.add(data.readUTF());
+        }
+
+        int moduleCount = readVarInt(data);
+        TranscriptBatch batch = new TranscriptBatch();
+        for (int i = 0; i < moduleCount; i++) {
+            Code code = new Code(readString(data, strings));
+            Year year = new Year(readVarInt(data));
+            Semester semester = new Semester(readString(data, strings));
+            Credit credits = new Credit(readVarInt(data));
+            Grade grade = new Grade(readString(data, strings), readString(data, strings));
+            boolean completed = (data.readUnsignedByte() & FLAG_COMPLETED) != 0;
+            batch.addModule(new Module(code, year, semester, credits, grade, completed));
+        }
+        batch.setCapGoal(capGoal);
+
+        Transcript transcript = new Transcript();
+        transcript.applyBatch(batch);
+        return transcript;
+    }
+
+    /**
+     * Reads an index into {@code strings} and returns the string at it.
+     */
+    private static String readString(DataInputStream in, List<String> strings) throws IOException {
+        int index = readVarInt(in);
+        if (index >= strings.size()) {
+            throw new IOException("String index " + index + " out of range");
+        }
+        return strings.get(index);
+    }
+
+    /**
+     * Writes the non-negative {@code value} in 7-bit groups, least significant
+     * first, with the high bit set on every byte but the last.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        if (value < 0) {
+            throw new IOException("Cannot write negative value " + value);
+        }
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarInt(DataOutputStream, int)}.
+     */
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Variable-length integer out of range");
+                }
+                return value;
+            }
+        }
+        throw new IOException("Variable-length integer too long");
+    }
+
+    /**
+     * Returns the json file with the same name as the binary file {@code filePath}.
+     */
+    private static Path getJsonFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (hasExtension(filePath, FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+        }
+        return filePath.resolveSibling(fileName + JSON_FILE_EXTENSION);
+    }
+
+    private static boolean hasExtension(Path filePath, String extension) {
+        return filePath.getFileName() != null
+                && filePath.getFileName().toString().toLowerCase().endsWith(extension);
+    }
+}
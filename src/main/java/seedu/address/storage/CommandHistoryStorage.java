@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+//@@author alexkmj
+/**
+ * Represents a storage for {@link seedu.address.logic.CommandHistory}.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns the commands in the history, from the earliest to the most
+     * recent, keeping only the most recent if there are more than the limit of
+     * the storage.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    Optional<List<String>> readCommandHistory() throws IOException;
+
+    /**
+     * Appends {@code userInput} to the command history in the storage.
+     *
+     * @param userInput cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommandHistory(String userInput) throws IOException;
+
+}
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import seedu.address.model.ReadOnlyTranscript;
+
+//@@author alexkmj
+/**
+ * Saves transcripts to a {@link TranscriptStorage} on a background thread.
+ * <p>
+ * A transcript submitted for saving is only written once no other transcript
+ * has been submitted for a quiet period, so a burst of changes is written to
+ * the hard disk once, with its last state. The transcripts submitted must not
+ * be changed after they are submitted, which holds for snapshots.
+ * <p>
+ * If the quiet period is 0, transcripts are saved immediately on the thread
+ * that submits them.
+ */
+class DebouncedTranscriptSaver {
+
+    private static final String THREAD_NAME = "transcript-saver";
+
+    private final TranscriptStorage storage;
+    private final Consumer<IOException> errorHandler;
+    private final long quietPeriod;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Held while writing, so that writes happen one at a time and in the order
+     * their transcripts were submitted.
+     */
+    private final Object writeLock = new Object();
+
+    private ReadOnlyTranscript pending;
+    private ScheduledFuture<?> scheduledWrite;
+
+    /**
+     * Constructs a {@code DebouncedTranscriptSaver}.
+     *
+     * @param storage the storage the transcripts are saved to
+     * @param quietPeriod the time in milliseconds to wait for further changes
+     *                    before saving
+     * @param errorHandler called with any exception thrown while saving
+     */
+    DebouncedTranscriptSaver(TranscriptStorage storage, long quietPeriod, Consumer<IOException> errorHandler) {
+        requireNonNull(storage);
+        requireNonNull(errorHandler);
+        this.storage = storage;
+        this.quietPeriod = Math.max(quietPeriod, 0);
+        this.errorHandler = errorHandler;
+        this.executor = this.quietPeriod == 0 ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits {@code transcript} to be saved once the quiet period has passed
+     * without another submission.
+     */
+    void submit(ReadOnlyTranscript transcript) {
+        requireNonNull(transcript);
+        synchronized (this) {
+            pending = transcript;
+            if (executor != null) {
+                cancelScheduledWrite();
+                scheduledWrite = executor.schedule(this::writePending, quietPeriod, TimeUnit.MILLISECONDS);
+                return;
+            }
+        }
+        writePending();
+    }
+
+    /**
+     * Saves the last transcript submitted, if it has not been saved yet, on
+     * the calling thread. Returns once every transcript submitted before the
+     * call has been saved.
+     */
+    void flush() {
+        synchronized (this) {
+            cancelScheduledWrite();
+        }
+        writePending();
+    }
+
+    /**
+     * Cancels the write scheduled by the last submission, if it has not
+     * started yet.
+     */
+    private void cancelScheduledWrite() {
+        assert Thread.holdsLock(this);
+        if (scheduledWrite != null) {
+            scheduledWrite.cancel(false);
+            scheduledWrite = null;
+        }
+    }
+
+    /**
+     * Saves the pending transcript, if any.
+     */
+    private void writePending() {
+        synchronized (writeLock) {
+            ReadOnlyTranscript transcript;
+            synchronized (this) {
+                transcript = pending;
+                pending = null;
+            }
+            if (transcript == null) {
+                return;
+            }
+            try {
+                storage.saveTranscript(transcript);
+            } catch (IOException e) {
+                errorHandler.accept(e);
+            }
+        }
+    }
+}
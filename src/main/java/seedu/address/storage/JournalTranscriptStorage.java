@@ -0,0 +1,435 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTranscript;
+import seedu.address.model.Transcript;
+import seedu.address.model.TranscriptBatch;
+import seedu.address.model.TranscriptSnapshot;
+import seedu.address.model.capgoal.CapGoal;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ModuleMapDelta;
+import seedu.address.model.module.exceptions.DuplicateModuleException;
+
+//@@author alexkmj
+/**
+ * A class to access Transcript stored in the hard disk as an append-only
+ * journal of changes.
+ * <p>
+ * The journal is kept next to the json data file, with
+ * {@value #JOURNAL_FILE_SUFFIX} appended to its name. It holds one json record
+ * per line. The first record is a snapshot of the whole transcript, and every
+ * later record holds the modules removed and put by one save, so that a save
+ * only writes the modules that changed. Once the changes appended outgrow the
+ * last snapshot, the journal is compacted by replacing it with a new snapshot,
+ * and the json data file is rewritten at the same time.
+ * <p>
+ * Modules are identified in the journal by their ordinals, which give their
+ * order in the transcript. As these only hold within one run of the
+ * application, the first save of every run writes a snapshot.
+ * <p>
+ * Each snapshot records a checksum of the json data file written with it. A
+ * journal whose checksum does not match the json data file is stale, as left
+ * when the file was saved without the journal, and is ignored.
+ * <p>
+ * If there is no journal, or it is stale, the json data file is read instead.
+ * A last record that is incomplete, as left by a crash while appending it, is
+ * ignored.
+ */
+public class JournalTranscriptStorage implements TranscriptStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /**
+     * The minimum number of changed modules appended before the journal is
+     * compacted.
+     */
+    private static final int MIN_CHANGES_BEFORE_COMPACTION = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTranscriptStorage.class);
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Path filePath;
+
+    /** Reads and writes the json data files. */
+    private final JsonTranscriptStorage jsonStorage;
+
+    /**
+     * The snapshot last written to the journal of {@link #filePath}, or null
+     * if the journal has not been written in this run.
+     */
+    private TranscriptSnapshot lastSaved;
+    private int changesSinceCompaction;
+    private int changesBeforeCompaction;
+
+    public JournalTranscriptStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JournalTranscriptStorage} that writes its json data
+     * files as compact json without whitespace if {@code isCompact} is true,
+     * or pretty printed json otherwise.
+     */
+    public JournalTranscriptStorage(Path filePath, boolean isCompact) {
+        this.filePath = filePath;
+        this.jsonStorage = new JsonTranscriptStorage(filePath, isCompact);
+    }
+
+    /**
+     * Returns the path of the journal kept for the json data file at
+     * {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getTranscriptFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTranscript> readTranscript() throws DataConversionException, IOException {
+        return readTranscript(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTranscript()}.
+     *
+     * @param filePath location of the json data file. Cannot be null.
+     * @throws DataConversionException if the journal or the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTranscript> readTranscript(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            logger.info("Transcript journal " + journalFilePath + " not found, reading " + filePath);
+            return jsonStorage.readTranscript(filePath);
+        }
+
+        Replay replay = new Replay();
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            boolean isFirstLine = true;
+            while (line != null) {
+                String nextLine = reader.readLine();
+                try {
+                    replay.apply(line);
+                } catch (IOException | IllegalArgumentException e) {
+                    if (nextLine != null) {
+                        throw new DataConversionException(e);
+                    }
+                    logger.warning("Ignoring incomplete last record of transcript journal " + journalFilePath);
+                }
+                if (isFirstLine && !replay.isBasedOn(filePath)) {
+                    logger.warning("Ignoring transcript journal " + journalFilePath + " older than " + filePath);
+                    return jsonStorage.readTranscript(filePath);
+                }
+                isFirstLine = false;
+                line = nextLine;
+            }
+        }
+        return Optional.of(replay.toTranscript());
+    }
+
+    @Override
+    public void saveTranscript(ReadOnlyTranscript transcript) throws IOException {
+        saveTranscript(transcript, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTranscript(ReadOnlyTranscript)}.
+     *
+     * @param filePath location of the json data file. Cannot be null.
+     */
+    @Override
+    public synchronized void saveTranscript(ReadOnlyTranscript transcript, Path filePath) throws IOException {
+        requireNonNull(transcript);
+        requireNonNull(filePath);
+
+        TranscriptSnapshot snapshot = transcript instanceof TranscriptSnapshot
+                ? (TranscriptSnapshot) transcript
+                : new Transcript(transcript).snapshot();
+        if (!filePath.equals(this.filePath)) {
+            compact(snapshot, filePath);
+            return;
+        }
+        if (lastSaved == null || changesSinceCompaction >= changesBeforeCompaction) {
+            compact(snapshot, filePath);
+            lastSaved = snapshot;
+            changesSinceCompaction = 0;
+            changesBeforeCompaction = Math.max(MIN_CHANGES_BEFORE_COMPACTION, snapshot.getModules().size());
+            return;
+        }
+
+        ModuleMapDelta delta = snapshot.deltaFrom(lastSaved);
+        if (delta.isEmpty() && snapshot.getCapGoal().getValue() == lastSaved.getCapGoal().getValue()) {
+            return;
+        }
+        append(getJournalFilePath(filePath), encodeRecord(delta, snapshot.getCapGoal(), null));
+        lastSaved = snapshot;
+        changesSinceCompaction += Math.max(delta.size(), 1);
+    }
+
+    /**
+     * Saves {@code snapshot} to {@code filePath}, and replaces the journal of
+     * {@code filePath} with a snapshot of {@code snapshot}. The json data file
+     * is written first, so that a crash in between leaves a stale journal
+     * that is ignored rather than a journal ahead of the file.
+     */
+    private void compact(TranscriptSnapshot snapshot, Path filePath) throws IOException {
+        jsonStorage.saveTranscript(snapshot, filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        Path tempFilePath = journalFilePath.resolveSibling(journalFilePath.getFileName() + ".tmp");
+        ModuleMapDelta allModules = snapshot.deltaFrom(new Transcript().snapshot());
+
+        FileUtil.createIfMissing(tempFilePath);
+        Files.write(tempFilePath, encodeRecord(allModules, snapshot.getCapGoal(), checksum(filePath)));
+        Files.move(tempFilePath, journalFilePath,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the file at {@code filePath}.
+     */
+    private static long checksum(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), crc)) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // the checksum is updated as the file is read
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Appends {@code record} to the journal at {@code journalFilePath} and
+     * forces it to the hard disk.
+     */
+    private static void append(Path journalFilePath, byte[] record) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the line of the journal that records {@code delta} and
+     * {@code capGoal}. A record with the checksum of the json data file
+     * written with it is a snapshot, which replaces all modules before it.
+     */
+    private static byte[] encodeRecord(ModuleMapDelta delta, CapGoal capGoal, Long baseChecksum)
+            throws IOException {
+        List<Long> removedOrdinals = new ArrayList<>();
+        List<Long> putOrdinals = new ArrayList<>();
+        List<Module> putModules = new ArrayList<>();
+        delta.forEachChange(new ModuleMapDelta.DeltaVisitor() {
+            @Override
+            public void removed(long ordinal) {
+                removedOrdinals.add(ordinal);
+            }
+
+            @Override
+            public void put(long ordinal, Module module) {
+                putOrdinals.add(ordinal);
+                putModules.add(module);
+            }
+        });
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator gen = JSON_FACTORY.createGenerator(out)) {
+            gen.writeStartObject();
+            if (baseChecksum != null) {
+                gen.writeBooleanField("snapshot", true);
+                gen.writeNumberField("base", baseChecksum);
+            }
+            gen.writeArrayFieldStart("removed");
+            for (long ordinal : removedOrdinals) {
+                gen.writeNumber(ordinal);
+            }
+            gen.writeEndArray();
+            gen.writeArrayFieldStart("put");
+            for (int i = 0; i < putModules.size(); i++) {
+                gen.writeStartObject();
+                gen.writeNumberField("ordinal", putOrdinals.get(i));
+                gen.writeFieldName("module");
+                JsonTranscriptSerializer.writeModule(putModules.get(i), gen);
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeNumberField("capGoal", capGoal.getValue());
+            gen.writeEndObject();
+        }
+        out.write('\n');
+        return out.toByteArray();
+    }
+
+    /**
+     * The state of a transcript while its journal is replayed.
+     */
+    private static class Replay {
+        private final TreeMap<Long, Module> modules = new TreeMap<>();
+        private CapGoal capGoal;
+        /** The checksum of the json data file recorded by the last snapshot, if any. */
+        private Long baseChecksum;
+
+        /**
+         * Applies the record on {@code line}. Nothing is applied if the record
+         * is invalid.
+         *
+         * @throws IOException if the record is invalid
+         */
+        void apply(String line) throws IOException {
+            boolean isSnapshot = false;
+            List<Long> removedOrdinals = new ArrayList<>();
+            TreeMap<Long, Module> putModules = new TreeMap<>();
+            Double capGoalValue = null;
+            Long base = null;
+
+            try (JsonParser jp = JSON_FACTORY.createParser(line)) {
+                expectToken(jp.nextToken(), JsonToken.START_OBJECT);
+                while (jp.nextToken() == JsonToken.FIELD_NAME) {
+                    String fieldName = jp.getCurrentName();
+                    JsonToken token = jp.nextToken();
+                    if ("snapshot".equals(fieldName)) {
+                        isSnapshot = token == JsonToken.VALUE_TRUE;
+                    } else if ("removed".equals(fieldName)) {
+                        expectToken(token, JsonToken.START_ARRAY);
+                        while (jp.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                            removedOrdinals.add(jp.getLongValue());
+                        }
+                        expectToken(jp.getCurrentToken(), JsonToken.END_ARRAY);
+                    } else if ("put".equals(fieldName)) {
+                        expectToken(token, JsonToken.START_ARRAY);
+                        while (jp.nextToken() == JsonToken.START_OBJECT) {
+                            readPut(jp, putModules);
+                        }
+                        expectToken(jp.getCurrentToken(), JsonToken.END_ARRAY);
+                    } else if ("base".equals(fieldName) && token == JsonToken.VALUE_NUMBER_INT) {
+                        base = jp.getLongValue();
+                    } else if ("capGoal".equals(fieldName) && token.isNumeric()) {
+                        capGoalValue = jp.getDoubleValue();
+                    } else {
+                        jp.skipChildren();
+                    }
+                }
+                expectToken(jp.getCurrentToken(), JsonToken.END_OBJECT);
+            }
+
+            if (capGoalValue == null) {
+                throw new IOException("Journal record must have a CAP goal");
+            }
+            if (!isSnapshot && capGoal == null) {
+                throw new IOException("Journal must start with a snapshot");
+            }
+            if (isSnapshot) {
+                modules.clear();
+                baseChecksum = base;
+            }
+            removedOrdinals.forEach(modules::remove);
+            modules.putAll(putModules);
+            capGoal = new CapGoal(capGoalValue);
+        }
+
+        /**
+         * Reads an object of the form {@code {"ordinal": ..., "module": ...}}
+         * into {@code putModules}.
+         */
+        private static void readPut(JsonParser jp, TreeMap<Long, Module> putModules) throws IOException {
+            Long ordinal = null;
+            Module module = null;
+            while (jp.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jp.getCurrentName();
+                JsonToken token = jp.nextToken();
+                if ("ordinal".equals(fieldName) && token == JsonToken.VALUE_NUMBER_INT) {
+                    ordinal = jp.getLongValue();
+                } else if ("module".equals(fieldName) && token == JsonToken.START_OBJECT) {
+                    module = JsonTranscriptDeserializer.readModule(jp);
+                } else {
+                    jp.skipChildren();
+                }
+            }
+            if (ordinal == null || module == null) {
+                throw new IOException("Journal module must have an ordinal and a module");
+            }
+            putModules.put(ordinal, module);
+        }
+
+        /**
+         * Returns true if the last snapshot replayed was written with the
+         * json data file at {@code filePath} as it is now. Journals written
+         * before snapshots recorded a checksum are assumed to be current.
+         */
+        boolean isBasedOn(Path filePath) throws IOException {
+            if (baseChecksum == null) {
+                return true;
+            }
+            return Files.exists(filePath) && checksum(filePath) == baseChecksum;
+        }
+
+        /**
+         * Returns the transcript replayed so far.
+         *
+         * @throws DataConversionException if the journal is empty or holds
+         *         duplicate modules
+         */
+        Transcript toTranscript() throws DataConversionException {
+            if (capGoal == null) {
+                throw new DataConversionException(new IOException("Journal must start with a snapshot"));
+            }
+            Transcript transcript = new Transcript();
+            try {
+                transcript.applyBatch(new TranscriptBatch().addModules(modules.values()).setCapGoal(capGoal));
+            } catch (DuplicateModuleException e) {
+                throw new DataConversionException(e);
+            }
+            return transcript;
+        }
+
+        /**
+         * Throws if {@code actual} is not {@code expected}.
+         */
+        private static void expectToken(JsonToken actual, JsonToken expected) throws IOException {
+            if (actual != expected) {
+                throw new IOException("Expected " + expected + " but found " + actual);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import seedu.address.model.module.Module;
+
+//@@author alexkmj
+/**
+ * Serializer for {@link Module}, which writes a module in the same layout as
+ * the modules saved by {@link JsonTranscriptSerializer}.
+ */
+public class JsonModuleSerializer extends StdSerializer<Module> {
+
+    private static final long serialVersionUID = 1L;
+
+    public JsonModuleSerializer(Class<Module> t) {
+        super(t);
+    }
+
+    public JsonModuleSerializer() {
+        super(Module.class);
+    }
+
+    @Override
+    public void serialize(Module module, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonTranscriptSerializer.writeModule(module, gen);
+    }
+}
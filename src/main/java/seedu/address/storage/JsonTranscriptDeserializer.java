@@ -1,15 +1,16 @@
 package seedu.address.storage;
 
 import java.io.IOException;
-import java.util.Iterator;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
 import seedu.address.model.ReadOnlyTranscript;
 import seedu.address.model.Transcript;
+import seedu.address.model.TranscriptBatch;
+import seedu.address.model.capgoal.CapGoal;
 import seedu.address.model.module.Code;
 import seedu.address.model.module.Credit;
 import seedu.address.model.module.Grade;
@@ -19,6 +20,10 @@ import seedu.address.model.module.Year;
 
 /**
  * Deserializer for {@link seedu.address.model.ReadOnlyTranscript}.
+ * <p>
+ * Modules are built directly from the parser's tokens as they are read, so
+ * the document is never held in memory as a whole. Unknown fields are
+ * skipped.
  */
 public class JsonTranscriptDeserializer extends StdDeserializer<ReadOnlyTranscript> {
 
@@ -32,31 +37,166 @@ public class JsonTranscriptDeserializer extends StdDeserializer<ReadOnlyTranscri
 
     @Override
     public ReadOnlyTranscript deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        expectToken(jp, JsonToken.START_OBJECT);
+
+        TranscriptBatch batch = new TranscriptBatch();
+        boolean hasModules = false;
+        boolean hasCapGoal = false;
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            jp.nextToken();
+            if ("modules".equals(fieldName)) {
+                readModules(jp, batch);
+                hasModules = true;
+            } else if ("capGoal".equals(fieldName)) {
+                batch.setCapGoal(new CapGoal(readValueObject(jp).doubleValue()));
+                hasCapGoal = true;
+            } else {
+                jp.skipChildren();
+            }
+        }
+
+        if (!hasModules || !hasCapGoal) {
+            throw new IOException("Transcript must have modules and a CAP goal");
+        }
 
         Transcript transcript = new Transcript();
-        JsonNode node = jp.getCodec().readTree(jp);
-        try {
-            Iterator<JsonNode> elements = node.get("modules").get("internalList").elements();
-            while (elements.hasNext()) {
-                JsonNode element = elements.next();
-                Code code = new Code(element.path("code").path("value").textValue());
-                Year year = new Year(element.path("year").path("value").intValue());
-                Semester semester = new Semester(element.path("semester").path("value").textValue());
-                Credit credits = new Credit(element.path("credits").path("value").intValue());
-                Grade grade = new Grade(element.path("grade").path("value").textValue(),
-                        element.path("grade").path("state").textValue());
-                boolean completed = element.path("completed").booleanValue();
-                Module module = new Module(code, year, semester, credits, grade, completed);
-                transcript.addModule(module);
+        transcript.applyBatch(batch);
+        return transcript;
+    }
+
+    /**
+     * Reads the modules object, whose {@code internalList} holds the modules,
+     * and adds every module to {@code batch}.
+     */
+    private static void readModules(JsonParser jp, TranscriptBatch batch) throws IOException {
+        expectToken(jp, JsonToken.START_OBJECT);
+
+        boolean hasInternalList = false;
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            jp.nextToken();
+            if ("internalList".equals(fieldName)) {
+                expectToken(jp, JsonToken.START_ARRAY);
+                while (jp.nextToken() == JsonToken.START_OBJECT) {
+                    batch.addModule(readModule(jp));
+                }
+                expectToken(jp, JsonToken.END_ARRAY);
+                hasInternalList = true;
+            } else {
+                jp.skipChildren();
             }
+        }
+
+        if (!hasInternalList) {
+            throw new IOException("Modules must have an internal list");
+        }
+    }
 
-            JsonNode capGoal = node.get("capGoal");
-            if (!capGoal.isMissingNode()) {
-                transcript.setCapGoal(capGoal.path("value").doubleValue());
+    /**
+     * Reads one module object, starting at its {@code START_OBJECT} token.
+     *
+     * @throws IOException if a field of the module is missing or invalid
+     */
+    static Module readModule(JsonParser jp) throws IOException {
+        ValueObject code = ValueObject.MISSING;
+        ValueObject year = ValueObject.MISSING;
+        ValueObject semester = ValueObject.MISSING;
+        ValueObject credits = ValueObject.MISSING;
+        ValueObject grade = ValueObject.MISSING;
+        boolean completed = false;
+
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            JsonToken token = jp.nextToken();
+            switch (fieldName) {
+            case "code":
+                code = readValueObject(jp);
+                break;
+            case "year":
+                year = readValueObject(jp);
+                break;
+            case "semester":
+                semester = readValueObject(jp);
+                break;
+            case "credits":
+                credits = readValueObject(jp);
+                break;
+            case "grade":
+                grade = readValueObject(jp);
+                break;
+            case "completed":
+                completed = token == JsonToken.VALUE_TRUE;
+                break;
+            default:
+                jp.skipChildren();
             }
-            return transcript;
-        } catch (NullPointerException e) {
+        }
+
+        try {
+            return new Module(new Code(code.text), new Year(year.intValue()),
+                    new Semester(semester.text), new Credit(credits.intValue()),
+                    new Grade(grade.text, grade.state), completed);
+        } catch (NullPointerException | IllegalArgumentException e) {
             throw new IOException(e);
         }
     }
+
+    /**
+     * Reads an object of the form {@code {"value": ..., "state": ...}}, in
+     * which {@code state} is optional. Anything other than an object is
+     * skipped and read as a missing value.
+     */
+    private static ValueObject readValueObject(JsonParser jp) throws IOException {
+        if (jp.getCurrentToken() != JsonToken.START_OBJECT) {
+            jp.skipChildren();
+            return ValueObject.MISSING;
+        }
+
+        ValueObject valueObject = new ValueObject();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            JsonToken token = jp.nextToken();
+            if ("value".equals(fieldName) && token == JsonToken.VALUE_STRING) {
+                valueObject.text = jp.getText();
+            } else if ("value".equals(fieldName) && token.isNumeric()) {
+                valueObject.number = jp.getNumberValue();
+            } else if ("state".equals(fieldName) && token == JsonToken.VALUE_STRING) {
+                valueObject.state = jp.getText();
+            } else {
+                jp.skipChildren();
+            }
+        }
+        return valueObject;
+    }
+
+    /**
+     * Throws if the current token of {@code jp} is not {@code expected}.
+     */
+    private static void expectToken(JsonParser jp, JsonToken expected) throws IOException {
+        if (jp.getCurrentToken() != expected) {
+            throw new IOException("Expected " + expected + " but found " + jp.getCurrentToken()
+                    + " at " + jp.getCurrentLocation());
+        }
+    }
+
+    /**
+     * The members of an object of the form {@code {"value": ..., "state": ...}}.
+     * A missing or mistyped member is null, and a missing number reads as 0.
+     */
+    private static class ValueObject {
+        static final ValueObject MISSING = new ValueObject();
+
+        private String text;
+        private Number number;
+        private String state;
+
+        int intValue() {
+            return number == null ? 0 : number.intValue();
+        }
+
+        double doubleValue() {
+            return number == null ? 0 : number.doubleValue();
+        }
+    }
 }
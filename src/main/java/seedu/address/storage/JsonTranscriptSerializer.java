@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import seedu.address.model.ReadOnlyTranscript;
+import seedu.address.model.capgoal.CapGoal;
+import seedu.address.model.module.Module;
+
+//@@author alexkmj
+/**
+ * Serializer for {@link seedu.address.model.ReadOnlyTranscript}.
+ * <p>
+ * Writes the modules straight from {@link ReadOnlyTranscript#getModules()}
+ * to the generator, so that any {@code ReadOnlyTranscript} can be saved
+ * without first being copied into a {@code Transcript}. The output has the
+ * layout read by {@link JsonTranscriptDeserializer}.
+ */
+public class JsonTranscriptSerializer extends StdSerializer<ReadOnlyTranscript> {
+
+    private static final long serialVersionUID = 1L;
+
+    public JsonTranscriptSerializer(Class<ReadOnlyTranscript> t) {
+        super(t);
+    }
+
+    public JsonTranscriptSerializer() {
+        super(ReadOnlyTranscript.class);
+    }
+
+    @Override
+    public void serialize(ReadOnlyTranscript transcript, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject();
+
+        gen.writeObjectFieldStart("modules");
+        gen.writeArrayFieldStart("internalList");
+        for (Module module : transcript.getModules()) {
+            writeModule(module, gen);
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+
+        CapGoal capGoal = transcript.getCapGoal();
+        gen.writeObjectFieldStart("capGoal");
+        gen.writeNumberField("value", capGoal.getValue());
+        gen.writeBooleanField("isSet", capGoal.isSet());
+        gen.writeBooleanField("isImpossible", capGoal.isImpossible());
+        gen.writeEndObject();
+
+        gen.writeNumberField("currentCap", transcript.getCurrentCap());
+        gen.writeEndObject();
+    }
+
+    /**
+     * Writes {@code module} as an object.
+     */
+    static void writeModule(Module module, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+
+        gen.writeObjectFieldStart("code");
+        gen.writeStringField("value", module.getCode().value);
+        gen.writeEndObject();
+
+        gen.writeObjectFieldStart("year");
+        gen.writeNumberField("value", module.getYear().value);
+        gen.writeEndObject();
+
+        gen.writeObjectFieldStart("semester");
+        gen.writeStringField("value", module.getSemester().value);
+        gen.writeEndObject();
+
+        gen.writeObjectFieldStart("credits");
+        gen.writeNumberField("value", module.getCredits().value);
+        gen.writeEndObject();
+
+        gen.writeObjectFieldStart("grade");
+        gen.writeStringField("value", module.getGrade().value);
+        gen.writeStringField("state", module.getGrade().getStateName());
+        gen.writeEndObject();
+
+        gen.writeBooleanField("completed", module.hasCompleted());
+        gen.writeEndObject();
+    }
+}
@@ -10,7 +10,6 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTranscript;
-import seedu.address.model.Transcript;
 
 //@@author jeremyyew
 /**
@@ -19,10 +18,22 @@ import seedu.address.model.Transcript;
 public class JsonTranscriptStorage implements TranscriptStorage {
 
     private final Path filePath;
+    private final boolean isCompact;
 
     public JsonTranscriptStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    //@@author alexkmj
+    /**
+     * Creates a {@code JsonTranscriptStorage} that writes compact json without
+     * whitespace if {@code isCompact} is true, or pretty printed json otherwise.
+     */
+    public JsonTranscriptStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
+    //@@author jeremyyew
 
     @Override
     public Path getTranscriptFilePath() {
@@ -46,7 +57,7 @@ public class JsonTranscriptStorage implements TranscriptStorage {
 
     @Override
     public void saveTranscript(ReadOnlyTranscript transcript) throws IOException {
-        JsonUtil.saveJsonFile(new Transcript(transcript), filePath);
+        JsonUtil.saveJsonFile(transcript, filePath, isCompact);
     }
 
     @Override
@@ -55,7 +66,7 @@ public class JsonTranscriptStorage implements TranscriptStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new Transcript(transcript), filePath);
+        JsonUtil.saveJsonFile(transcript, filePath, isCompact);
     }
 
 }
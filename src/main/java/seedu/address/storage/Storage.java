@@ -2,8 +2,10 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.TranscriptChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
@@ -39,9 +41,34 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, Transcrip
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
 
     /**
-     * Saves the current version of the Transcript to the hard disk.
+     * Saves the current version of the Transcript to the hard disk, possibly
+     * after waiting for further changes to it.
      * Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleTranscriptChangedEvent(TranscriptChangedEvent tce);
+
+    //@@author alexkmj
+    /**
+     * Returns the saved command history, or {@code Optional.empty()} if there
+     * is none or the command history is not saved.
+     *
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    Optional<List<String>> readCommandHistory() throws IOException;
+
+    /**
+     * Appends the command in {@code chce} to the saved command history on a
+     * background thread, if the command history is saved.
+     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     */
+    void handleCommandHistoryChangedEvent(CommandHistoryChangedEvent chce);
+    //@@author
+
+    /**
+     * Saves any change to the Transcript and the command history that has not
+     * been saved yet, and returns once it has been saved.
+     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     */
+    void flush();
 }
@@ -2,13 +2,22 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.LatencyHistogram;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Metrics;
+import seedu.address.commons.core.jfr.FlightEvents;
+import seedu.address.commons.core.jfr.FlightEvents.StorageSpan;
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.TranscriptChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
@@ -23,18 +32,65 @@ import seedu.address.model.UserPrefs;
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    //@@author alexkmj
+    private static final LatencyHistogram saveTranscriptLatency = Metrics.histogram("storage.saveTranscript");
+    //@@author
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private TranscriptStorage transcriptStorage;
+    private DebouncedTranscriptSaver transcriptSaver;
+    //@@author alexkmj
+    /** The storage of the command history, or null if the command history is not saved. */
+    private CommandHistoryStorage commandHistoryStorage;
+    private ExecutorService commandHistorySaver;
+    //@@author
 
     public StorageManager(AddressBookStorage addressBookStorage,
             UserPrefsStorage userPrefsStorage,
             TranscriptStorage transcriptStorage) {
+        this(addressBookStorage, userPrefsStorage, transcriptStorage, 0);
+    }
+
+    //@@author alexkmj
+    /**
+     * Constructs a {@code StorageManager} that saves the transcript on a
+     * background thread once it has not changed for {@code transcriptSaveDelay}
+     * milliseconds. If the delay is 0, the transcript is saved as soon as it
+     * changes, on the thread that raised the change.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage,
+            UserPrefsStorage userPrefsStorage,
+            TranscriptStorage transcriptStorage,
+            long transcriptSaveDelay) {
+        this(addressBookStorage, userPrefsStorage, transcriptStorage, transcriptSaveDelay, null);
+    }
+
+    /**
+     * Constructs a {@code StorageManager} that saves the transcript as in
+     * {@link #StorageManager(AddressBookStorage, UserPrefsStorage, TranscriptStorage, long)},
+     * and appends each command to {@code commandHistoryStorage} on a background
+     * thread, unless it is null.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage,
+            UserPrefsStorage userPrefsStorage,
+            TranscriptStorage transcriptStorage,
+            long transcriptSaveDelay,
+            CommandHistoryStorage commandHistoryStorage) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.transcriptStorage = transcriptStorage;
-    }
+        this.transcriptSaver = new DebouncedTranscriptSaver(this, transcriptSaveDelay,
+            e -> raise(new DataSavingExceptionEvent(e)));
+        this.commandHistoryStorage = commandHistoryStorage;
+        this.commandHistorySaver = commandHistoryStorage == null ? null
+                : Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "command-history-saver");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+    //@@author
 
     // ================ UserPrefs methods ==============================
 
@@ -68,7 +124,7 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -79,7 +135,7 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
@@ -109,8 +165,13 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public Optional<ReadOnlyTranscript> readTranscript(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
-        return transcriptStorage.readTranscript(filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
+        StorageSpan span = FlightEvents.beginStorage("read");
+        try {
+            return transcriptStorage.readTranscript(filePath);
+        } finally {
+            span.finish(filePath);
+        }
     }
 
     @Override
@@ -120,19 +181,70 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public void saveTranscript(ReadOnlyTranscript transcript, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        transcriptStorage.saveTranscript(transcript, filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        long start = System.nanoTime();
+        StorageSpan span = FlightEvents.beginStorage("write");
+        try {
+            transcriptStorage.saveTranscript(transcript, filePath);
+        } finally {
+            saveTranscriptLatency.recordSince(start);
+            span.finish(filePath);
+        }
     }
 
     @Override
     @Subscribe
     public void handleTranscriptChangedEvent(TranscriptChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local transcript data changed, saving to file"));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event,
+                "Local transcript data changed, saving to file"));
+        transcriptSaver.submit(event.data);
+    }
+
+    // ================ Command history methods ==============================
+
+    //@@author alexkmj
+    @Override
+    public Optional<List<String>> readCommandHistory() throws IOException {
+        if (commandHistoryStorage == null) {
+            return Optional.empty();
+        }
+        logger.fine("Attempting to read command history from file: "
+                + commandHistoryStorage.getCommandHistoryFilePath());
+        return commandHistoryStorage.readCommandHistory();
+    }
+
+    @Override
+    @Subscribe
+    public void handleCommandHistoryChangedEvent(CommandHistoryChangedEvent event) {
+        if (commandHistoryStorage == null) {
+            return;
+        }
+        commandHistorySaver.execute(() -> {
+            try {
+                commandHistoryStorage.appendCommandHistory(event.userInput);
+            } catch (IOException e) {
+                raise(new DataSavingExceptionEvent(e));
+            }
+        });
+    }
+    //@@author
+
+    @Override
+    public void flush() {
+        transcriptSaver.flush();
+        //@@author alexkmj
+        if (commandHistorySaver == null) {
+            return;
+        }
         try {
-            saveTranscript(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+            // the saver runs one task at a time, so this waits for every append submitted before it
+            commandHistorySaver.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
         }
+        //@@author
     }
 
 }
@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+
+//@@author alexkmj
+/**
+ * A class to access the command history stored in the hard disk as a text
+ * file with one command per line.
+ * <p>
+ * Commands are appended to the file, so that adding one costs O(1). Once the
+ * file holds twice as many commands as the limit, it is rewritten with only
+ * the most recent commands up to the limit, so it never grows past twice the
+ * limit.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+
+    private final Path filePath;
+    private final int limit;
+
+    /** The number of commands in the file, or -1 if it has not been counted. */
+    private int commandCount = -1;
+
+    /**
+     * Constructs a {@code TextCommandHistoryStorage} for the file at
+     * {@code filePath}, which keeps at most {@code limit} commands.
+     */
+    public TextCommandHistoryStorage(Path filePath, int limit) {
+        requireNonNull(filePath);
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        this.filePath = filePath;
+        this.limit = limit;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized Optional<List<String>> readCommandHistory() throws IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        List<String> commands = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        commandCount = commands.size();
+        return Optional.of(mostRecent(commands));
+    }
+
+    @Override
+    public synchronized void appendCommandHistory(String userInput) throws IOException {
+        requireNonNull(userInput);
+        if (commandCount < 0) {
+            commandCount = Files.exists(filePath) ? Files.readAllLines(filePath, StandardCharsets.UTF_8).size() : 0;
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            // a command spanning several lines would be read back as several commands
+            writer.write(userInput.replaceAll("[\\r\\n]+", " "));
+            writer.newLine();
+        }
+        commandCount++;
+        if (commandCount >= limit * 2) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the file with only the most recent commands up to the limit.
+     */
+    private void compact() throws IOException {
+        List<String> commands = mostRecent(Files.readAllLines(filePath, StandardCharsets.UTF_8));
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Files.write(tempFilePath, commands, StandardCharsets.UTF_8);
+        Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        commandCount = commands.size();
+    }
+
+    /**
+     * Returns the most recent commands in {@code commands} up to the limit.
+     */
+    private List<String> mostRecent(List<String> commands) {
+        return commands.subList(Math.max(0, commands.size() - limit), commands.size());
+    }
+}
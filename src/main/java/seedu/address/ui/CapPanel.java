@@ -53,7 +53,7 @@ public class CapPanel extends UiPart<Region> {
 
     @Subscribe
     public void handleTranscriptChangedEvent(TranscriptChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event,
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event,
                 "Local transcript data changed, obtaining new cap and cap goal"));
         ReadOnlyTranscript transcript = event.data;
         Platform.runLater(() -> currentCapDouble.setValue(round(transcript.getCurrentCap(), 2)));
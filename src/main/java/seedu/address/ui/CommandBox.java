@@ -1,7 +1,12 @@
 package seedu.address.ui;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
@@ -17,16 +22,30 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * <p>
+ * Commands are executed one at a time on a logic thread, so that the UI stays
+ * responsive while a command runs. Commands entered while another is running
+ * are queued, and the command box shows a busy state until the queue is empty.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
+    private final ExecutorService logicExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "logic-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
     private ListElementPointer historySnapshot;
 
+    /** Commands entered while another command is running, only used on the JavaFX application thread. */
+    private final Queue<String> pendingCommands = new ArrayDeque<>();
+    private boolean isBusy = false;
+
     @FXML
     private TextField commandTextField;
 
@@ -100,22 +119,77 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
-            initHistory();
-            historySnapshot.next();
-            // process result of the command
-            commandTextField.setText("");
-            logger.info("Result: " + commandResult.feedbackToUser);
-            raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
-
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            // handle command failure
+        String commandText = commandTextField.getText();
+        // the field is cleared at once so that the next command can be typed while this one runs
+        commandTextField.setText("");
+        if (isBusy) {
+            logger.info(() -> "Queued command: " + commandText);
+            pendingCommands.add(commandText);
+            return;
+        }
+        execute(commandText);
+    }
+
+    /**
+     * Executes {@code commandText} on the logic thread, and handles its result
+     * on the JavaFX application thread.
+     */
+    private void execute(String commandText) {
+        setBusy(true);
+        logicExecutor.execute(() -> {
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                Platform.runLater(() -> handleCommandSucceeded(commandResult));
+            } catch (CommandException | ParseException e) {
+                Platform.runLater(() -> handleCommandFailed(commandText, e.getMessage()));
+            } catch (RuntimeException e) {
+                logger.severe("Command " + commandText + " failed unexpectedly: " + e);
+                Platform.runLater(() -> handleCommandFailed(commandText, e.toString()));
+            }
+        });
+    }
+
+    /**
+     * Shows the result of a command that succeeded, and executes the next
+     * queued command.
+     */
+    private void handleCommandSucceeded(CommandResult commandResult) {
+        initHistory();
+        historySnapshot.next();
+        // process result of the command
+        logger.info(() -> "Result: " + commandResult.feedbackToUser);
+        raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+        executeNextPendingCommand();
+    }
+
+    /**
+     * Shows the failure of {@code commandText}, and executes the next queued
+     * command.
+     */
+    private void handleCommandFailed(String commandText, String message) {
+        initHistory();
+        // handle command failure, restoring the command so that it can be corrected unless the user
+        // has started typing another
+        if (commandTextField.getText().isEmpty()) {
+            replaceText(commandText);
             setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
         }
+        logger.info(() -> "Invalid command: " + commandText);
+        raise(new NewResultAvailableEvent(message));
+        executeNextPendingCommand();
+    }
+
+    /**
+     * Executes the next queued command, or leaves the busy state if there is
+     * none.
+     */
+    private void executeNextPendingCommand() {
+        String next = pendingCommands.poll();
+        if (next == null) {
+            setBusy(false);
+            return;
+        }
+        execute(next);
     }
 
     /**
@@ -135,6 +209,19 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.getStyleClass().remove(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Sets the command box style to indicate whether a command is running.
+     */
+    private void setBusy(boolean isBusy) {
+        this.isBusy = isBusy;
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (isBusy && !styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
+        } else if (!isBusy) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+        }
+    }
+
     /**
      * Sets the command box style to indicate a failed command.
      */
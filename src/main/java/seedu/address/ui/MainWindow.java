@@ -4,6 +4,8 @@ import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -19,6 +21,7 @@ import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.events.ui.ShowHelpRequestEvent;
 import seedu.address.logic.Logic;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.module.Module;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -121,10 +124,13 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        moduleListPanel = new ModuleListPanel(logic.getCompletedModuleList());
+        // commands run on the logic thread, so the panels show a copy of the modules kept on this thread
+        ObservableList<Module> modules = new ModuleListMirror(logic.getTranscriptSnapshot()).getModuleList();
+        moduleListPanel = new ModuleListPanel(modules.filtered(Module::hasCompleted));
         moduleListPanelPlaceholder.getChildren().add(moduleListPanel.getRoot());
 
-        ModuleListPanel2 moduleListPanelTwo = new ModuleListPanel2(logic.getIncompleteModuleList());
+        ModuleListPanel2 moduleListPanelTwo = new ModuleListPanel2(
+                modules.filtered(module -> !module.hasCompleted()));
         moduleListPanelPlaceholderTwo.getChildren().add(moduleListPanelTwo.getRoot());
 
         CapPanel capPanel = new CapPanel(logic.getTranscript());
@@ -205,6 +211,11 @@ public class MainWindow extends UiPart<Stage> {
 
     @Subscribe
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
+        if (!Platform.isFxApplicationThread()) {
+            // commands are executed on the logic thread
+            Platform.runLater(() -> handleShowHelpEvent(event));
+            return;
+        }
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         handleHelp();
     }
@@ -0,0 +1,141 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.ModuleAddedEvent;
+import seedu.address.commons.events.model.ModuleRemovedEvent;
+import seedu.address.commons.events.model.ModuleReplacedEvent;
+import seedu.address.commons.events.model.TargetsRecomputedEvent;
+import seedu.address.model.TranscriptSnapshot;
+import seedu.address.model.module.Module;
+
+//@@author alexkmj
+/**
+ * The modules of the transcript as an {@code ObservableList} that is only
+ * changed on the JavaFX application thread.
+ * <p>
+ * Commands change the model on the logic thread, so the module list panels
+ * cannot observe the lists of the model directly. Instead, each module added,
+ * removed or replaced in the model is queued as an edit of this list, and the
+ * edits are applied in order on the JavaFX application thread. Only the
+ * modules that changed are edited, so the panels do not redraw every cell
+ * after each command. The ordinal of each module is kept alongside it, so
+ * that a module added is inserted at the same position as in the model.
+ */
+public class ModuleListMirror {
+
+    private static final Logger logger = LogsCenter.getLogger(ModuleListMirror.class);
+
+    private final ObservableList<Module> modules;
+    private final ObservableList<Module> unmodifiableModules;
+
+    /** The ordinals of {@link #modules}, at the same indexes, in ascending order. */
+    private final List<Long> ordinals = new ArrayList<>();
+
+    /** The edits not applied yet, in the order the changes were made. */
+    private final Queue<Runnable> pendingEdits = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isRefreshScheduled = new AtomicBoolean();
+    private final Executor uiExecutor;
+
+    /**
+     * Constructs a {@code ModuleListMirror} with the modules of
+     * {@code transcript}, and registers it for the changes to the transcript.
+     */
+    public ModuleListMirror(TranscriptSnapshot transcript) {
+        this(transcript, Platform::runLater);
+    }
+
+    /**
+     * Constructs a {@code ModuleListMirror} that applies its edits with
+     * {@code uiExecutor} instead of on the JavaFX application thread.
+     */
+    ModuleListMirror(TranscriptSnapshot transcript, Executor uiExecutor) {
+        this.uiExecutor = uiExecutor;
+        modules = FXCollections.observableArrayList(transcript.getModules());
+        unmodifiableModules = FXCollections.unmodifiableObservableList(modules);
+        modules.forEach(module -> ordinals.add(transcript.getOrdinal(module)));
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.subscribe(ModuleAddedEvent.class, event -> enqueue(() -> add(event.module, event.ordinal)));
+        eventsCenter.subscribe(ModuleRemovedEvent.class, event -> enqueue(() -> remove(event.ordinal)));
+        eventsCenter.subscribe(ModuleReplacedEvent.class, event ->
+                enqueue(() -> replace(event.previous, event.updated)));
+        eventsCenter.subscribe(TargetsRecomputedEvent.class, event -> enqueue(() -> {
+            event.previousOrdinals.forEach(this::remove);
+            for (int i = 0; i < event.updated.size(); i++) {
+                add(event.updated.get(i), event.updatedOrdinals.get(i));
+            }
+        }));
+    }
+
+    /**
+     * Returns an unmodifiable view of the modules, which is only changed on
+     * the JavaFX application thread.
+     */
+    public ObservableList<Module> getModuleList() {
+        return unmodifiableModules;
+    }
+
+    /**
+     * Queues {@code edit} to be applied with the UI executor.
+     */
+    private void enqueue(Runnable edit) {
+        pendingEdits.add(edit);
+        if (isRefreshScheduled.compareAndSet(false, true)) {
+            uiExecutor.execute(this::refresh);
+        }
+    }
+
+    /**
+     * Applies the edits queued so far.
+     */
+    private void refresh() {
+        isRefreshScheduled.set(false);
+        logger.fine("Refreshing module list");
+        Runnable edit;
+        while ((edit = pendingEdits.poll()) != null) {
+            edit.run();
+        }
+    }
+
+    /**
+     * Inserts {@code module} at the position of {@code ordinal}.
+     */
+    private void add(Module module, long ordinal) {
+        int index = Collections.binarySearch(ordinals, ordinal);
+        assert index < 0 : "Ordinals must be unique";
+        int insertionIndex = -index - 1;
+        ordinals.add(insertionIndex, ordinal);
+        modules.add(insertionIndex, module);
+    }
+
+    /**
+     * Removes the module at {@code ordinal}.
+     */
+    private void remove(long ordinal) {
+        int index = Collections.binarySearch(ordinals, ordinal);
+        assert index >= 0 : "Every module removed must be in the list";
+        ordinals.remove(index);
+        modules.remove(index);
+    }
+
+    /**
+     * Replaces {@code previous} with {@code updated}, which keeps its ordinal.
+     */
+    private void replace(Module previous, Module updated) {
+        int index = modules.indexOf(previous);
+        assert index >= 0 : "Every module replaced must be in the list";
+        modules.set(index, updated);
+    }
+}
@@ -78,7 +78,7 @@ public class StatusBarFooter extends UiPart<Region> {
     public void handleTranscriptChangedEvent(TranscriptChangedEvent tce) {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(tce, "Setting last updated status to " + lastUpdated));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(tce, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
 }
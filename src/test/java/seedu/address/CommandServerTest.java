@@ -0,0 +1,154 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalModules.DATA_STRUCTURES;
+import static seedu.address.testutil.TypicalModules.DISCRETE_MATH;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Transcript;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.ModuleUtil;
+
+public class CommandServerTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ModelManager model = new ModelManager(new Transcript(), new UserPrefs());
+    private final CommandServer server = new CommandServer(model, 4);
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void constructor_nonPositiveWorkers_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new CommandServer(model, 0);
+    }
+
+    @Test
+    public void serve_pipelinedRequests_queriesSeePrecedingCommands() throws Exception {
+        StringBuilder requests = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            requests.append("{\"jsonrpc\":\"2.0\",\"id\":").append(i)
+                    .append(",\"method\":\"getModules\"}\n");
+        }
+        requests.append(getExecuteRequest(100, ModuleUtil.getAddModuleCommand(DISCRETE_MATH)));
+        requests.append(getExecuteRequest(101, ModuleUtil.getAddModuleCommand(DATA_STRUCTURES)));
+        requests.append("{\"jsonrpc\":\"2.0\",\"id\":102,\"method\":\"getModules\"}\n");
+        requests.append("{\"jsonrpc\":\"2.0\",\"id\":103,\"method\":\"getCap\"}\n");
+
+        Map<Integer, Map<?, ?>> responses = serve(requests.toString());
+
+        assertEquals(24, responses.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(0, ((List<?>) responses.get(i).get("result")).size());
+        }
+        assertTrue(responses.get(100).containsKey("result"));
+        assertTrue(responses.get(101).containsKey("result"));
+        assertEquals(2, ((List<?>) responses.get(102).get("result")).size());
+        Map<?, ?> module = (Map<?, ?>) ((List<?>) responses.get(102).get("result")).get(0);
+        assertTrue(module.containsKey("completed"));
+        double cap = ((Number) responses.get(103).get("result")).doubleValue();
+        assertEquals(model.getTranscriptSnapshot().getCurrentCap(), cap, 0);
+        assertEquals(24, server.getStatistics().getRequestCount());
+        assertEquals(0, server.getStatistics().getErrorCount());
+    }
+
+    @Test
+    public void serve_failingCommand_errorReturned() throws Exception {
+        String requests = getExecuteRequest(1, ModuleUtil.getAddModuleCommand(DISCRETE_MATH))
+                + getExecuteRequest(2, ModuleUtil.getAddModuleCommand(DISCRETE_MATH));
+
+        Map<Integer, Map<?, ?>> responses = serve(requests);
+
+        assertFalse(responses.get(1).containsKey("error"));
+        assertEquals(CommandServer.ERROR_COMMAND_FAILED, getErrorCode(responses.get(2)));
+        assertEquals(1, server.getStatistics().getErrorCount());
+    }
+
+    @Test
+    public void serve_invalidRequests_errorsReturned() throws Exception {
+        String requests = "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"unknown\"}\n"
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"execute\"}\n"
+                + "{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":\"getModules\",\"params\":{\"filter\":\"some\"}}\n"
+                + "{\"jsonrpc\":\"2.0\",\"id\":4}\n";
+
+        Map<Integer, Map<?, ?>> responses = serve(requests);
+
+        assertEquals(CommandServer.ERROR_METHOD_NOT_FOUND, getErrorCode(responses.get(1)));
+        assertEquals(CommandServer.ERROR_INVALID_PARAMS, getErrorCode(responses.get(2)));
+        assertEquals(CommandServer.ERROR_INVALID_PARAMS, getErrorCode(responses.get(3)));
+        assertEquals(CommandServer.ERROR_INVALID_REQUEST, getErrorCode(responses.get(4)));
+    }
+
+    @Test
+    public void serve_nonObjectRequests_invalidRequestReturned() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String requests = "null\n[1]\n42\n\"execute\"\n";
+        server.serve(new ByteArrayInputStream(requests.getBytes(StandardCharsets.UTF_8)), out);
+
+        String[] lines = out.toString("UTF-8").trim().split("\n");
+        assertEquals(4, lines.length);
+        for (String line : lines) {
+            Map<?, ?> response = JsonUtil.fromJsonString(line, Map.class);
+            assertEquals(CommandServer.ERROR_INVALID_REQUEST, getErrorCode(response));
+        }
+    }
+
+    @Test
+    public void serve_invalidJson_parseErrorReturned() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        server.serve(new ByteArrayInputStream("not json\n".getBytes(StandardCharsets.UTF_8)), out);
+
+        Map<?, ?> response = JsonUtil.fromJsonString(out.toString("UTF-8").trim(), Map.class);
+        assertEquals(CommandServer.ERROR_PARSE, getErrorCode(response));
+    }
+
+    /**
+     * Returns a request to execute {@code command}.
+     */
+    private static String getExecuteRequest(int id, String command) {
+        return "{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"execute\",\"params\":{\"command\":\""
+                + command + "\"}}\n";
+    }
+
+    /**
+     * Returns the error code of {@code response}.
+     */
+    private static int getErrorCode(Map<?, ?> response) {
+        return ((Number) ((Map<?, ?>) response.get("error")).get("code")).intValue();
+    }
+
+    /**
+     * Serves {@code requests} and returns the responses by id.
+     */
+    private Map<Integer, Map<?, ?>> serve(String requests) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        server.serve(new ByteArrayInputStream(requests.getBytes(StandardCharsets.UTF_8)), out);
+
+        Map<Integer, Map<?, ?>> responses = new HashMap<>();
+        for (String line : out.toString("UTF-8").split("\n")) {
+            Map<?, ?> response = JsonUtil.fromJsonString(line, Map.class);
+            responses.put(((Number) response.get("id")).intValue(), response);
+        }
+        return responses;
+    }
+}
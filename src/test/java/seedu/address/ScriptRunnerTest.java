@@ -0,0 +1,169 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalModules.DATA_STRUCTURES;
+import static seedu.address.testutil.TypicalModules.DISCRETE_MATH;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.commands.UndoModuleCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyTranscript;
+import seedu.address.model.Transcript;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonTranscriptStorage;
+import seedu.address.testutil.ModuleUtil;
+
+public class ScriptRunnerTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final ModelManager model = new ModelManager(new Transcript(), new UserPrefs());
+
+    @Test
+    public void run_validScript_committedAndSavedOnce() throws Exception {
+        SaveCountingTranscriptStorage storage = new SaveCountingTranscriptStorage(getTempFilePath("transcript.json"));
+        String script = "# adds two modules\n"
+                + ModuleUtil.getAddModuleCommand(DISCRETE_MATH) + "\n"
+                + "\n"
+                + ModuleUtil.getAddModuleCommand(DATA_STRUCTURES) + "\n"
+                + "goal 4.5\n";
+
+        assertEquals(ScriptRunner.EXIT_SUCCESS, run(storage, script));
+        assertEquals(1, storage.saveCount);
+        Transcript saved = new Transcript(storage.readTranscript().get());
+        assertTrue(saved.hasModule(DISCRETE_MATH));
+        assertTrue(saved.hasModule(DATA_STRUCTURES));
+
+        // the whole script is undone in one step
+        assertTrue(model.canUndoTranscript());
+        model.undoTranscript();
+        assertFalse(model.canUndoTranscript());
+        assertEquals(new Transcript(), new Transcript(model.getTranscriptSnapshot()));
+    }
+
+    @Test
+    public void run_failingCommand_rolledBackAndNotSaved() throws Exception {
+        SaveCountingTranscriptStorage storage = new SaveCountingTranscriptStorage(getTempFilePath("transcript.json"));
+        String script = ModuleUtil.getAddModuleCommand(DISCRETE_MATH) + "\n"
+                + ModuleUtil.getAddModuleCommand(DISCRETE_MATH) + "\n";
+
+        assertEquals(ScriptRunner.EXIT_COMMAND_FAILED, run(storage, script));
+        assertTrue(output.toString().contains("Line 2: "));
+        assertEquals(0, storage.saveCount);
+        assertFalse(model.hasModule(DISCRETE_MATH));
+        assertFalse(model.canUndoTranscript());
+    }
+
+    @Test
+    public void run_undoAndRedoInScript_movesBetweenScriptStates() throws Exception {
+        SaveCountingTranscriptStorage storage = new SaveCountingTranscriptStorage(getTempFilePath("transcript.json"));
+        String script = ModuleUtil.getAddModuleCommand(DISCRETE_MATH) + "\n"
+                + ModuleUtil.getAddModuleCommand(DATA_STRUCTURES) + "\n"
+                + "undo\n"
+                + "undo\n"
+                + "redo\n";
+
+        assertEquals(ScriptRunner.EXIT_SUCCESS, run(storage, script));
+        assertEquals(1, storage.saveCount);
+        assertTrue(model.hasModule(DISCRETE_MATH));
+        assertFalse(model.hasModule(DATA_STRUCTURES));
+    }
+
+    @Test
+    public void run_undoPastScriptStart_failsWithoutUndoingEarlierChanges() throws Exception {
+        SaveCountingTranscriptStorage storage = new SaveCountingTranscriptStorage(getTempFilePath("transcript.json"));
+        model.addModule(DISCRETE_MATH);
+        model.commitTranscript();
+        String script = ModuleUtil.getAddModuleCommand(DATA_STRUCTURES) + "\n"
+                + "undo\n"
+                + "undo\n";
+
+        assertEquals(ScriptRunner.EXIT_COMMAND_FAILED, run(storage, script));
+        assertTrue(output.toString().contains("Line 3: " + UndoModuleCommand.MESSAGE_FAILURE));
+        assertTrue(model.hasModule(DISCRETE_MATH));
+        assertFalse(model.hasModule(DATA_STRUCTURES));
+
+        // the history from before the script is kept
+        model.undoTranscript();
+        assertFalse(model.hasModule(DISCRETE_MATH));
+    }
+
+    @Test
+    public void run_commandThrowsRuntimeException_rolledBack() throws Exception {
+        SaveCountingTranscriptStorage storage = new SaveCountingTranscriptStorage(getTempFilePath("transcript.json"));
+        ModelManager failingModel = new ModelManager(new Transcript(), new UserPrefs()) {
+            @Override
+            public void updateCapGoal(double capGoal) {
+                throw new IllegalStateException();
+            }
+        };
+        ScriptRunner runner = new ScriptRunner(failingModel, storage, new PrintStream(output));
+        String script = ModuleUtil.getAddModuleCommand(DISCRETE_MATH) + "\n"
+                + "goal 4.5\n";
+
+        thrown.expect(IllegalStateException.class);
+        try {
+            runner.run(new BufferedReader(new StringReader(script)));
+        } finally {
+            assertEquals(0, storage.saveCount);
+            assertFalse(failingModel.hasModule(DISCRETE_MATH));
+            // the transaction is over, so a new one can begin
+            failingModel.beginTransaction();
+        }
+    }
+
+    @Test
+    public void run_noChanges_notSaved() throws Exception {
+        SaveCountingTranscriptStorage storage = new SaveCountingTranscriptStorage(getTempFilePath("transcript.json"));
+
+        assertEquals(ScriptRunner.EXIT_SUCCESS, run(storage, "# nothing to do\n"));
+        assertEquals(0, storage.saveCount);
+    }
+
+    /**
+     * Runs {@code script} on the model and returns the exit status.
+     */
+    private int run(JsonTranscriptStorage storage, String script) {
+        ScriptRunner runner = new ScriptRunner(model, storage, new PrintStream(output));
+        return runner.run(new BufferedReader(new StringReader(script)));
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    /**
+     * A transcript stub class that counts the number of times it is saved
+     */
+    class SaveCountingTranscriptStorage extends JsonTranscriptStorage {
+        private int saveCount = 0;
+
+        public SaveCountingTranscriptStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTranscript(ReadOnlyTranscript transcript) throws IOException {
+            saveCount++;
+            super.saveTranscript(transcript);
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.function.Supplier;
 
 import javafx.stage.Screen;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.FileUtil;
@@ -33,6 +35,8 @@ public class TestApp extends MainApp {
     public static final Path SAVE_LOCATION_FOR_TESTING = TestUtil.getFilePathInSandboxFolder("sampleData.xml");
     public static final Path SAVE_TRANSCRIPT_LOCATION_FOR_TESTING =
             TestUtil.getFilePathInSandboxFolder("sampleTranscriptData.json");
+    public static final Path SAVE_COMMAND_HISTORY_LOCATION_FOR_TESTING =
+            TestUtil.getFilePathInSandboxFolder("commandHistory.txt");
     public static final String APP_TITLE = "Test App";
 
     protected static final Path DEFAULT_PREF_FILE_LOCATION_FOR_TESTING =
@@ -53,6 +57,13 @@ public class TestApp extends MainApp {
         this.saveFileLocation = saveFileLocation;
         this.saveTranscriptFileLocation = saveTranscriptFileLocation;
 
+        // each test starts without the commands entered by earlier tests
+        try {
+            Files.deleteIfExists(SAVE_COMMAND_HISTORY_LOCATION_FOR_TESTING);
+        } catch (IOException ioe) {
+            throw new RuntimeException(ioe);
+        }
+
         // If some initial local data has been provided, write those to the file
         if (initialDataSupplier.get() != null) {
             createDataFileWithData(new XmlSerializableAddressBook(this.initialDataSupplier.get()),
@@ -87,6 +98,7 @@ public class TestApp extends MainApp {
         userPrefs.updateLastUsedGuiSetting(new GuiSettings(600.0, 600.0, (int) x, (int) y));
         userPrefs.setAddressBookFilePath(saveFileLocation);
         userPrefs.setTranscriptFilePath(saveTranscriptFileLocation);
+        userPrefs.setCommandHistoryFilePath(SAVE_COMMAND_HISTORY_LOCATION_FOR_TESTING);
         return userPrefs;
     }
 
@@ -109,6 +121,8 @@ public class TestApp extends MainApp {
      */
     public Transcript readStorageTranscript() {
         try {
+            EventsCenter.getInstance().flush();
+            storage.flush();
             return new Transcript(storage.readTranscript().get());
         } catch (DataConversionException dce) {
             throw new AssertionError("Data is not in the Transcript format.", dce);
@@ -0,0 +1,110 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final RecordingHandler target = new RecordingHandler();
+    private AsyncLogHandler handler;
+
+    @After
+    public void tearDown() {
+        target.release.countDown();
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new AsyncLogHandler(List.of(target), 0, OverflowPolicy.DROP);
+    }
+
+    @Test
+    public void flush_recordsPublished_deliveredInOrderWithSourceOfLoggingThread() {
+        target.release.countDown();
+        handler = new AsyncLogHandler(List.of(target), 4, OverflowPolicy.BLOCK);
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        for (int i = 0; i < 10; i++) {
+            int index = i;
+            logger.info(() -> "message " + index);
+        }
+        handler.flush();
+
+        assertEquals(10, target.messages.size());
+        assertEquals("message 0", target.messages.get(0));
+        assertEquals("message 9", target.messages.get(9));
+        assertEquals(AsyncLogHandlerTest.class.getName(), target.sourceClassNames.get(0));
+    }
+
+    @Test
+    public void publish_bufferFullWithDropPolicy_lowLevelRecordsDroppedAndReported() throws Exception {
+        handler = new AsyncLogHandler(List.of(target), 2, OverflowPolicy.DROP);
+        handler.publish(new LogRecord(Level.INFO, "taken"));
+        assertTrue(target.isPublishing.await(10, TimeUnit.SECONDS));
+        handler.publish(new LogRecord(Level.INFO, "queued 1"));
+        handler.publish(new LogRecord(Level.INFO, "queued 2"));
+        handler.publish(new LogRecord(Level.FINE, "dropped 1"));
+        handler.publish(new LogRecord(Level.INFO, "dropped 2"));
+
+        target.release.countDown();
+        handler.flush();
+
+        assertEquals(List.of("taken", "2 log records dropped while the buffer was full", "queued 1", "queued 2"),
+                target.messages);
+    }
+
+    /**
+     * A handler that records the messages published to it, and does not
+     * return from publishing until it is released.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> sourceClassNames = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch isPublishing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            isPublishing.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(record.getMessage());
+            sourceClassNames.add(record.getSourceClassName());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
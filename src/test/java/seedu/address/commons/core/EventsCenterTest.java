@@ -0,0 +1,135 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.model.TranscriptChangedEvent;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.model.Transcript;
+
+public class EventsCenterTest {
+
+    private final EventsCenter eventsCenter = EventsCenter.getInstance();
+    private final List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_syncEvent_deliveredToSubscribersOfSupertypesBeforeReturning() {
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            private void handleResult(NewResultAvailableEvent event) {
+                delivered.add("result " + event.message);
+            }
+
+            @Subscribe
+            private void handleAny(BaseEvent event) {
+                delivered.add("any");
+            }
+        });
+        eventsCenter.subscribe(NewResultAvailableEvent.class, event -> delivered.add("typed " + event.message));
+
+        eventsCenter.post(new NewResultAvailableEvent("a"));
+
+        assertEquals(3, delivered.size());
+        assertTrue(delivered.containsAll(List.of("result a", "any", "typed a")));
+    }
+
+    @Test
+    public void registerHandler_sameHandlerTwice_deliveredOnce() {
+        Object handler = new Object() {
+            @Subscribe
+            public void handleResult(NewResultAvailableEvent event) {
+                delivered.add(event.message);
+            }
+        };
+        eventsCenter.registerHandler(handler);
+        eventsCenter.registerHandler(handler);
+
+        eventsCenter.post(new NewResultAvailableEvent("a"));
+
+        assertEquals(List.of("a"), delivered);
+    }
+
+    @Test
+    public void post_fromHandler_deliveredAfterCurrentEvent() {
+        eventsCenter.subscribe(NewResultAvailableEvent.class, event -> {
+            if (event.message.equals("first")) {
+                eventsCenter.post(new NewResultAvailableEvent("second"));
+            }
+        });
+        eventsCenter.subscribe(NewResultAvailableEvent.class, event -> delivered.add(event.message));
+
+        eventsCenter.post(new NewResultAvailableEvent("first"));
+
+        assertEquals(List.of("first", "second"), delivered);
+    }
+
+    @Test
+    public void post_handlerThrows_otherHandlersStillDelivered() {
+        eventsCenter.subscribe(NewResultAvailableEvent.class, event -> {
+            throw new IllegalStateException("handler failed");
+        });
+        eventsCenter.subscribe(NewResultAvailableEvent.class, event -> delivered.add(event.message));
+
+        eventsCenter.post(new NewResultAvailableEvent("a"));
+
+        assertEquals(List.of("a"), delivered);
+    }
+
+    @Test
+    public void post_asyncEventsWhileDelivering_pendingEventsCoalesced() throws Exception {
+        CountDownLatch firstDelivering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        eventsCenter.subscribe(TranscriptChangedEvent.class, event -> {
+            delivered.add(Thread.currentThread().getName() + " " + event.data.getCapGoal().getValue());
+            firstDelivering.countDown();
+            await(release);
+        });
+
+        eventsCenter.post(new TranscriptChangedEvent(getTranscriptWithGoal(1.0)));
+        assertTrue(firstDelivering.await(10, TimeUnit.SECONDS));
+        for (int i = 2; i <= 5; i++) {
+            eventsCenter.post(new TranscriptChangedEvent(getTranscriptWithGoal(i)));
+        }
+        release.countDown();
+        eventsCenter.flush();
+
+        assertEquals(List.of("event-lane 1.0", "event-lane 5.0"), delivered);
+    }
+
+    /**
+     * Returns a transcript with a CAP goal of {@code capGoal}.
+     */
+    private static Transcript getTranscriptWithGoal(double capGoal) {
+        Transcript transcript = new Transcript();
+        transcript.setCapGoal(capGoal);
+        return transcript;
+    }
+
+    /**
+     * Waits for {@code latch} to be counted down.
+     */
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
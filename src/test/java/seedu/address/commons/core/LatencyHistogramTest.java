@@ -0,0 +1,43 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getBucket_everyBucket_upperBoundInSameBucket() {
+        for (long value : new long[] {0, 1, 3, 4, 5, 7, 8, 9, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.getBucket(value);
+            long upperBound = LatencyHistogram.getBucketUpperBound(bucket);
+            assertTrue(value <= upperBound);
+            assertEquals(bucket, LatencyHistogram.getBucket(upperBound));
+            if (upperBound < Long.MAX_VALUE) {
+                assertEquals(bucket + 1, LatencyHistogram.getBucket(upperBound + 1));
+            }
+        }
+    }
+
+    @Test
+    public void getPercentileNanos_recordedValues_withinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentileNanos(50));
+
+        for (long nanos = 1; nanos <= 1000; nanos++) {
+            histogram.record(nanos * 1000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500_500, histogram.getMeanNanos());
+        assertEquals(1_000_000, histogram.getMaxNanos());
+        long median = histogram.getPercentileNanos(50);
+        assertTrue(median >= 500_000 && median <= 500_000 * 5 / 4);
+        assertEquals(1_000_000, histogram.getPercentileNanos(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+    }
+}
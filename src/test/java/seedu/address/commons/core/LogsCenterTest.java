@@ -0,0 +1,41 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class LogsCenterTest {
+    private static final String DETAILED_LOGGER = "LogsCenterTestDetailed";
+    private static final String DEFAULT_LOGGER = "LogsCenterTestDefault";
+
+    @After
+    public void tearDown() {
+        LogsCenter.init(new Config());
+    }
+
+    @Test
+    public void getLogger_sameName_sameLogger() {
+        assertSame(LogsCenter.getLogger(DEFAULT_LOGGER), LogsCenter.getLogger(DEFAULT_LOGGER));
+    }
+
+    @Test
+    public void init_loggerLevels_appliedToNewAndExistingLoggers() {
+        Logger existing = LogsCenter.getLogger(DETAILED_LOGGER);
+        assertFalse(existing.isLoggable(Level.FINE));
+
+        Config config = new Config();
+        config.setLoggerLevels(Map.of(DETAILED_LOGGER, Level.FINE));
+        LogsCenter.init(config);
+
+        assertTrue(existing.isLoggable(Level.FINE));
+        assertFalse(LogsCenter.getLogger(DEFAULT_LOGGER).isLoggable(Level.FINE));
+        assertTrue(LogsCenter.getLogger(DEFAULT_LOGGER).isLoggable(Level.INFO));
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.address.commons.core.jfr;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+public class FlightEventsTest {
+
+    @Test
+    public void finish_noRecording_nothingThrown() {
+        FlightEvents.beginCommand().finish("goal", true);
+        FlightEvents.beginTargetSolve().finish(2, false);
+        FlightEvents.beginHistory("commit").finish(1);
+        FlightEvents.beginStorage("read").finish(Paths.get("missing.json"));
+    }
+}
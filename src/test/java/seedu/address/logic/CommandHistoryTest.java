@@ -6,11 +6,18 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 public class CommandHistoryTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     private CommandHistory history;
 
     @Before
@@ -36,6 +43,43 @@ public class CommandHistoryTest {
         assertEquals(Arrays.asList(validCommand, invalidCommand), history.getHistory());
     }
 
+    //@@author alexkmj
+    @Test
+    public void add_beyondCapacity_oldestCommandsDiscarded() {
+        CommandHistory boundedHistory = new CommandHistory(3);
+        for (int i = 0; i < 10; i++) {
+            boundedHistory.add("command " + i);
+        }
+
+        assertEquals(Arrays.asList("command 7", "command 8", "command 9"), boundedHistory.getHistory());
+    }
+
+    @Test
+    public void snapshot_laterAdditions_snapshotUnchanged() {
+        CommandHistory boundedHistory = new CommandHistory(2);
+        boundedHistory.add("a");
+        boundedHistory.add("b");
+        List<String> snapshot = boundedHistory.snapshot();
+
+        boundedHistory.add("c");
+        assertEquals(Arrays.asList("a", "b"), snapshot);
+        assertEquals(Arrays.asList("b", "c"), boundedHistory.snapshot());
+    }
+
+    @Test
+    public void snapshot_overwrittenByLaterAdditions_throwsConcurrentModificationException() {
+        CommandHistory boundedHistory = new CommandHistory(2);
+        boundedHistory.add("a");
+        List<String> snapshot = boundedHistory.snapshot();
+        boundedHistory.add("b");
+        boundedHistory.add("c");
+        boundedHistory.add("d");
+
+        thrown.expect(ConcurrentModificationException.class);
+        snapshot.get(0);
+    }
+    //@@author
+
     @Test
     public void equals() {
         final CommandHistory commandHistoryWithA = new CommandHistory();
@@ -35,6 +35,20 @@ public class ListElementPointerTest {
         assertEquals(emptyPointer, pointer);
     }
 
+    //@@author alexkmj
+    @Test
+    public void sharing_elementsAdded_sharedListUnmodified() {
+        List<String> list = Collections.unmodifiableList(pointerElements);
+        pointer = ListElementPointer.sharing(list);
+        pointer.add("third");
+
+        assertCurrentSuccess(SECOND_ELEMENT);
+        assertNextSuccess("third");
+        assertEquals(2, list.size());
+        assertEquals(new ListElementPointer(List.of(FIRST_ELEMENT, SECOND_ELEMENT, "third")), pointer);
+    }
+    //@@author
+
     @Test
     public void emptyList() {
         pointer = new ListElementPointer(new ArrayList<>());
@@ -20,6 +20,8 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTranscript;
+import seedu.address.model.TranscriptBatch;
+import seedu.address.model.TranscriptSnapshot;
 import seedu.address.model.capgoal.CapGoal;
 import seedu.address.model.module.Code;
 import seedu.address.model.module.Grade;
@@ -130,6 +132,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public TranscriptSnapshot getTranscriptSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyTranscriptBatch(TranscriptBatch batch) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Module> getFilteredModuleList() {
             throw new AssertionError("This method should not be called.");
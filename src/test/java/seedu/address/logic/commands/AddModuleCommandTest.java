@@ -19,6 +19,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTranscript;
 import seedu.address.model.Transcript;
+import seedu.address.model.TranscriptBatch;
+import seedu.address.model.TranscriptSnapshot;
 import seedu.address.model.capgoal.CapGoal;
 import seedu.address.model.module.Code;
 import seedu.address.model.module.Grade;
@@ -120,6 +122,16 @@ public class AddModuleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public TranscriptSnapshot getTranscriptSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyTranscriptBatch(TranscriptBatch batch) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Module> getFilteredModuleList() {
             throw new AssertionError("This method should not be called.");
@@ -82,8 +82,8 @@ public class CommandTestUtil {
         try {
             CommandResult result = command.execute(actualModel, actualCommandHistory);
             assertEquals(expectedMessage, result.feedbackToUser);
-            assertEquals(expectedModel.getTranscript().getModuleList(),
-                    actualModel.getTranscript().getModuleList());
+            assertEquals(expectedModel.getTranscript().getModules(),
+                    actualModel.getTranscript().getModules());
             assertEquals(expectedCommandHistory, actualCommandHistory);
         } catch (CommandException ce) {
             throw new AssertionError("Execution of command should not fail.", ce);
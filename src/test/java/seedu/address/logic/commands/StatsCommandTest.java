@@ -0,0 +1,36 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Metrics;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private CommandHistory history = new CommandHistory();
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noStatistics_noStatisticsMessage() {
+        Metrics.reset();
+        assertCommandSuccess(new StatsCommand(), model, history, StatsCommand.MESSAGE_NO_STATISTICS, expectedModel);
+    }
+
+    @Test
+    public void execute_commandsExecuted_commandsAndOperationsReported() throws Exception {
+        Metrics.reset();
+        LogicManager logic = new LogicManager(model);
+        logic.execute(GoalCommand.COMMAND_WORD + " 4.5");
+
+        String report = logic.execute(StatsCommand.COMMAND_WORD).feedbackToUser;
+        assertTrue(report.contains("command." + GoalCommand.COMMAND_WORD + ": 1,"));
+        assertTrue(report.contains("parse: 2,"));
+        assertTrue(report.contains("transcript.targetSolve: "));
+    }
+}
@@ -24,6 +24,7 @@ import seedu.address.logic.commands.GoalCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.RedoModuleCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoModuleCommand;
 import seedu.address.logic.parser.arguments.DeleteArgument;
 import seedu.address.logic.parser.arguments.EditArgument;
@@ -165,6 +166,14 @@ public class TranscriptParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    //@@author alexkmj
+    @Test
+    public void parseCommandStats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+    //@@author
+
     @Test
     public void parseCommandHistory() throws Exception {
         assertTrue(parser.parseCommand(HistoryCommand.COMMAND_WORD) instanceof HistoryCommand);
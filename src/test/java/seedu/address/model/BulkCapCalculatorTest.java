@@ -0,0 +1,99 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalModules.DATA_STRUCTURES;
+import static seedu.address.testutil.TypicalModules.getTypicalTranscript;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.util.ModuleBuilder;
+
+public class BulkCapCalculatorTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_nonPositiveLimit_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new BulkCapCalculator(ForkJoinPool.commonPool(), 0);
+    }
+
+    @Test
+    public void calculateAll_manyTranscripts_sameAsTranscript() throws Exception {
+        Map<String, Transcript> transcripts = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            Transcript transcript = getTypicalTranscript();
+            transcript.addModule(new ModuleBuilder().withCode("CS3" + (100 + i)).noGrade().build());
+            transcript.setCapGoal(3.0 + (i % 20) / 10.0);
+            transcripts.put("student" + i, transcript);
+        }
+
+        Map<String, BulkCapCalculator.Result> results = new ConcurrentHashMap<>();
+        new BulkCapCalculator(new ForkJoinPool(4), 3).calculateAll(transcripts.keySet().stream(),
+            name -> Optional.of(transcripts.get(name).snapshot()), result -> results.put(result.getName(), result));
+
+        assertEquals(transcripts.keySet(), results.keySet());
+        for (Map.Entry<String, Transcript> entry : transcripts.entrySet()) {
+            Transcript expected = entry.getValue();
+            BulkCapCalculator.Result result = results.get(entry.getKey());
+            assertFalse(result.getFailure().isPresent());
+            assertEquals(expected.getCurrentCap(), result.getCurrentCap(), 0);
+            assertEquals(expected.isCapGoalImpossible(), result.getCapGoal().isImpossible());
+            assertEquals(expected.getTargetedModulesList(), result.getTargetModules());
+        }
+    }
+
+    @Test
+    public void calculateAll_loadsLimited_inProgressBounded() throws Exception {
+        AtomicInteger loaded = new AtomicInteger();
+        AtomicInteger maxLoaded = new AtomicInteger();
+        AtomicInteger resultCount = new AtomicInteger();
+        new BulkCapCalculator(new ForkJoinPool(8), 2).calculateAll(
+            IntStream.range(0, 40).mapToObj(String::valueOf), name -> {
+                maxLoaded.accumulateAndGet(loaded.incrementAndGet(), Math::max);
+                return Optional.of(getTypicalTranscript());
+            }, result -> {
+                loaded.decrementAndGet();
+                resultCount.incrementAndGet();
+            });
+
+        assertEquals(40, resultCount.get());
+        assertTrue(maxLoaded.get() <= 2);
+    }
+
+    @Test
+    public void calculateAll_missingTranscript_failureReturned() throws Exception {
+        Map<String, BulkCapCalculator.Result> results = new ConcurrentHashMap<>();
+        new BulkCapCalculator().calculateAll(Stream.of("0", "1"),
+            name -> "0".equals(name) ? Optional.empty() : Optional.of(getTypicalTranscript()),
+            result -> results.put(result.getName(), result));
+
+        assertTrue(results.get("0").getFailure().isPresent());
+        assertFalse(results.get("1").getFailure().isPresent());
+    }
+
+    @Test
+    public void calculate_impossibleGoal_notAchievable() {
+        Transcript transcript = new Transcript();
+        transcript.addModule(DATA_STRUCTURES);
+        transcript.setCapGoal(5.0);
+
+        BulkCapCalculator.Result result = BulkCapCalculator.calculate("student", transcript);
+        assertFalse(result.isCapGoalAchievable());
+        assertTrue(result.getTargetModules().isEmpty());
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static seedu.address.testutil.TypicalModules.DATABASE_SYSTEMS;
+import static seedu.address.testutil.TypicalModules.DATA_STRUCTURES;
+import static seedu.address.testutil.TypicalModules.DISCRETE_MATH;
+import static seedu.address.testutil.TypicalModules.SOFTWARE_ENGINEERING;
+import static seedu.address.testutil.TypicalModules.getTranscriptWithModules;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.util.ModuleBuilder;
+
+public class JournalHistoryTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructorNegativeLimitThrowsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new JournalHistory(-1, 0);
+    }
+
+    @Test
+    public void undoRedoRestoresCommittedStates() {
+        VersionedTranscript transcript = new VersionedTranscript(new Transcript(), new JournalHistory());
+        transcript.addModule(DATA_STRUCTURES);
+        transcript.addModule(DISCRETE_MATH);
+        transcript.commit();
+        List<Module> firstState = new ArrayList<>(transcript.getModules());
+        double firstCap = transcript.getCurrentCap();
+
+        Module regraded = new ModuleBuilder(DATA_STRUCTURES).withGrade("C").build();
+        transcript.updateModule(DATA_STRUCTURES, regraded);
+        transcript.removeModule(DISCRETE_MATH);
+        transcript.setCapGoal(4.0);
+        transcript.commit();
+        List<Module> secondState = new ArrayList<>(transcript.getModules());
+
+        transcript.undo();
+        assertEquals(firstState, transcript.getModules());
+        assertEquals(firstCap, transcript.getCurrentCap(), 0);
+        assertFalse(transcript.getCapGoal().isSet());
+
+        transcript.undo();
+        assertTrue(transcript.getModules().isEmpty());
+        assertFalse(transcript.canUndo());
+
+        transcript.redo();
+        transcript.redo();
+        assertEquals(secondState, transcript.getModules());
+        assertEquals(4.0, transcript.getCapGoal().getValue(), 0);
+        assertFalse(transcript.canRedo());
+    }
+
+    @Test
+    public void equalsComparesPastAndFutureStates() {
+        TranscriptSnapshot empty = new Transcript().snapshot();
+        TranscriptSnapshot current = getTranscriptWithModules(DATA_STRUCTURES).snapshot();
+        JournalHistory history = new JournalHistory();
+        history.reset(empty);
+        history.commit(current);
+
+        JournalHistory samePast = new JournalHistory();
+        samePast.reset(empty);
+        samePast.commit(current);
+        assertEquals(history, samePast);
+
+        JournalHistory differentPast = new JournalHistory();
+        differentPast.reset(getTranscriptWithModules(DISCRETE_MATH).snapshot());
+        differentPast.commit(current);
+        assertFalse(history.equals(differentPast));
+
+        // same current state and redoable commit count, different redoable state
+        history.commit(getTranscriptWithModules(DATA_STRUCTURES, DISCRETE_MATH).snapshot());
+        history.undo();
+        samePast.commit(getTranscriptWithModules(DATA_STRUCTURES, SOFTWARE_ENGINEERING).snapshot());
+        samePast.undo();
+        assertFalse(history.equals(samePast));
+    }
+
+    @Test
+    public void commitAfterUndoDiscardsRedoableStates() {
+        VersionedTranscript transcript = new VersionedTranscript(new Transcript(), new JournalHistory());
+        transcript.addModule(DATA_STRUCTURES);
+        transcript.commit();
+        transcript.undo();
+        transcript.addModule(DISCRETE_MATH);
+        transcript.commit();
+
+        assertFalse(transcript.canRedo());
+        transcript.undo();
+        assertTrue(transcript.getModules().isEmpty());
+    }
+
+    @Test
+    public void sizeCountsCurrentUndoableAndRedoableStates() {
+        JournalHistory history = new JournalHistory();
+        VersionedTranscript transcript = new VersionedTranscript(new Transcript(), history);
+        assertEquals(1, history.size());
+        transcript.addModule(DATA_STRUCTURES);
+        transcript.commit();
+        transcript.addModule(DISCRETE_MATH);
+        transcript.commit();
+        transcript.undo();
+
+        assertEquals(3, history.size());
+    }
+
+    @Test
+    public void commitBeyondEntryLimitForgetsOldestCommits() {
+        VersionedTranscript transcript = new VersionedTranscript(new Transcript(), new JournalHistory(2, 0));
+        transcript.addModule(DATA_STRUCTURES);
+        transcript.commit();
+        transcript.addModule(DISCRETE_MATH);
+        transcript.commit();
+        transcript.addModule(SOFTWARE_ENGINEERING);
+        transcript.commit();
+
+        transcript.undo();
+        transcript.undo();
+        assertFalse(transcript.canUndo());
+        assertTrue(transcript.hasModule(DATA_STRUCTURES));
+        assertFalse(transcript.hasModule(DISCRETE_MATH));
+    }
+
+    @Test
+    public void commitBeyondChangeLimitForgetsOldestCommits() {
+        JournalHistory history = new JournalHistory(0, 4);
+        VersionedTranscript transcript = new VersionedTranscript(new Transcript(), history);
+        transcript.addModule(DATA_STRUCTURES);
+        transcript.addModule(DISCRETE_MATH);
+        transcript.commit();
+        transcript.addModule(SOFTWARE_ENGINEERING);
+        transcript.commit();
+        transcript.addModule(DATABASE_SYSTEMS);
+        transcript.commit();
+
+        assertTrue(history.getRetainedChanges() <= 4);
+        transcript.undo();
+        transcript.undo();
+        assertFalse(transcript.canUndo());
+        assertTrue(transcript.hasModule(DISCRETE_MATH));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
@@ -7,14 +8,25 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 
 import org.junit.rules.ExpectedException;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.model.CapGoalChangedEvent;
+import seedu.address.commons.events.model.ModuleAddedEvent;
+import seedu.address.commons.events.model.ModuleRemovedEvent;
+import seedu.address.commons.events.model.ModuleReplacedEvent;
+import seedu.address.commons.events.model.TargetsRecomputedEvent;
 import seedu.address.model.module.Module;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.util.ModuleBuilder;
@@ -27,6 +39,11 @@ public class ModelManagerTest {
 
     private ModelManager modelManager = new ModelManager();
 
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -106,7 +123,7 @@ public class ModelManagerTest {
         Module incomplete = new ModuleBuilder(TypicalModules.DISCRETE_MATH).noGrade().build();
         modelManager.addModule(completed);
         modelManager.addModule(incomplete);
-        ObservableList<Module> completedModules = modelManager.getCompletedModuleList();
+        List<Module> completedModules = modelManager.getCompletedModuleList();
         boolean isAllCompleted = true;
         for (Module module : completedModules) {
             isAllCompleted = isAllCompleted && module.hasCompleted();
@@ -121,7 +138,7 @@ public class ModelManagerTest {
         Module incomplete = new ModuleBuilder(TypicalModules.DISCRETE_MATH).noGrade().build();
         modelManager.addModule(completed);
         modelManager.addModule(incomplete);
-        ObservableList<Module> completedModules = modelManager.getIncompleteModuleList();
+        List<Module> completedModules = modelManager.getIncompleteModuleList();
         boolean isAllCompleted = false;
         for (Module module : completedModules) {
             isAllCompleted = isAllCompleted || module.hasCompleted();
@@ -129,4 +146,105 @@ public class ModelManagerTest {
 
         assertFalse(isAllCompleted);
     }
+
+    //@@author
+
+    //@@author alexkmj
+    @Test
+    public void getTranscriptSnapshot_afterChanges_publishesLatestState() {
+        TranscriptSnapshot initial = modelManager.getTranscriptSnapshot();
+        assertTrue(initial.getModules().isEmpty());
+
+        modelManager.addModule(TypicalModules.DATA_STRUCTURES);
+        modelManager.updateCapGoal(4.0);
+        TranscriptSnapshot published = modelManager.getTranscriptSnapshot();
+        assertEquals(modelManager.getTranscript().getModules(), published.getModules());
+        assertEquals(modelManager.getCap(), published.getCurrentCap(), 0);
+        assertEquals(4.0, published.getCapGoal().getValue(), 0);
+
+        // earlier snapshots are unaffected
+        assertTrue(initial.getModules().isEmpty());
+    }
+
+    @Test
+    public void changeModules_raisesDeltaEventsInOrder() {
+        List<BaseEvent> events = collectDeltaEvents();
+        Module edited = new ModuleBuilder(TypicalModules.DATA_STRUCTURES).withGrade("B").build();
+
+        modelManager.addModule(TypicalModules.DATA_STRUCTURES);
+        modelManager.updateModule(TypicalModules.DATA_STRUCTURES, edited);
+        modelManager.deleteModule(edited);
+
+        assertEquals(3, events.size());
+        assertEquals(TypicalModules.DATA_STRUCTURES, getEvent(events, 0, ModuleAddedEvent.class).module);
+        ModuleReplacedEvent replaced = getEvent(events, 1, ModuleReplacedEvent.class);
+        assertEquals(TypicalModules.DATA_STRUCTURES, replaced.previous);
+        assertEquals(edited, replaced.updated);
+        assertEquals(edited, getEvent(events, 2, ModuleRemovedEvent.class).module);
+    }
+
+    @Test
+    public void updateCapGoal_incompleteModules_raisesCapGoalAndTargetEvents() {
+        Module incomplete = new ModuleBuilder(TypicalModules.DISCRETE_MATH).noGrade().build();
+        modelManager.addModule(TypicalModules.DATA_STRUCTURES);
+        modelManager.addModule(incomplete);
+        List<BaseEvent> events = collectDeltaEvents();
+
+        modelManager.updateCapGoal(2.0);
+
+        assertEquals(2, events.size());
+        CapGoalChangedEvent capGoalChanged = getEvent(events, 0, CapGoalChangedEvent.class);
+        assertFalse(capGoalChanged.previous.isSet());
+        assertEquals(2.0, capGoalChanged.updated.getValue(), 0);
+        TargetsRecomputedEvent recomputed = getEvent(events, 1, TargetsRecomputedEvent.class);
+        assertEquals(List.of(incomplete), recomputed.previous);
+        assertEquals(1, recomputed.updated.size());
+        assertTrue(recomputed.updated.get(0).isSameModule(incomplete));
+        assertTrue(recomputed.updated.get(0).isTargetted());
+    }
+
+    @Test
+    public void endTransaction_changesDuringTransaction_raisesDeltaEventsOnce() {
+        List<BaseEvent> events = collectDeltaEvents();
+        Module edited = new ModuleBuilder(TypicalModules.DATA_STRUCTURES).withGrade("B").build();
+
+        modelManager.beginTransaction();
+        modelManager.addModule(TypicalModules.DATA_STRUCTURES);
+        modelManager.updateModule(TypicalModules.DATA_STRUCTURES, edited);
+        modelManager.addModule(TypicalModules.SOFTWARE_ENGINEERING);
+        assertTrue(events.isEmpty());
+        modelManager.endTransaction();
+
+        assertEquals(2, events.size());
+        Set<Module> added = new HashSet<>();
+        added.add(getEvent(events, 0, ModuleAddedEvent.class).module);
+        added.add(getEvent(events, 1, ModuleAddedEvent.class).module);
+        assertEquals(Set.of(edited, TypicalModules.SOFTWARE_ENGINEERING), added);
+    }
+
+    /**
+     * Returns the delta events raised from now on, in the order they are
+     * raised.
+     */
+    private List<BaseEvent> collectDeltaEvents() {
+        List<BaseEvent> events = new ArrayList<>();
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.subscribe(ModuleAddedEvent.class, events::add);
+        eventsCenter.subscribe(ModuleRemovedEvent.class, events::add);
+        eventsCenter.subscribe(ModuleReplacedEvent.class, events::add);
+        eventsCenter.subscribe(CapGoalChangedEvent.class, events::add);
+        eventsCenter.subscribe(TargetsRecomputedEvent.class, events::add);
+        return events;
+    }
+
+    /**
+     * Returns the event at {@code index} of {@code events}, asserting that it
+     * is of type {@code type}.
+     */
+    private static <E extends BaseEvent> E getEvent(List<BaseEvent> events, int index, Class<E> type) {
+        BaseEvent event = events.get(index);
+        assertEquals(type, event.getClass());
+        return type.cast(event);
+    }
+    //@@author
 }
@@ -0,0 +1,161 @@
+package seedu.address.model;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalModules.DATA_STRUCTURES;
+import static seedu.address.testutil.TypicalModules.DISCRETE_MATH;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.util.ModuleBuilder;
+import seedu.address.storage.JsonTranscriptStorage;
+import seedu.address.storage.TranscriptStorage;
+
+public class TranscriptRegistryTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private TranscriptStorage getStorage(String name) {
+        return new JsonTranscriptStorage(testFolder.getRoot().toPath().resolve(name + ".json"));
+    }
+
+    @Test
+    public void constructor_nonPositiveLimit_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new TranscriptRegistry(this::getStorage, 0, 1);
+    }
+
+    @Test
+    public void submit_sameTranscript_tasksRunInSubmissionOrder() throws Exception {
+        TranscriptRegistry registry = new TranscriptRegistry(this::getStorage, 4, 4);
+        List<Integer> order = new ArrayList<>();
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int taskNumber = i;
+            String code = "CS" + (1000 + i);
+            results.add(registry.submit("alice", transcript -> {
+                transcript.addModule(new ModuleBuilder().withCode(code).build());
+                return order.add(taskNumber);
+            }));
+        }
+        for (CompletableFuture<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+
+        List<Integer> expectedOrder = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expectedOrder.add(i);
+        }
+        assertEquals(expectedOrder, registry.submit("alice", transcript -> new ArrayList<>(order)).get());
+        assertEquals(100, (int) registry.submit("alice", transcript -> transcript.getModules().size()).get());
+        registry.close();
+    }
+
+    @Test
+    public void submit_busyTranscript_otherTranscriptsNotStarved() throws Exception {
+        TranscriptRegistry registry = new TranscriptRegistry(this::getStorage, 4, 2);
+        CountDownLatch bobDone = new CountDownLatch(1);
+        CompletableFuture<Boolean> alice = registry.submit("alice", transcript -> await(bobDone));
+        CompletableFuture<Boolean> aliceAgain = registry.submit("alice", transcript -> true);
+        CompletableFuture<Boolean> bob = registry.submit("bob", transcript -> {
+            bobDone.countDown();
+            return true;
+        });
+
+        assertTrue(bob.get(10, TimeUnit.SECONDS));
+        assertTrue(alice.get(10, TimeUnit.SECONDS));
+        assertTrue(aliceAgain.get(10, TimeUnit.SECONDS));
+        registry.close();
+    }
+
+    @Test
+    public void close_readOnlyTasks_transcriptNotSaved() throws Exception {
+        TranscriptRegistry registry = new TranscriptRegistry(this::getStorage, 4, 2);
+        assertFalse(registry.submit("alice", transcript -> transcript.hasModule(DISCRETE_MATH)).get());
+        registry.close();
+        assertFalse(Files.exists(getStorage("alice").getTranscriptFilePath()));
+    }
+
+    @Test
+    public void submit_differentTranscripts_tasksRunInParallel() throws Exception {
+        TranscriptRegistry registry = new TranscriptRegistry(this::getStorage, 4, 2);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CompletableFuture<Boolean> alice = registry.submit("alice", transcript -> awaitOther(bothStarted));
+        CompletableFuture<Boolean> bob = registry.submit("bob", transcript -> awaitOther(bothStarted));
+
+        assertTrue(alice.get(10, TimeUnit.SECONDS));
+        assertTrue(bob.get(10, TimeUnit.SECONDS));
+        registry.close();
+    }
+
+    /**
+     * Waits until the other task has started too, and returns true if it did.
+     */
+    private static boolean awaitOther(CountDownLatch bothStarted) {
+        bothStarted.countDown();
+        return await(bothStarted);
+    }
+
+    /**
+     * Waits until {@code latch} is counted down, and returns true if it was.
+     */
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    @Test
+    public void submit_beyondLoadedLimit_leastRecentlyUsedSavedAndReloaded() throws Exception {
+        TranscriptRegistry registry = new TranscriptRegistry(this::getStorage, 1, 1);
+        registry.submit("alice", transcript -> {
+            transcript.addModule(DISCRETE_MATH);
+            return null;
+        }).get();
+        assertFalse(Files.exists(getStorage("alice").getTranscriptFilePath()));
+
+        registry.submit("bob", transcript -> {
+            transcript.addModule(DATA_STRUCTURES);
+            return null;
+        }).get();
+        assertEquals(1, registry.getLoadedCount());
+        assertTrue(Files.exists(getStorage("alice").getTranscriptFilePath()));
+
+        assertTrue(registry.submit("alice", transcript -> transcript.hasModule(DISCRETE_MATH)).get());
+        assertFalse(registry.submit("alice", transcript -> transcript.hasModule(DATA_STRUCTURES)).get());
+
+        registry.close();
+        assertTrue(new Transcript(getStorage("bob").readTranscript().get()).hasModule(DATA_STRUCTURES));
+    }
+
+    @Test
+    public void submit_invalidStoredTranscript_exceptionReturned() throws Exception {
+        Path filePath = getStorage("alice").getTranscriptFilePath();
+        Files.write(filePath, "not json".getBytes());
+        TranscriptRegistry registry = new TranscriptRegistry(this::getStorage, 1, 1);
+
+        thrown.expect(ExecutionException.class);
+        thrown.expectCause(instanceOf(DataConversionException.class));
+        registry.submit("alice", transcript -> null).get();
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.testutil.TypicalModules.MODULES_WITHOUT_NON_AFFECTING_MODULES_CAP;
 import static seedu.address.testutil.TypicalModules.getModulesWithNonGradeAffectingModules;
 import static seedu.address.testutil.TypicalModules.getModulesWithoutNonGradeAffectingModules;
@@ -15,10 +16,10 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import javafx.collections.ObservableList;
-
+import seedu.address.model.capgoal.CapGoal;
 import seedu.address.model.module.Grade;
 import seedu.address.model.module.Module;
+import seedu.address.model.module.exceptions.DuplicateModuleException;
 import seedu.address.model.module.exceptions.ModuleCompletedException;
 import seedu.address.model.module.exceptions.ModuleNotFoundException;
 import seedu.address.model.util.ModuleBuilder;
@@ -216,6 +217,82 @@ public class TranscriptTest {
         assertCapScoreEquals(modules, MODULES_WITHOUT_NON_AFFECTING_MODULES_CAP);
     }
 
+    @Test
+    public void assertCapScoreAfterIncrementalUpdatesSuccess() {
+        Transcript transcript = new Transcript();
+        transcript.addModule(GRADE_A_4MC_A);
+        transcript.addModule(GRADE_BMINUS_4MC_A);
+        assertEquals(4.0, transcript.getCurrentCap(), 0);
+
+        Module gradeBPlus = new ModuleBuilder(GRADE_BMINUS_4MC_A).withGrade("B+").build();
+        transcript.updateModule(GRADE_BMINUS_4MC_A, gradeBPlus);
+        assertEquals(4.5, transcript.getCurrentCap(), 0);
+
+        transcript.removeModule(GRADE_A_4MC_A);
+        assertEquals(4.0, transcript.getCurrentCap(), 0);
+
+        transcript.removeModule(gradeBPlus);
+        assertEquals(0, transcript.getCurrentCap(), 0);
+    }
+
+    @Test
+    public void assertApplyBatchSuccess() {
+        Transcript transcript = new Transcript();
+        transcript.addModule(GRADE_A_4MC_A);
+        transcript.addModule(GRADE_BMINUS_4MC_A);
+
+        Module gradeBPlus = new ModuleBuilder(GRADE_BMINUS_4MC_A).withGrade("B+").build();
+        transcript.applyBatch(new TranscriptBatch()
+                .removeModule(GRADE_A_4MC_A)
+                .updateModule(GRADE_BMINUS_4MC_A, gradeBPlus)
+                .addModule(INCOMPLETE_4MC_A)
+                .setCapGoal(new CapGoal(4.5)));
+
+        assertEquals(Arrays.asList(gradeBPlus, INCOMPLETE_4MC_A.updateTargetGrade(5.0)),
+                transcript.getModules());
+        assertEquals(4.0, transcript.getCurrentCap(), 0);
+        assertEquals(4.5, transcript.getCapGoal().getValue(), 0);
+    }
+
+    @Test
+    public void assertRestoreSnapshotSuccess() {
+        VersionedTranscript transcript = new VersionedTranscript(new Transcript());
+        transcript.addModule(GRADE_A_4MC_A);
+        transcript.setCapGoal(4.5);
+        transcript.commit();
+        List<Module> expectedModules = new ArrayList<>(transcript.getModules());
+
+        transcript.addModule(INCOMPLETE_4MC_A);
+        transcript.removeModule(GRADE_A_4MC_A);
+        transcript.commit();
+
+        transcript.undo();
+        assertEquals(expectedModules, transcript.getModules());
+        assertEquals(5.0, transcript.getCurrentCap(), 0);
+        assertEquals(4.5, transcript.getCapGoal().getValue(), 0);
+
+        transcript.redo();
+        assertFalse(transcript.hasModule(GRADE_A_4MC_A));
+        assertEquals(0, transcript.getCurrentCap(), 0);
+    }
+
+    @Test
+    public void assertApplyInvalidBatchTranscriptUnchanged() {
+        Transcript transcript = new Transcript();
+        transcript.addModule(GRADE_A_4MC_A);
+
+        try {
+            transcript.applyBatch(new TranscriptBatch()
+                    .removeModule(GRADE_A_4MC_A)
+                    .addModule(GRADE_BMINUS_4MC_A)
+                    .addModule(GRADE_BMINUS_4MC_A));
+            fail("DuplicateModuleException should be thrown");
+        } catch (DuplicateModuleException dme) {
+            assertEquals(Arrays.asList(GRADE_A_4MC_A), transcript.getModules());
+            assertEquals(5.0, transcript.getCurrentCap(), 0);
+        }
+    }
+
     @Test
     public void assertAddingIncompleteModuleWithoutCapGoalNoTargetGrade() {
         Transcript transcript = new Transcript();
@@ -335,7 +412,7 @@ public class TranscriptTest {
      * @return
      */
     private String getTargetGradesStringFromTranscript(Transcript transcript) {
-        ObservableList<Module> targetModules = transcript.getTargetedModulesList();
+        List<Module> targetModules = transcript.getTargetedModulesList();
         List<String> targetGrades = new ArrayList<>();
         targetModules.forEach(module -> targetGrades.add(module.getGrade().value));
         String targetGradesString = String.join(DELIMITER, targetGrades);
@@ -0,0 +1,160 @@
+package seedu.address.model.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import static seedu.address.testutil.TypicalModules.DATA_STRUCTURES;
+import static seedu.address.testutil.TypicalModules.DISCRETE_MATH;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.util.ModuleBuilder;
+
+public class PersistentModuleMapTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PersistentModuleMap empty = PersistentModuleMap.empty();
+
+    @Test
+    public void containsNullModuleThrowsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        empty.contains(null);
+    }
+
+    @Test
+    public void putModuleContainsModule() {
+        PersistentModuleMap map = empty.put(DATA_STRUCTURES, 0);
+        assertTrue(map.contains(DATA_STRUCTURES));
+        assertFalse(map.contains(DISCRETE_MATH));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void putModuleOriginalMapUnchanged() {
+        PersistentModuleMap map = empty.put(DATA_STRUCTURES, 0);
+        PersistentModuleMap updated = map.put(DISCRETE_MATH, 1);
+        assertFalse(map.contains(DISCRETE_MATH));
+        assertTrue(updated.contains(DISCRETE_MATH));
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    public void putSameIdentityReplacesModule() {
+        Module regraded = new ModuleBuilder(DATA_STRUCTURES).withGrade("C").build();
+        PersistentModuleMap map = empty.put(DATA_STRUCTURES, 0).put(regraded, 0);
+        assertEquals(1, map.size());
+        assertEquals(regraded, map.get(DATA_STRUCTURES.getKey()));
+    }
+
+    @Test
+    public void removeAbsentModuleReturnsSameMap() {
+        PersistentModuleMap map = empty.put(DATA_STRUCTURES, 0);
+        assertSame(map, map.remove(DISCRETE_MATH.getKey()));
+    }
+
+    @Test
+    public void removeModuleNoLongerContained() {
+        PersistentModuleMap map = empty.put(DATA_STRUCTURES, 0).put(DISCRETE_MATH, 1);
+        PersistentModuleMap removed = map.remove(DATA_STRUCTURES.getKey());
+        assertFalse(removed.contains(DATA_STRUCTURES));
+        assertTrue(removed.contains(DISCRETE_MATH));
+        assertEquals(1, removed.size());
+        assertTrue(map.contains(DATA_STRUCTURES));
+    }
+
+    @Test
+    public void toListOrderedByOrdinal() {
+        PersistentModuleMap map = empty.put(DISCRETE_MATH, 5).put(DATA_STRUCTURES, 2);
+        assertEquals(Arrays.asList(DATA_STRUCTURES, DISCRETE_MATH), map.toList());
+    }
+
+    @Test
+    public void diffReportsOnlyChangedModules() {
+        List<Module> modules = createModules(500);
+        PersistentModuleMap before = empty;
+        for (int i = 0; i < modules.size(); i++) {
+            before = before.put(modules.get(i), i);
+        }
+
+        Module regraded = new ModuleBuilder(modules.get(7)).withGrade("C").build();
+        PersistentModuleMap after = before
+                .remove(modules.get(3).getKey())
+                .put(regraded, 7)
+                .put(DATA_STRUCTURES, modules.size());
+
+        List<String> changes = new ArrayList<>();
+        before.diff(after, (oldModule, newModule) -> {
+            String oldCode = oldModule == null ? "-" : oldModule.getCode().value;
+            String newCode = newModule == null ? "-" : newModule.getCode().value;
+            changes.add(oldCode + ">" + newCode);
+        });
+        changes.sort(String::compareTo);
+
+        assertEquals(Arrays.asList(
+                "-" + ">" + DATA_STRUCTURES.getCode().value,
+                modules.get(3).getCode().value + ">-",
+                modules.get(7).getCode().value + ">" + regraded.getCode().value),
+                changes);
+    }
+
+    @Test
+    public void diffSameMapReportsNothing() {
+        PersistentModuleMap map = empty.put(DATA_STRUCTURES, 0);
+        map.diff(map, (before, after) -> {
+            throw new AssertionError("Unexpected change");
+        });
+    }
+
+    @Test
+    public void randomUpdatesMatchHashMap() {
+        Random random = new Random(2103);
+        List<Module> modules = createModules(2000);
+        Map<ModuleKey, Module> expected = new HashMap<>();
+        PersistentModuleMap map = empty;
+
+        for (int i = 0; i < 20000; i++) {
+            Module module = modules.get(random.nextInt(modules.size()));
+            if (random.nextInt(3) == 0) {
+                map = map.remove(module.getKey());
+                expected.remove(module.getKey());
+            } else {
+                map = map.put(module, i);
+                expected.put(module.getKey(), module);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (Module module : modules) {
+            assertEquals(expected.get(module.getKey()), map.get(module.getKey()));
+        }
+        assertNull(map.get(DATA_STRUCTURES.getKey()));
+    }
+
+    /**
+     * Returns {@code count} modules with distinct identities.
+     */
+    private static List<Module> createModules(int count) {
+        List<Module> modules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            modules.add(new ModuleBuilder()
+                    .withCode("MOD" + i)
+                    .withYear(i % 5 + 1)
+                    .build());
+        }
+        return modules;
+    }
+}
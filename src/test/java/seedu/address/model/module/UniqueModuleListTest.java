@@ -7,6 +7,7 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalModules.DATA_STRUCTURES;
 import static seedu.address.testutil.TypicalModules.DISCRETE_MATH;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -17,6 +18,7 @@ import org.junit.rules.ExpectedException;
 
 import seedu.address.model.module.exceptions.DuplicateModuleException;
 import seedu.address.model.module.exceptions.ModuleNotFoundException;
+import seedu.address.model.module.exceptions.MultipleModuleEntryFoundException;
 import seedu.address.model.util.ModuleBuilder;
 
 public class UniqueModuleListTest {
@@ -174,8 +176,119 @@ public class UniqueModuleListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableListModifyListThrowsUnsupportedOperationException() {
+    public void asUnmodifiableListModifyListThrowsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
-        uniqueModuleList.asUnmodifiableObservableList().remove(0);
+        uniqueModuleList.asUnmodifiableList().remove(0);
+    }
+
+    @Test
+    public void addAllDuplicateModuleThrowsDuplicateModuleException() {
+        uniqueModuleList.add(DATA_STRUCTURES);
+        thrown.expect(DuplicateModuleException.class);
+        uniqueModuleList.addAll(Arrays.asList(DISCRETE_MATH, DATA_STRUCTURES));
+    }
+
+    @Test
+    public void removeAllRemovedModulesNoLongerContained() {
+        uniqueModuleList.add(DATA_STRUCTURES);
+        uniqueModuleList.add(DISCRETE_MATH);
+        uniqueModuleList.removeAll(Collections.singletonList(DATA_STRUCTURES));
+        assertFalse(uniqueModuleList.contains(DATA_STRUCTURES));
+        assertTrue(uniqueModuleList.contains(DISCRETE_MATH));
+    }
+
+    @Test
+    public void removePredicateRemovedModulesNoLongerContained() {
+        uniqueModuleList.add(DATA_STRUCTURES);
+        uniqueModuleList.add(DISCRETE_MATH);
+        uniqueModuleList.remove(DATA_STRUCTURES::equals);
+        assertFalse(uniqueModuleList.contains(DATA_STRUCTURES));
+        assertTrue(uniqueModuleList.contains(DISCRETE_MATH));
+    }
+
+    @Test
+    public void setModuleEditedModuleFoundByNewIdentity() {
+        uniqueModuleList.add(DATA_STRUCTURES);
+        Module editedDataStructures = new ModuleBuilder(DATA_STRUCTURES)
+                .withYear(DISCRETE_MATH.getYear().value + 1)
+                .build();
+        uniqueModuleList.setModule(DATA_STRUCTURES, editedDataStructures);
+        assertFalse(uniqueModuleList.contains(DATA_STRUCTURES));
+        assertEquals(editedDataStructures, uniqueModuleList.find(editedDataStructures));
+    }
+
+    @Test
+    public void getOnlyOneModuleCodeOnlyReturnsModule() {
+        uniqueModuleList.add(DATA_STRUCTURES);
+        uniqueModuleList.add(DISCRETE_MATH);
+        assertEquals(DATA_STRUCTURES, uniqueModuleList.getOnlyOneModule(
+                DATA_STRUCTURES.getCode(), null, null));
+    }
+
+    @Test
+    public void getOnlyOneModuleRetakenModuleThrowsMultipleModuleEntryFoundException() {
+        Module retakenDataStructures = new ModuleBuilder(DATA_STRUCTURES)
+                .withYear(DATA_STRUCTURES.getYear().value + 1)
+                .build();
+        uniqueModuleList.add(DATA_STRUCTURES);
+        uniqueModuleList.add(retakenDataStructures);
+        thrown.expect(MultipleModuleEntryFoundException.class);
+        uniqueModuleList.getOnlyOneModule(DATA_STRUCTURES.getCode(), null, null);
+    }
+
+    @Test
+    public void getOnlyOneModuleRetakenModuleWithYearReturnsModule() {
+        Module retakenDataStructures = new ModuleBuilder(DATA_STRUCTURES)
+                .withYear(DATA_STRUCTURES.getYear().value + 1)
+                .build();
+        uniqueModuleList.add(DATA_STRUCTURES);
+        uniqueModuleList.add(retakenDataStructures);
+        assertEquals(retakenDataStructures, uniqueModuleList.getOnlyOneModule(
+                DATA_STRUCTURES.getCode(), retakenDataStructures.getYear(), null));
+    }
+
+    @Test
+    public void getOnlyOneModuleRemovedModuleThrowsModuleNotFoundException() {
+        uniqueModuleList.add(DATA_STRUCTURES);
+        uniqueModuleList.remove(DATA_STRUCTURES);
+        thrown.expect(ModuleNotFoundException.class);
+        uniqueModuleList.getOnlyOneModule(DATA_STRUCTURES.getCode(),
+                DATA_STRUCTURES.getYear(), DATA_STRUCTURES.getSemester());
+    }
+
+    @Test
+    public void restoreSnapshotRestoresModulesInOrder() {
+        Module retakenDataStructures = new ModuleBuilder(DATA_STRUCTURES)
+                .withYear(DATA_STRUCTURES.getYear().value + 1)
+                .build();
+        uniqueModuleList.add(DATA_STRUCTURES);
+        uniqueModuleList.add(DISCRETE_MATH);
+        uniqueModuleList.add(retakenDataStructures);
+        List<Module> expectedModules = new ArrayList<>(
+                uniqueModuleList.asUnmodifiableList());
+        PersistentModuleMap snapshot = uniqueModuleList.snapshot();
+
+        uniqueModuleList.remove(DISCRETE_MATH);
+        uniqueModuleList.setModule(DATA_STRUCTURES,
+                new ModuleBuilder(DATA_STRUCTURES).withGrade("C").build());
+        uniqueModuleList.add(DISCRETE_MATH);
+
+        List<Module> changes = new ArrayList<>();
+        uniqueModuleList.restore(snapshot, (before, after) -> changes.add(after));
+
+        assertEquals(expectedModules, uniqueModuleList.asUnmodifiableList());
+        assertEquals(3, changes.size());
+        assertEquals(DATA_STRUCTURES, uniqueModuleList.getOnlyOneModule(
+                DATA_STRUCTURES.getCode(), DATA_STRUCTURES.getYear(), null));
+    }
+
+    @Test
+    public void restoreUnchangedSnapshotReportsNoChanges() {
+        uniqueModuleList.add(DATA_STRUCTURES);
+        uniqueModuleList.restore(uniqueModuleList.snapshot(), (before, after) -> {
+            throw new AssertionError("Unexpected change");
+        });
+        assertEquals(Collections.singletonList(DATA_STRUCTURES),
+                uniqueModuleList.asUnmodifiableList());
     }
 }
@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalModules.getTypicalTranscript;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Transcript;
+
+public class BinaryTranscriptStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path jsonFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("transcript.bin");
+        jsonFilePath = testFolder.getRoot().toPath().resolve("transcript.json");
+    }
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(BinaryTranscriptStorage.isBinaryFile(filePath));
+        assertFalse(BinaryTranscriptStorage.isBinaryFile(jsonFilePath));
+    }
+
+    @Test
+    public void readTranscript_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTranscriptStorage(filePath).readTranscript().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTranscript_typicalTranscript_success() throws Exception {
+        Transcript original = getTypicalTranscript();
+        original.setCapGoal(4.5);
+        BinaryTranscriptStorage storage = new BinaryTranscriptStorage(filePath);
+
+        storage.saveTranscript(original);
+        Transcript readBack = new Transcript(storage.readTranscript().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getModules(), readBack.getModules());
+        assertEquals(4.5, readBack.getCapGoal().getValue(), 0);
+
+        original.removeModule(original.getModules().get(0));
+        storage.saveTranscript(original);
+        assertEquals(original, new Transcript(storage.readTranscript().get()));
+    }
+
+    @Test
+    public void saveTranscript_typicalTranscript_smallerThanJson() throws Exception {
+        Transcript original = getTypicalTranscript();
+        new BinaryTranscriptStorage(filePath).saveTranscript(original);
+        new JsonTranscriptStorage(jsonFilePath, true).saveTranscript(original);
+
+        assertTrue(Files.size(filePath) * 4 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readTranscript_onlyJsonFile_jsonImported() throws Exception {
+        Transcript original = getTypicalTranscript();
+        new JsonTranscriptStorage(jsonFilePath).saveTranscript(original);
+
+        assertEquals(original, new Transcript(new BinaryTranscriptStorage(filePath).readTranscript().get()));
+    }
+
+    @Test
+    public void saveTranscript_jsonFilePath_jsonExported() throws Exception {
+        Transcript original = getTypicalTranscript();
+        new BinaryTranscriptStorage(filePath).saveTranscript(original, jsonFilePath);
+
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new Transcript(new JsonTranscriptStorage(jsonFilePath).readTranscript().get()));
+    }
+
+    @Test
+    public void readTranscript_notBinaryFormat_throwsDataConversionException() throws Exception {
+        new JsonTranscriptStorage(filePath).saveTranscript(getTypicalTranscript(), filePath);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryTranscriptStorage(filePath).readTranscript();
+    }
+
+    @Test
+    public void readTranscript_truncatedFile_throwsDataConversionException() throws Exception {
+        BinaryTranscriptStorage storage = new BinaryTranscriptStorage(filePath);
+        storage.saveTranscript(getTypicalTranscript());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        thrown.expect(DataConversionException.class);
+        storage.readTranscript();
+    }
+
+    @Test
+    public void saveTranscript_nullTranscript_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryTranscriptStorage(filePath).saveTranscript(null);
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalModules.DATABASE_SYSTEMS;
+import static seedu.address.testutil.TypicalModules.DATA_STRUCTURES;
+import static seedu.address.testutil.TypicalModules.DISCRETE_MATH;
+import static seedu.address.testutil.TypicalModules.SOFTWARE_ENGINEERING;
+import static seedu.address.testutil.TypicalModules.getTranscriptWithModules;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Transcript;
+import seedu.address.model.module.Module;
+import seedu.address.model.util.ModuleBuilder;
+
+public class JournalTranscriptStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("transcript.json");
+        journalFilePath = JournalTranscriptStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readTranscript_noJournal_jsonFileRead() throws Exception {
+        Transcript original = getTranscriptWithModules(DISCRETE_MATH, DATA_STRUCTURES);
+        new JsonTranscriptStorage(filePath).saveTranscript(original);
+
+        JournalTranscriptStorage storage = new JournalTranscriptStorage(filePath);
+        assertEquals(original, new Transcript(storage.readTranscript().get()));
+        assertFalse(new JournalTranscriptStorage(testFolder.getRoot().toPath().resolve("missing.json"))
+                .readTranscript().isPresent());
+    }
+
+    @Test
+    public void saveTranscript_compact_jsonFileWrittenWithoutWhitespace() throws Exception {
+        JournalTranscriptStorage storage = new JournalTranscriptStorage(filePath, true);
+        Transcript transcript = getTranscriptWithModules(DISCRETE_MATH, DATA_STRUCTURES);
+
+        storage.saveTranscript(transcript.snapshot());
+
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(transcript, new Transcript(new JsonTranscriptStorage(filePath).readTranscript().get()));
+    }
+
+    @Test
+    public void saveTranscript_changes_appendedAndReadBack() throws Exception {
+        JournalTranscriptStorage storage = new JournalTranscriptStorage(filePath);
+        Transcript transcript = getTranscriptWithModules(DISCRETE_MATH, DATA_STRUCTURES);
+        storage.saveTranscript(transcript.snapshot());
+
+        transcript.addModule(SOFTWARE_ENGINEERING);
+        storage.saveTranscript(transcript.snapshot());
+        Module recoded = new ModuleBuilder(DISCRETE_MATH).withCode("CS1231S").build();
+        transcript.updateModule(DISCRETE_MATH, recoded);
+        transcript.removeModule(DATA_STRUCTURES);
+        transcript.setCapGoal(4.5);
+        storage.saveTranscript(transcript.snapshot());
+        storage.saveTranscript(transcript.snapshot());
+
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        Transcript readBack = new Transcript(storage.readTranscript().get());
+        assertEquals(transcript, readBack);
+        assertEquals(transcript.getModules(), readBack.getModules());
+        assertEquals(4.5, readBack.getCapGoal().getValue(), 0);
+    }
+
+    @Test
+    public void saveTranscript_manyChanges_journalCompacted() throws Exception {
+        JournalTranscriptStorage storage = new JournalTranscriptStorage(filePath);
+        Transcript transcript = new Transcript();
+        storage.saveTranscript(transcript.snapshot());
+        for (int i = 0; i < 80; i++) {
+            transcript.addModule(new ModuleBuilder().withCode("CS" + (1000 + i)).build());
+            storage.saveTranscript(transcript.snapshot());
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath);
+        assertEquals(80 - 64, lines.size());
+        assertEquals(transcript, new Transcript(storage.readTranscript().get()));
+        assertEquals(transcript.getModules().subList(0, 65),
+                new Transcript(new JsonTranscriptStorage(filePath).readTranscript().get()).getModules());
+    }
+
+    @Test
+    public void readTranscript_incompleteLastRecord_recordIgnored() throws Exception {
+        JournalTranscriptStorage storage = new JournalTranscriptStorage(filePath);
+        Transcript transcript = getTranscriptWithModules(DISCRETE_MATH);
+        storage.saveTranscript(transcript.snapshot());
+        Transcript expected = new Transcript(transcript);
+        transcript.addModule(DATABASE_SYSTEMS);
+        storage.saveTranscript(transcript.snapshot());
+
+        List<String> lines = Files.readAllLines(journalFilePath);
+        String lastLine = lines.get(1);
+        Files.write(journalFilePath, (lines.get(0) + "\n" + lastLine.substring(0, lastLine.length() / 2))
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.TRUNCATE_EXISTING);
+
+        assertEquals(expected, new Transcript(storage.readTranscript().get()));
+    }
+
+    @Test
+    public void readTranscript_invalidRecordBeforeLast_throwsDataConversionException() throws Exception {
+        JournalTranscriptStorage storage = new JournalTranscriptStorage(filePath);
+        Transcript transcript = getTranscriptWithModules(DISCRETE_MATH);
+        storage.saveTranscript(transcript.snapshot());
+        transcript.addModule(DATABASE_SYSTEMS);
+        storage.saveTranscript(transcript.snapshot());
+        Files.write(journalFilePath, "{\"put\":[]}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        transcript.removeModule(DATABASE_SYSTEMS);
+        storage.saveTranscript(transcript.snapshot());
+
+        thrown.expect(DataConversionException.class);
+        storage.readTranscript();
+    }
+
+    @Test
+    public void readTranscript_jsonFileSavedWithoutJournal_staleJournalIgnored() throws Exception {
+        Transcript transcript = getTranscriptWithModules(DISCRETE_MATH);
+        new JournalTranscriptStorage(filePath).saveTranscript(transcript.snapshot());
+
+        // journaling turned off, the transcript changed and saved to the json data file alone
+        transcript.addModule(DATA_STRUCTURES);
+        new JsonTranscriptStorage(filePath).saveTranscript(transcript);
+
+        JournalTranscriptStorage storage = new JournalTranscriptStorage(filePath);
+        assertEquals(transcript, new Transcript(storage.readTranscript().get()));
+
+        // the next save replaces the stale journal
+        transcript.addModule(SOFTWARE_ENGINEERING);
+        storage.saveTranscript(transcript.snapshot());
+        assertEquals(transcript, new Transcript(storage.readTranscript().get()));
+    }
+
+    @Test
+    public void saveTranscript_otherFilePath_snapshotWritten() throws Exception {
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("other.json");
+        Transcript transcript = getTranscriptWithModules(DISCRETE_MATH, DATA_STRUCTURES);
+        new JournalTranscriptStorage(filePath).saveTranscript(transcript, otherFilePath);
+
+        assertEquals(1, Files.readAllLines(JournalTranscriptStorage.getJournalFilePath(otherFilePath)).size());
+        assertEquals(transcript, new Transcript(new JournalTranscriptStorage(otherFilePath).readTranscript().get()));
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveTranscript_nullTranscript_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalTranscriptStorage(filePath).saveTranscript(null);
+    }
+
+}
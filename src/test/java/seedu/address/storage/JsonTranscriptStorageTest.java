@@ -15,6 +15,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyTranscript;
 import seedu.address.model.Transcript;
 import seedu.address.model.module.Module;
@@ -123,6 +124,13 @@ public class JsonTranscriptStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readTranscript_reorderedFieldsInFile_modulesRead() throws DataConversionException {
+        Transcript expected = getTranscriptWithModules(DISCRETE_MATH, DATA_STRUCTURES);
+        Transcript actual = new Transcript(readTranscript("ReorderedFieldsTranscript.json").get());
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void readTranscript_typicalTranscript_noException() throws DataConversionException {
         Transcript typical = new Transcript(readTranscript("TypicalTranscript.json").get());
@@ -154,6 +162,30 @@ public class JsonTranscriptStorageTest {
         assertEquals(original, new Transcript(readBack));
     }
 
+    @Test
+    public void readAndSaveTranscript_compactJson_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTranscript.json");
+        Transcript original = getTranscriptWithModules(DISCRETE_MATH, PROGRAMMING_METHODOLOGY_TWO, DATA_STRUCTURES);
+        JsonTranscriptStorage jsonTranscriptStorage = new JsonTranscriptStorage(filePath, true);
+
+        jsonTranscriptStorage.saveTranscript(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        ReadOnlyTranscript readBack = jsonTranscriptStorage.readTranscript().get();
+        assertEquals(original, new Transcript(readBack));
+    }
+
+    @Test
+    public void saveTranscript_snapshot_sameAsTranscript() throws Exception {
+        Path transcriptPath = testFolder.getRoot().toPath().resolve("Transcript.json");
+        Path snapshotPath = testFolder.getRoot().toPath().resolve("Snapshot.json");
+        Transcript original = getTranscriptWithModules(DISCRETE_MATH, PROGRAMMING_METHODOLOGY_TWO, DATA_STRUCTURES);
+        JsonTranscriptStorage jsonTranscriptStorage = new JsonTranscriptStorage(transcriptPath);
+
+        jsonTranscriptStorage.saveTranscript(original, transcriptPath);
+        jsonTranscriptStorage.saveTranscript(original.snapshot(), snapshotPath);
+        assertEquals(FileUtil.readFromFile(transcriptPath), FileUtil.readFromFile(snapshotPath));
+    }
+
     @Test
     public void saveTranscript_nullTranscript_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -115,6 +115,35 @@ public class StorageManagerTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleTranscriptChangedEvent_saveDelayed_changesCoalesced() throws Exception {
+        SaveCountingTranscriptStorage transcriptStorage = new SaveCountingTranscriptStorage(
+                getTempFilePath("transcript"));
+        Storage storage = new StorageManager(new XmlAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), transcriptStorage, 60000);
+        Transcript transcript = getTypicalTranscript();
+        storage.handleTranscriptChangedEvent(new TranscriptChangedEvent(new Transcript()));
+        storage.handleTranscriptChangedEvent(new TranscriptChangedEvent(transcript));
+        assertEquals(0, transcriptStorage.saveCount);
+
+        storage.flush();
+        assertEquals(1, transcriptStorage.saveCount);
+        assertEquals(transcript, new Transcript(storage.readTranscript().get()));
+
+        storage.flush();
+        assertEquals(1, transcriptStorage.saveCount);
+    }
+
+    @Test
+    public void flush_exceptionThrown_eventRaised() {
+        Storage storage = new StorageManager(new XmlAddressBookStorage(Paths.get("dummy")),
+                new JsonUserPrefsStorage(Paths.get("dummy")),
+                new JsonTranscriptStorageExceptionThrowingStub(Paths.get("dummy")), 60000);
+        storage.handleTranscriptChangedEvent(new TranscriptChangedEvent(new Transcript()));
+        storage.flush();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
     /**
      * An addressbok stub class to throw an exception when the save method is called
      */
@@ -145,5 +174,22 @@ public class StorageManagerTest {
         }
     }
 
+    /**
+     * A transcript stub class that counts the number of times it is saved
+     */
+    class SaveCountingTranscriptStorage extends JsonTranscriptStorage {
+        private int saveCount = 0;
+
+        public SaveCountingTranscriptStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTranscript(ReadOnlyTranscript transcript, Path filePath) throws IOException {
+            saveCount++;
+            super.saveTranscript(transcript, filePath);
+        }
+    }
+
 
 }
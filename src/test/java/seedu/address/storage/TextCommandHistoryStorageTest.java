@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class TextCommandHistoryStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("data").resolve("history.txt");
+    }
+
+    @Test
+    public void constructor_nonPositiveLimit_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new TextCommandHistoryStorage(filePath, 0);
+    }
+
+    @Test
+    public void readCommandHistory_missingFile_emptyResult() throws Exception {
+        assertFalse(new TextCommandHistoryStorage(filePath, 10).readCommandHistory().isPresent());
+    }
+
+    @Test
+    public void appendCommandHistory_commands_readBackInOrder() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath, 10);
+        storage.appendCommandHistory("list");
+        storage.appendCommandHistory("goal\n4.5");
+
+        assertEquals(List.of("list", "goal 4.5"), new TextCommandHistoryStorage(filePath, 10)
+                .readCommandHistory().get());
+    }
+
+    @Test
+    public void appendCommandHistory_beyondLimit_fileBoundedAndMostRecentKept() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath, 3);
+        for (int i = 0; i < 20; i++) {
+            storage.appendCommandHistory("command " + i);
+            assertTrue(Files.readAllLines(filePath, StandardCharsets.UTF_8).size() < 6);
+        }
+
+        assertEquals(List.of("command 17", "command 18", "command 19"), storage.readCommandHistory().get());
+
+        // a storage that has not read the file yet counts its commands first
+        new TextCommandHistoryStorage(filePath, 3).appendCommandHistory("command 20");
+        assertEquals(List.of("command 18", "command 19", "command 20"),
+                new TextCommandHistoryStorage(filePath, 3).readCommandHistory().get());
+    }
+}
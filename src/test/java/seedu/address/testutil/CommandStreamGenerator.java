@@ -0,0 +1,272 @@
+package seedu.address.testutil;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import seedu.address.logic.commands.AddModuleCommand;
+import seedu.address.logic.commands.AdjustCommand;
+import seedu.address.logic.commands.DeleteModuleCommand;
+import seedu.address.logic.commands.EditModuleCommand;
+import seedu.address.logic.commands.GoalCommand;
+import seedu.address.logic.commands.RedoModuleCommand;
+import seedu.address.logic.commands.UndoModuleCommand;
+import seedu.address.logic.parser.arguments.AddArgument;
+import seedu.address.logic.parser.arguments.DeleteArgument;
+import seedu.address.logic.parser.arguments.EditArgument;
+import seedu.address.model.ReadOnlyTranscript;
+import seedu.address.model.module.Grade;
+import seedu.address.model.module.Module;
+import seedu.address.model.util.ModuleBuilder;
+
+//@@author alexkmj
+/**
+ * Generates an endless stream of mixed commands on a transcript, for load and
+ * soak tests.
+ * <p>
+ * The generator keeps track of the modules that the commands generated so far
+ * leave in the transcript, including the effect of undo and redo, so that
+ * every command succeeds when the stream is executed in order on the
+ * transcript it was created with. A generator with the same seed and initial
+ * transcript always generates the same commands.
+ */
+public class CommandStreamGenerator {
+
+    /** The kinds of command generated, in the order of {@link #COMMAND_WEIGHTS}. */
+    private static final String[] COMMAND_WORDS = {AddModuleCommand.COMMAND_WORD, EditModuleCommand.COMMAND_WORD,
+        DeleteModuleCommand.COMMAND_WORD, AdjustCommand.COMMAND_WORD, GoalCommand.COMMAND_WORD,
+        UndoModuleCommand.COMMAND_WORD, RedoModuleCommand.COMMAND_WORD};
+    private static final int[] COMMAND_WEIGHTS = {20, 20, 15, 15, 10, 12, 8};
+
+    private final TranscriptGenerator generator;
+    private final int maxModules;
+
+    /** The modules in the transcript after the commands generated so far, in no particular order. */
+    private final List<Module> modules;
+    /** The index of each module in {@link #modules}. */
+    private final Map<Module, Integer> moduleIndexes = new HashMap<>();
+    private final Deque<Change> undoableChanges = new ArrayDeque<>();
+    private final Deque<Change> redoableChanges = new ArrayDeque<>();
+
+    /**
+     * Constructs a generator of commands on {@code transcript}, drawing its
+     * random numbers and new modules from {@code generator}. Modules are only
+     * added while the transcript has fewer than {@code maxModules}.
+     */
+    public CommandStreamGenerator(TranscriptGenerator generator, ReadOnlyTranscript transcript, int maxModules) {
+        requireNonNull(generator);
+        requireNonNull(transcript);
+        checkArgument(maxModules > 0, "Maximum number of modules must be positive: " + maxModules);
+        this.generator = generator;
+        this.maxModules = maxModules;
+        modules = new ArrayList<>(transcript.getModules());
+        for (int i = 0; i < modules.size(); i++) {
+            moduleIndexes.put(modules.get(i), i);
+        }
+        generator.reserveCodes(modules);
+    }
+
+    /**
+     * Returns the next {@code count} commands.
+     */
+    public List<String> generate(int count) {
+        List<String> commands = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            commands.add(next());
+        }
+        return commands;
+    }
+
+    /**
+     * Returns the next command.
+     */
+    public String next() {
+        while (true) {
+            String command = tryNext(COMMAND_WORDS[generator.pickWeighted(COMMAND_WEIGHTS)]);
+            if (command != null) {
+                return command;
+            }
+        }
+    }
+
+    /**
+     * Returns a command with {@code commandWord} that succeeds on the
+     * transcript, or null if there is none.
+     */
+    private String tryNext(String commandWord) {
+        switch (commandWord) {
+        case AddModuleCommand.COMMAND_WORD:
+            return modules.size() < maxModules ? add() : null;
+        case EditModuleCommand.COMMAND_WORD:
+            return modules.isEmpty() ? null : edit(pickModule());
+        case DeleteModuleCommand.COMMAND_WORD:
+            return modules.isEmpty() ? null : delete(pickModule());
+        case AdjustCommand.COMMAND_WORD:
+            Module module = modules.isEmpty() ? null : pickModule();
+            return module == null || module.hasCompleted() ? null : adjust(module);
+        case GoalCommand.COMMAND_WORD:
+            return goal();
+        case UndoModuleCommand.COMMAND_WORD:
+            return undoableChanges.isEmpty() ? null : undo();
+        case RedoModuleCommand.COMMAND_WORD:
+            return redoableChanges.isEmpty() ? null : redo();
+        default:
+            throw new AssertionError("Unknown command word: " + commandWord);
+        }
+    }
+
+    private Module pickModule() {
+        return modules.get(generator.nextInt(modules.size()));
+    }
+
+    /**
+     * Returns a command that adds a new module, completed three times in four.
+     */
+    private String add() {
+        Module module = generator.generateModule(generator.nextInt(4) != 0);
+        commit(new Change(null, module));
+        String command = AddModuleCommand.COMMAND_WORD
+                + " " + AddArgument.NEW_CODE.getShortName() + " " + module.getCode().value
+                + " " + AddArgument.NEW_YEAR.getShortName() + " " + module.getYear().value
+                + " " + AddArgument.NEW_SEMESTER.getShortName() + " " + module.getSemester().value
+                + " " + AddArgument.NEW_CREDIT.getShortName() + " " + module.getCredits().value;
+        if (module.getGrade().isComplete()) {
+            command += " " + AddArgument.NEW_GRADE.getShortName() + " " + module.getGrade().value;
+        }
+        return command;
+    }
+
+    /**
+     * Returns a command that changes the grade of {@code module} if it is
+     * completed, or its credits otherwise.
+     */
+    private String edit(Module module) {
+        String command = EditModuleCommand.COMMAND_WORD
+                + " " + EditArgument.TARGET_CODE.getShortName() + " " + module.getCode().value
+                + " " + EditArgument.TARGET_YEAR.getShortName() + " " + module.getYear().value
+                + " " + EditArgument.TARGET_SEMESTER.getShortName() + " " + module.getSemester().value;
+        Module edited;
+        if (module.hasCompleted()) {
+            String grade = generator.generateGrade(module.getGrade().value);
+            edited = new ModuleBuilder(module).withGrade(grade).build();
+            command += " " + EditArgument.NEW_GRADE.getShortName() + " " + grade;
+        } else {
+            int credits = generator.generateCredits(module.getCredits().value);
+            edited = new ModuleBuilder(module).withCredit(credits).build();
+            command += " " + EditArgument.NEW_CREDIT.getShortName() + " " + credits;
+        }
+        commit(new Change(module, edited));
+        return command;
+    }
+
+    /**
+     * Returns a command that deletes {@code module}.
+     */
+    private String delete(Module module) {
+        commit(new Change(module, null));
+        return DeleteModuleCommand.COMMAND_WORD
+                + " " + DeleteArgument.TARGET_CODE.getShortName() + " " + module.getCode().value
+                + " " + DeleteArgument.TARGET_YEAR.getShortName() + " " + module.getYear().value
+                + " " + DeleteArgument.TARGET_SEMESTER.getShortName() + " " + module.getSemester().value;
+    }
+
+    /**
+     * Returns a command that adjusts the grade of {@code module}, which is not
+     * completed.
+     */
+    private String adjust(Module module) {
+        String grade = generator.generateAdjustedGrade();
+        commit(new Change(module, module.adjustGrade(new Grade(grade))));
+        return AdjustCommand.COMMAND_WORD + " " + module.getCode().value + " " + module.getYear().value
+                + " " + module.getSemester().value + " " + grade;
+    }
+
+    /**
+     * Returns a command that sets a CAP goal from 3.0 to 5.0.
+     */
+    private String goal() {
+        commit(new Change(null, null));
+        return GoalCommand.COMMAND_WORD + " " + String.format(Locale.ROOT, "%.1f", 3.0 + generator.nextInt(21) / 10.0);
+    }
+
+    /**
+     * Returns an undo command, which reverts the newest change to undo.
+     */
+    private String undo() {
+        Change change = undoableChanges.removeLast();
+        change.revert();
+        redoableChanges.addLast(change);
+        return UndoModuleCommand.COMMAND_WORD;
+    }
+
+    /**
+     * Returns a redo command, which applies the newest change undone again.
+     */
+    private String redo() {
+        Change change = redoableChanges.removeLast();
+        change.apply();
+        undoableChanges.addLast(change);
+        return RedoModuleCommand.COMMAND_WORD;
+    }
+
+    /**
+     * Applies {@code change}, which becomes the newest change to undo and
+     * discards the changes to redo, as a commit of the transcript does.
+     */
+    private void commit(Change change) {
+        change.apply();
+        undoableChanges.addLast(change);
+        redoableChanges.clear();
+    }
+
+    /**
+     * A change committed to the transcript, which replaces a module with
+     * another. A module is added if there is no module before, and removed if
+     * there is none after. A change without either sets the CAP goal, which
+     * does not change the modules that commands can refer to.
+     */
+    private class Change {
+        private final Module before;
+        private final Module after;
+
+        Change(Module before, Module after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        void apply() {
+            replace(before, after);
+        }
+
+        void revert() {
+            replace(after, before);
+        }
+
+        /**
+         * Replaces {@code from} with {@code to} in {@link #modules}, either of
+         * which may be null.
+         */
+        private void replace(Module from, Module to) {
+            if (from != null) {
+                Integer index = moduleIndexes.remove(from);
+                assert index != null : "Module not in transcript: " + from;
+                Module last = modules.remove(modules.size() - 1);
+                if (index < modules.size()) {
+                    modules.set(index, last);
+                    moduleIndexes.put(last, index);
+                }
+            }
+            if (to != null) {
+                moduleIndexes.put(to, modules.size());
+                modules.add(to);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.testutil;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Transcript;
+import seedu.address.model.UserPrefs;
+
+public class CommandStreamGeneratorTest {
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void generate_sameSeed_sameCommands() {
+        assertEquals(createGenerator(1, 50, 100).generate(500), createGenerator(1, 50, 100).generate(500));
+    }
+
+    @Test
+    public void generate_executedInOrder_everyCommandSucceeds() throws CommandException, ParseException {
+        TranscriptGenerator generator = new TranscriptGenerator();
+        Transcript transcript = generator.generateTranscript(50);
+        Logic logic = new LogicManager(new ModelManager(transcript, new UserPrefs()));
+        for (String command : new CommandStreamGenerator(generator, transcript, 60).generate(1000)) {
+            logic.execute(command);
+        }
+    }
+
+    @Test
+    public void generate_emptyTranscript_everyCommandSucceeds() throws CommandException, ParseException {
+        TranscriptGenerator generator = new TranscriptGenerator();
+        Transcript transcript = new Transcript();
+        Logic logic = new LogicManager(new ModelManager(transcript, new UserPrefs()));
+        for (String command : new CommandStreamGenerator(generator, transcript, 5).generate(500)) {
+            logic.execute(command);
+        }
+    }
+
+    private static CommandStreamGenerator createGenerator(long seed, int moduleCount, int maxModules) {
+        TranscriptGenerator generator = new TranscriptGenerator(seed);
+        return new CommandStreamGenerator(generator, generator.generateTranscript(moduleCount), maxModules);
+    }
+}
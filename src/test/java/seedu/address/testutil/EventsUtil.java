@@ -15,6 +15,16 @@ public class EventsUtil {
      */
     public static void postNow(BaseEvent event) {
         new GuiRobot().interact(() -> EventsCenter.getInstance().post(event));
+        waitForDelivery();
+    }
+
+    /**
+     * Waits until every event posted so far has been delivered to all subscribers, and the UI updates made by
+     * the subscribers have been carried out.
+     */
+    public static void waitForDelivery() {
+        EventsCenter.getInstance().flush();
+        new GuiRobot().interact(() -> { });
     }
 
     /**
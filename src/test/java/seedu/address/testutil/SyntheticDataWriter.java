@@ -0,0 +1,73 @@
+package seedu.address.testutil;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.Transcript;
+import seedu.address.storage.JsonTranscriptStorage;
+
+//@@author alexkmj
+/**
+ * Writes a synthetic transcript as a json transcript file, and a stream of
+ * commands on it as a command script with one command per line, for soak
+ * tests.
+ * <p>
+ * Usage: {@code SyntheticDataWriter OUTPUT_DIRECTORY MODULE_COUNT COMMAND_COUNT [SEED]}
+ */
+public class SyntheticDataWriter {
+
+    public static final String TRANSCRIPT_FILE_NAME = "transcript.json";
+    public static final String COMMAND_SCRIPT_FILE_NAME = "commands.txt";
+
+    private static final String MESSAGE_USAGE =
+            "Usage: SyntheticDataWriter OUTPUT_DIRECTORY MODULE_COUNT COMMAND_COUNT [SEED]";
+
+    private SyntheticDataWriter() {
+    }
+
+    /**
+     * Writes the files described in the class comment.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        Path outputDirectory = Paths.get(args[0]);
+        int moduleCount = Integer.parseInt(args[1]);
+        long commandCount = Long.parseLong(args[2]);
+        long seed = args.length == 4 ? Long.parseLong(args[3]) : TranscriptGenerator.DEFAULT_SEED;
+
+        write(outputDirectory, moduleCount, commandCount, seed);
+        System.out.println("Wrote " + moduleCount + " modules and " + commandCount + " commands to "
+                + outputDirectory.toAbsolutePath());
+    }
+
+    /**
+     * Writes a transcript of {@code moduleCount} modules and a script of
+     * {@code commandCount} commands on it, generated from {@code seed}, to
+     * {@code outputDirectory}.
+     */
+    public static void write(Path outputDirectory, int moduleCount, long commandCount, long seed) throws IOException {
+        Files.createDirectories(outputDirectory);
+        TranscriptGenerator generator = new TranscriptGenerator(seed);
+        Transcript transcript = generator.generateTranscript(moduleCount);
+        Path transcriptFile = outputDirectory.resolve(TRANSCRIPT_FILE_NAME);
+        new JsonTranscriptStorage(transcriptFile).saveTranscript(transcript, transcriptFile);
+
+        // the transcript grows to at most twice its size, so that memory growth over a long run comes from the app
+        CommandStreamGenerator commands = new CommandStreamGenerator(generator, transcript,
+                Math.max(moduleCount * 2, 100));
+        try (BufferedWriter writer = Files.newBufferedWriter(outputDirectory.resolve(COMMAND_SCRIPT_FILE_NAME),
+                StandardCharsets.UTF_8)) {
+            for (long i = 0; i < commandCount; i++) {
+                writer.write(commands.next());
+                writer.newLine();
+            }
+        }
+    }
+}
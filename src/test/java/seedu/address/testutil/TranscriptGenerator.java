@@ -0,0 +1,321 @@
+package seedu.address.testutil;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.Transcript;
+import seedu.address.model.module.Grade;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.Semester;
+import seedu.address.model.util.ModuleBuilder;
+
+//@@author alexkmj
+/**
+ * Generates synthetic transcripts of any size for load and soak tests.
+ * <p>
+ * The modules are spread over the terms of five years, with few in special
+ * terms, and have codes, credits and grades drawn from distributions like
+ * those of a real student. The modules of the latest terms are not completed
+ * yet, and some of them have adjusted grades. Some failed modules are taken
+ * again in a later term. A generator with the same seed and settings always
+ * generates the same modules.
+ */
+public class TranscriptGenerator {
+
+    public static final long DEFAULT_SEED = 2103;
+
+    public static final String MESSAGE_RATIO_CONSTRAINTS = "Ratios must be between 0 and 1";
+
+    /** The semesters of a year, in the order they are taken. */
+    private static final String[] SEMESTERS = {Semester.SEMESTER_ONE, Semester.SEMESTER_TWO,
+        Semester.SEMESTER_SPECIAL_ONE, Semester.SEMESTER_SPECIAL_TWO};
+    /** How many more modules a term of each semester has, relative to the others. */
+    private static final int[] SEMESTER_WEIGHTS = {10, 10, 1, 1};
+    private static final int YEARS = 5;
+
+    private static final String[] PREFIXES = {"CS", "MA", "ST", "IS", "CG", "EE", "PC", "LSM", "ES",
+        "GEQ", "GER", "GES", "GET"};
+    private static final int[] PREFIX_WEIGHTS = {30, 12, 6, 6, 5, 5, 4, 4, 3, 3, 3, 3, 3};
+    private static final String[] SUFFIXES = {"", "S", "T", "X"};
+    private static final int[] SUFFIX_WEIGHTS = {85, 5, 5, 5};
+
+    private static final int[] CREDITS = {4, 2, 8, 6, 5, 12};
+    private static final int[] CREDIT_WEIGHTS = {80, 8, 4, 4, 2, 2};
+
+    private static final String[] GRADES = {"A+", "A", "A-", "B+", "B", "B-", "C+", "C", "D+", "D", "F"};
+    private static final int[] GRADE_WEIGHTS = {3, 12, 15, 18, 15, 10, 8, 6, 3, 2, 3};
+    /** The grades that modules with a prefix starting with "GE" may be taken for instead of a letter grade. */
+    private static final String[] PASS_FAIL_GRADES = {"CS", "CU"};
+    private static final int[] PASS_FAIL_GRADE_WEIGHTS = {9, 1};
+    private static final String[] ADJUSTED_GRADES = {"A", "A-", "B+", "B", "B-", "C"};
+
+    /** The number of times a random code is drawn before falling back to a code that is certainly unused. */
+    private static final int MAX_CODE_ATTEMPTS = 10;
+
+    private final Random random;
+    private final Set<String> usedCodes = new HashSet<>();
+    private int fallbackCodeCount = 0;
+
+    private double incompleteRatio = 0.25;
+    private double adjustedRatio = 0.2;
+    private double retakeRatio = 0.6;
+
+    public TranscriptGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    public TranscriptGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Sets the fraction of modules, from the latest terms, that are not
+     * completed yet.
+     */
+    public TranscriptGenerator withIncompleteRatio(double incompleteRatio) {
+        checkArgument(isRatio(incompleteRatio), MESSAGE_RATIO_CONSTRAINTS);
+        this.incompleteRatio = incompleteRatio;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of modules not completed yet that have an adjusted
+     * grade.
+     */
+    public TranscriptGenerator withAdjustedRatio(double adjustedRatio) {
+        checkArgument(isRatio(adjustedRatio), MESSAGE_RATIO_CONSTRAINTS);
+        this.adjustedRatio = adjustedRatio;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of failed modules that are taken again in a later
+     * term.
+     */
+    public TranscriptGenerator withRetakeRatio(double retakeRatio) {
+        checkArgument(isRatio(retakeRatio), MESSAGE_RATIO_CONSTRAINTS);
+        this.retakeRatio = retakeRatio;
+        return this;
+    }
+
+    private static boolean isRatio(double value) {
+        return value >= 0 && value <= 1;
+    }
+
+    /**
+     * Marks the codes of {@code modules} as used, so that modules generated
+     * later have other codes.
+     */
+    public void reserveCodes(Collection<Module> modules) {
+        modules.forEach(module -> usedCodes.add(module.getCode().value));
+    }
+
+    /**
+     * Returns {@code count} modules ordered by the term they are taken in.
+     * The modules in the last {@code incompleteRatio} of the list are not
+     * completed.
+     */
+    public List<Module> generateModules(int count) {
+        checkArgument(count >= 0, "Module count cannot be negative: " + count);
+        int[] termWeights = getTermWeights();
+        List<Integer> terms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            terms.add(pickWeighted(termWeights));
+        }
+        terms.sort(Comparator.naturalOrder());
+
+        int completedCount = count - (int) Math.round(count * incompleteRatio);
+        // failed modules to be taken again, in the order of the earliest term they can be taken in
+        Deque<Module> retakes = new ArrayDeque<>();
+        List<Module> modules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int term = terms.get(i);
+            String code = retakes.isEmpty() || getTerm(retakes.peekFirst()) >= term
+                    ? newCode(term)
+                    : retakes.removeFirst().getCode().value;
+            Module module = generateModule(code, term, i < completedCount);
+            if (isFailed(module) && random.nextDouble() < retakeRatio) {
+                retakes.addLast(module);
+            }
+            modules.add(module);
+        }
+        return modules;
+    }
+
+    /**
+     * Returns a transcript of {@code count} modules as generated by
+     * {@link #generateModules(int)}, with a CAP goal a little above its
+     * current CAP if any module is not completed, so that target grades are
+     * calculated for those modules.
+     */
+    public Transcript generateTranscript(int count) {
+        Transcript transcript = new Transcript();
+        transcript.setModules(generateModules(count));
+        if (transcript.getModules().stream().anyMatch(module -> !module.hasCompleted())) {
+            double capGoal = Math.min(5.0, transcript.getCurrentCap() + 0.1 + random.nextInt(5) / 10.0);
+            transcript.setCapGoal(Math.round(capGoal * 10) / 10.0);
+        }
+        return transcript;
+    }
+
+    /**
+     * Returns a module with an unused code, taken in a random term, which is
+     * completed if {@code isCompleted}.
+     */
+    public Module generateModule(boolean isCompleted) {
+        int term = pickWeighted(getTermWeights());
+        return generateModule(newCode(term), term, isCompleted);
+    }
+
+    /**
+     * Returns a module with {@code code} taken in {@code term}, with a grade
+     * if {@code isCompleted}, and possibly an adjusted grade otherwise.
+     */
+    private Module generateModule(String code, int term, boolean isCompleted) {
+        ModuleBuilder builder = new ModuleBuilder()
+                .withCode(code)
+                .withYear(term / SEMESTERS.length + 1)
+                .withSemester(SEMESTERS[term % SEMESTERS.length])
+                .withCredit(CREDITS[pickWeighted(CREDIT_WEIGHTS)]);
+        if (isCompleted) {
+            return builder.withGrade(generateCompletedGrade(code)).build();
+        }
+        if (random.nextDouble() < adjustedRatio) {
+            return builder.withGrade(new Grade().adjustGrade(generateAdjustedGrade())).build();
+        }
+        return builder.noGrade().build();
+    }
+
+    /**
+     * Returns a grade drawn from the distribution of letter grades, different
+     * from {@code current}.
+     */
+    public String generateGrade(String current) {
+        String grade;
+        do {
+            grade = GRADES[pickWeighted(GRADE_WEIGHTS)];
+        } while (grade.equals(current));
+        return grade;
+    }
+
+    /**
+     * Returns a grade that a student may adjust a module not completed yet
+     * to.
+     */
+    public String generateAdjustedGrade() {
+        return ADJUSTED_GRADES[random.nextInt(ADJUSTED_GRADES.length)];
+    }
+
+    /**
+     * Returns a number of credits drawn from the distribution of credits,
+     * different from {@code current}.
+     */
+    public int generateCredits(int current) {
+        int credits;
+        do {
+            credits = CREDITS[pickWeighted(CREDIT_WEIGHTS)];
+        } while (credits == current);
+        return credits;
+    }
+
+    /**
+     * Returns a random number from 0, inclusive, to {@code bound}, exclusive,
+     * from the random numbers of this generator.
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Returns a random number from 0, inclusive, to 1, exclusive, from the
+     * random numbers of this generator.
+     */
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    /**
+     * Returns the index of an element of {@code weights}, drawn with a
+     * probability proportional to the element.
+     */
+    public int pickWeighted(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int pick = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) {
+                return i;
+            }
+        }
+        throw new AssertionError("Weights must be positive");
+    }
+
+    /**
+     * Returns the weight of each term, numbered from 0 for the first semester
+     * of the first year.
+     */
+    private static int[] getTermWeights() {
+        int[] weights = new int[YEARS * SEMESTERS.length];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = SEMESTER_WEIGHTS[i % SEMESTERS.length];
+        }
+        return weights;
+    }
+
+    /**
+     * Returns a grade for a completed module with {@code code}.
+     */
+    private String generateCompletedGrade(String code) {
+        if (code.startsWith("GE") && random.nextBoolean()) {
+            return PASS_FAIL_GRADES[pickWeighted(PASS_FAIL_GRADE_WEIGHTS)];
+        }
+        return GRADES[pickWeighted(GRADE_WEIGHTS)];
+    }
+
+    /**
+     * Returns the number of the term {@code module} is taken in.
+     */
+    private static int getTerm(Module module) {
+        int semesterIndex = Arrays.asList(SEMESTERS).indexOf(module.getSemester().value);
+        return (module.getYear().value - 1) * SEMESTERS.length + semesterIndex;
+    }
+
+    private static boolean isFailed(Module module) {
+        return module.getGrade().value.equals("F") || module.getGrade().value.equals("CU");
+    }
+
+    /**
+     * Returns an unused code of a module taken in {@code term}. The level of
+     * the code mostly follows the year of the term.
+     */
+    private String newCode(int term) {
+        int year = term / SEMESTERS.length + 1;
+        for (int attempt = 0; attempt < MAX_CODE_ATTEMPTS; attempt++) {
+            int level = Math.max(1, Math.min(4, year + random.nextInt(3) - 1));
+            String code = PREFIXES[pickWeighted(PREFIX_WEIGHTS)]
+                    + (level * 1000 + random.nextInt(1000))
+                    + SUFFIXES[pickWeighted(SUFFIX_WEIGHTS)];
+            if (usedCodes.add(code)) {
+                return code;
+            }
+        }
+        String code;
+        do {
+            code = "SYN" + fallbackCodeCount++;
+        } while (!usedCodes.add(code));
+        return code;
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.testutil;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.Transcript;
+import seedu.address.model.module.Module;
+
+public class TranscriptGeneratorTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void generateModules_sameSeed_sameModules() {
+        assertEquals(new TranscriptGenerator(1).generateModules(500), new TranscriptGenerator(1).generateModules(500));
+        assertNotEquals(new TranscriptGenerator(1).generateModules(500),
+                new TranscriptGenerator(2).generateModules(500));
+    }
+
+    @Test
+    public void generateModules_negativeCount_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new TranscriptGenerator().generateModules(-1);
+    }
+
+    @Test
+    public void withIncompleteRatio_notRatio_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(TranscriptGenerator.MESSAGE_RATIO_CONSTRAINTS);
+        new TranscriptGenerator().withIncompleteRatio(1.5);
+    }
+
+    @Test
+    public void generateModules_realisticTranscript() {
+        List<Module> modules = new TranscriptGenerator().generateModules(1000);
+        assertEquals(1000, modules.size());
+        assertEquals(250, modules.stream().filter(module -> !module.hasCompleted()).count());
+        assertTrue(modules.stream().anyMatch(module -> module.isAdjusted()));
+
+        Set<String> codes = new HashSet<>();
+        assertTrue(modules.stream().anyMatch(module -> !codes.add(module.getCode().value)));
+    }
+
+    @Test
+    public void generateModules_noRetakes_uniqueCodes() {
+        List<Module> modules = new TranscriptGenerator().withRetakeRatio(0).generateModules(1000);
+        assertEquals(1000, modules.stream().map(module -> module.getCode().value).distinct().count());
+    }
+
+    @Test
+    public void generateTranscript_incompleteModules_hasTargetedModules() {
+        Transcript transcript = new TranscriptGenerator().generateTranscript(100);
+        assertEquals(100, transcript.getModules().size());
+        assertTrue(transcript.getModules().stream().anyMatch(module -> module.isTargetted()));
+    }
+
+    @Test
+    public void generateTranscript_allCompleted_noCapGoal() {
+        Transcript transcript = new TranscriptGenerator().withIncompleteRatio(0).generateTranscript(100);
+        assertTrue(transcript.getModules().stream().allMatch(Module::hasCompleted));
+        assertFalse(transcript.getCapGoal().isSet());
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalModules.getTypicalTranscript;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Transcript;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.Module;
+import seedu.address.model.util.ModuleBuilder;
+
+public class ModuleListMirrorTest {
+
+    private ModelManager model;
+    private List<Module> mirrored;
+
+    @Before
+    public void setUp() {
+        model = new ModelManager(getTypicalTranscript(), new UserPrefs());
+        mirrored = new ModuleListMirror(model.getTranscriptSnapshot(), Runnable::run).getModuleList();
+    }
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void updateModule_identityEdited_keepsPosition() {
+        Module target = model.getTranscript().getModules().get(1);
+        Module edited = new ModuleBuilder(target).withCode("CS9999").withYear(4).build();
+
+        model.updateModule(target, edited);
+
+        assertEquals(edited, mirrored.get(1));
+        assertMirrorsModel();
+    }
+
+    @Test
+    public void undoTranscript_afterDelete_restoresPosition() {
+        List<Module> modules = new ArrayList<>(model.getTranscript().getModules());
+        model.deleteModule(modules.get(0));
+        model.deleteModule(modules.get(2));
+        model.commitTranscript();
+        assertMirrorsModel();
+
+        model.undoTranscript();
+
+        assertMirrorsModel();
+    }
+
+    @Test
+    public void undoTranscript_afterClear_restoresOrder() {
+        model.resetData(new Transcript());
+        model.commitTranscript();
+        assertEquals(0, mirrored.size());
+
+        model.undoTranscript();
+
+        assertMirrorsModel();
+    }
+
+    @Test
+    public void updateCapGoal_targetsRecomputed_matchModelOrder() {
+        model.addModule(new ModuleBuilder().withCode("CS8888").noGrade().build());
+        model.addModule(new ModuleBuilder().withCode("CS7777").build());
+
+        model.updateCapGoal(4.0);
+
+        assertMirrorsModel();
+    }
+
+    @Test
+    public void endTransaction_editsAndAdditions_matchModelOrder() {
+        List<Module> modules = new ArrayList<>(model.getTranscript().getModules());
+        model.beginTransaction();
+        model.deleteModule(modules.get(1));
+        model.updateModule(modules.get(2), new ModuleBuilder(modules.get(2)).withCode("CS9999").build());
+        model.addModule(new ModuleBuilder().withCode("CS8888").build());
+        model.endTransaction();
+
+        assertMirrorsModel();
+    }
+
+    /**
+     * Asserts that the mirrored list holds the modules of the model in the
+     * same order.
+     */
+    private void assertMirrorsModel() {
+        assertEquals(model.getTranscript().getModules(), mirrored);
+    }
+}
@@ -16,7 +16,14 @@ import seedu.address.commons.events.BaseEvent;
  * Sets up an {@code EventsCollector} and tears it down after each test.
  */
 public class EventsCollectorRule implements TestRule {
-    public final EventsCollector eventsCollector = new EventsCollector();
+    public final EventsCollector eventsCollector;
+
+    public EventsCollectorRule() {
+        // asynchronous events posted before this rule must not reach the collector
+        EventsCenter.getInstance().flush();
+        EventsCenter.clearSubscribers();
+        eventsCollector = new EventsCollector();
+    }
 
     protected void after() {
         EventsCenter.clearSubscribers();
@@ -37,6 +37,7 @@ import seedu.address.logic.commands.SelectCommand;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.Transcript;
+import seedu.address.testutil.EventsUtil;
 import seedu.address.testutil.TypicalModules;
 import seedu.address.testutil.TypicalPersons;
 import seedu.address.ui.CommandBox;
@@ -149,6 +150,7 @@ public abstract class AddressBookSystemTest {
         clockRule.setInjectedClockToCurrentTime();
 
         mainWindowHandle.getCommandBox().run(command);
+        EventsUtil.waitForDelivery();
     }
 
     //TODO: Remove
@@ -193,7 +195,7 @@ public abstract class AddressBookSystemTest {
      */
     protected void deleteAllModules() {
         executeCommand(ClearCommand.COMMAND_WORD);
-        assertEquals(0, getModel().getTranscript().getModuleList().size());
+        assertEquals(0, getModel().getTranscript().getModules().size());
     }
 
     //TODO: Remove